@@ -0,0 +1,95 @@
+package software.amazon.rds.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the translator benchmarks with the GC profiler and fails when they regress against the recorded baseline.
+ * A missing baseline fails the run as well; it is only ever written on request.
+ * <p>
+ * System properties: {@code benchmark.baseline} (baseline file), {@code benchmark.threshold} (allowed relative
+ * regression, 0.15 by default), {@code benchmark.include} (benchmark regex) and {@code benchmark.updateBaseline}
+ * (record the current run as the new baseline instead of checking it).
+ */
+public class BenchmarkGate {
+
+    private static final String DEFAULT_BASELINE = "benchmark-baseline.properties";
+    private static final String DEFAULT_THRESHOLD = "0.15";
+    private static final String DEFAULT_INCLUDE = ".*TranslatorBenchmark.*";
+    private static final String ALLOCATION_RATE_NORM = "gc.alloc.rate.norm";
+
+    public static void main(final String[] args) throws RunnerException, IOException {
+        final Path baselinePath = Paths.get(System.getProperty("benchmark.baseline", DEFAULT_BASELINE));
+        final double threshold = Double.parseDouble(System.getProperty("benchmark.threshold", DEFAULT_THRESHOLD));
+        final boolean updateBaseline = Boolean.parseBoolean(System.getProperty("benchmark.updateBaseline", "false"));
+
+        final Options options = new OptionsBuilder()
+                .include(System.getProperty("benchmark.include", DEFAULT_INCLUDE))
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+        if (!updateBaseline && !Files.exists(baselinePath)) {
+            System.err.printf("No baseline at %s, record one with -Dbenchmark.updateBaseline=true%n", baselinePath.toAbsolutePath());
+            System.exit(1);
+        }
+
+        final List<Measurement> measurements = toMeasurements(new Runner(options).run());
+
+        if (updateBaseline) {
+            try (OutputStream out = Files.newOutputStream(baselinePath)) {
+                RegressionGate.toBaseline(measurements).store(out, "Translator benchmark baseline");
+            }
+            System.out.printf("Recorded baseline for %d benchmarks in %s%n", measurements.size(), baselinePath);
+            return;
+        }
+
+        final Properties baseline = new Properties();
+        try (InputStream in = Files.newInputStream(baselinePath)) {
+            baseline.load(in);
+        }
+        final List<String> regressions = new RegressionGate(threshold).check(baseline, measurements);
+        if (!regressions.isEmpty()) {
+            regressions.forEach(System.err::println);
+            System.exit(1);
+        }
+        System.out.printf("%d benchmarks are within %.0f%% of the baseline%n", measurements.size(), threshold * 100);
+    }
+
+    private static List<Measurement> toMeasurements(final Collection<RunResult> results) {
+        final List<Measurement> measurements = new ArrayList<>();
+        for (final RunResult result : results) {
+            double allocatedBytesPerOp = Double.NaN;
+            for (final String label : result.getSecondaryResults().keySet()) {
+                // the profiler prefixes its result labels differently across JMH versions
+                if (label.endsWith(ALLOCATION_RATE_NORM)) {
+                    allocatedBytesPerOp = result.getSecondaryResults().get(label).getScore();
+                }
+            }
+            measurements.add(new Measurement(
+                    result.getParams().getBenchmark(),
+                    result.getPrimaryResult().getScore(),
+                    allocatedBytesPerOp));
+        }
+        return measurements;
+    }
+}
@@ -0,0 +1,12 @@
+package software.amazon.rds.benchmarks;
+
+import lombok.Value;
+
+@Value
+public class Measurement {
+    String benchmark;
+    // operations per millisecond
+    double throughput;
+    // bytes allocated per operation, as reported by the GC profiler
+    double allocatedBytesPerOp;
+}
@@ -0,0 +1,63 @@
+package software.amazon.rds.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Compares benchmark measurements against a recorded baseline. A benchmark regresses when its throughput drops,
+ * or its allocation per operation grows, by more than the threshold. Benchmarks missing from the baseline pass.
+ */
+public class RegressionGate {
+
+    static final String THROUGHPUT_SUFFIX = ".throughput";
+    static final String ALLOCATION_SUFFIX = ".allocatedBytesPerOp";
+
+    // Allocation is measured with some noise even for allocation-free code, so tiny absolute growth is tolerated.
+    private static final double ALLOCATION_SLACK_BYTES = 16.0;
+
+    private final double threshold;
+
+    public RegressionGate(final double threshold) {
+        if (threshold < 0.0 || threshold >= 1.0) {
+            throw new IllegalArgumentException("Threshold must be in [0, 1): " + threshold);
+        }
+        this.threshold = threshold;
+    }
+
+    public List<String> check(final Properties baseline, final Collection<Measurement> measurements) {
+        final List<String> regressions = new ArrayList<>();
+        for (final Measurement measurement : measurements) {
+            final String baselineThroughput = baseline.getProperty(measurement.getBenchmark() + THROUGHPUT_SUFFIX);
+            if (baselineThroughput != null) {
+                final double expected = Double.parseDouble(baselineThroughput);
+                if (measurement.getThroughput() < expected * (1.0 - threshold)) {
+                    regressions.add(String.format("%s: throughput %.1f ops/ms is below baseline %.1f ops/ms",
+                            measurement.getBenchmark(), measurement.getThroughput(), expected));
+                }
+            }
+            final String baselineAllocation = baseline.getProperty(measurement.getBenchmark() + ALLOCATION_SUFFIX);
+            if (baselineAllocation != null && !Double.isNaN(measurement.getAllocatedBytesPerOp())) {
+                final double expected = Double.parseDouble(baselineAllocation);
+                if (measurement.getAllocatedBytesPerOp() > Math.max(expected * (1.0 + threshold), expected + ALLOCATION_SLACK_BYTES)) {
+                    regressions.add(String.format("%s: allocation %.0f B/op is above baseline %.0f B/op",
+                            measurement.getBenchmark(), measurement.getAllocatedBytesPerOp(), expected));
+                }
+            }
+        }
+        return regressions;
+    }
+
+    public static Properties toBaseline(final Collection<Measurement> measurements) {
+        final Properties baseline = new Properties();
+        for (final Measurement measurement : measurements) {
+            baseline.setProperty(measurement.getBenchmark() + THROUGHPUT_SUFFIX, String.format(Locale.ROOT, "%.1f", measurement.getThroughput()));
+            if (!Double.isNaN(measurement.getAllocatedBytesPerOp())) {
+                baseline.setProperty(measurement.getBenchmark() + ALLOCATION_SUFFIX, String.format(Locale.ROOT, "%.0f", measurement.getAllocatedBytesPerOp()));
+            }
+        }
+        return baseline;
+    }
+}
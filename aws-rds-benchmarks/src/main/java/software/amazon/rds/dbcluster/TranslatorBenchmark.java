@@ -0,0 +1,114 @@
+package software.amazon.rds.dbcluster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import software.amazon.awssdk.services.rds.model.CreateDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBClusterRole;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+import software.amazon.rds.common.handler.Tagging;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TranslatorBenchmark {
+
+    private static final int TAG_COUNT = 50;
+    private static final int ROLE_COUNT = 8;
+    private static final int SECURITY_GROUP_COUNT = 5;
+
+    private DBCluster dbCluster;
+    private List<Tag> sdkTags;
+    private ResourceModel previousModel;
+    private ResourceModel desiredModel;
+    private Tagging.TagSet tagSet;
+
+    @Setup
+    public void setup() {
+        sdkTags = new ArrayList<>();
+        for (int i = 0; i < TAG_COUNT; i++) {
+            sdkTags.add(Tag.builder().key("tag-key-" + i).value("tag-value-" + i).build());
+        }
+        dbCluster = dbCluster("5.7.mysql_aurora.2.10.0");
+        previousModel = Translator.translateDbClusterFromSdk(dbCluster);
+        desiredModel = Translator.translateDbClusterFromSdk(dbCluster("5.7.mysql_aurora.2.10.1").toBuilder()
+                .enabledCloudwatchLogsExports("audit", "error", "general", "slowquery")
+                .build());
+        tagSet = Tagging.TagSet.builder()
+                .resourceTags(Translator.translateTagsToSdk(desiredModel.getTags()))
+                .build();
+    }
+
+    @Benchmark
+    public ResourceModel translateDbClusterFromSdk() {
+        return Translator.translateDbClusterFromSdk(dbCluster);
+    }
+
+    @Benchmark
+    public CreateDbClusterRequest createDbClusterRequest() {
+        return Translator.createDbClusterRequest(desiredModel, tagSet);
+    }
+
+    @Benchmark
+    public ModifyDbClusterRequest modifyDbClusterRequest() {
+        return Translator.modifyDbClusterRequest(previousModel, desiredModel, false);
+    }
+
+    @Benchmark
+    public Set<software.amazon.rds.dbcluster.Tag> translateTagsFromSdk() {
+        return Translator.translateTagsFromSdk(sdkTags);
+    }
+
+    private DBCluster dbCluster(final String engineVersion) {
+        final List<DBClusterRole> roles = new ArrayList<>();
+        for (int i = 0; i < ROLE_COUNT; i++) {
+            roles.add(DBClusterRole.builder()
+                    .featureName("feature-" + i)
+                    .roleArn("arn:aws:iam::123456789012:role/role-" + i)
+                    .status("ACTIVE")
+                    .build());
+        }
+        final List<VpcSecurityGroupMembership> securityGroups = new ArrayList<>();
+        for (int i = 0; i < SECURITY_GROUP_COUNT; i++) {
+            securityGroups.add(VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-" + i).status("active").build());
+        }
+        return DBCluster.builder()
+                .dbClusterIdentifier("db-cluster")
+                .dbClusterArn("arn:aws:rds:us-east-1:123456789012:cluster:db-cluster")
+                .engine("aurora-mysql")
+                .engineMode("provisioned")
+                .engineVersion(engineVersion)
+                .status("available")
+                .port(3306)
+                .masterUsername("master")
+                .backupRetentionPeriod(7)
+                .backtrackWindow(3600L)
+                .preferredBackupWindow("03:00-04:00")
+                .preferredMaintenanceWindow("sun:05:00-sun:06:00")
+                .endpoint("db-cluster.cluster-abc.us-east-1.rds.amazonaws.com")
+                .readerEndpoint("db-cluster.cluster-ro-abc.us-east-1.rds.amazonaws.com")
+                .dbClusterParameterGroup("default.aurora-mysql5.7")
+                .dbSubnetGroup("subnet-group")
+                .availabilityZones("us-east-1a", "us-east-1b", "us-east-1c")
+                .vpcSecurityGroups(securityGroups)
+                .associatedRoles(roles)
+                .enabledCloudwatchLogsExports("audit", "error")
+                .storageEncrypted(true)
+                .deletionProtection(true)
+                .tagList(sdkTags)
+                .build();
+    }
+}
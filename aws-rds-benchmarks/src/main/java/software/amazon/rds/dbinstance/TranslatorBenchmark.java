@@ -0,0 +1,122 @@
+package software.amazon.rds.dbinstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBInstanceRole;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.DBSubnetGroup;
+import software.amazon.awssdk.services.rds.model.Endpoint;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ProcessorFeature;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+import software.amazon.rds.common.handler.Tagging;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TranslatorBenchmark {
+
+    private static final int TAG_COUNT = 50;
+    private static final int ROLE_COUNT = 8;
+    private static final int SECURITY_GROUP_COUNT = 5;
+
+    private DBInstance dbInstance;
+    private ResourceModel previousModel;
+    private ResourceModel desiredModel;
+    private Tagging.TagSet tagSet;
+
+    @Setup
+    public void setup() {
+        dbInstance = dbInstance("10.5");
+        previousModel = Translator.translateDbInstanceFromSdk(dbInstance);
+        desiredModel = Translator.translateDbInstanceFromSdk(dbInstance("10.6").toBuilder()
+                .enabledCloudwatchLogsExports("audit", "error", "general")
+                .build());
+        tagSet = Tagging.TagSet.builder()
+                .resourceTags(Translator.translateTagsToSdk(desiredModel.getTags()))
+                .build();
+    }
+
+    @Benchmark
+    public ResourceModel translateDbInstanceFromSdk() {
+        return Translator.translateDbInstanceFromSdk(dbInstance);
+    }
+
+    @Benchmark
+    public CreateDbInstanceRequest createDbInstanceRequest() {
+        return Translator.createDbInstanceRequest(desiredModel, tagSet);
+    }
+
+    @Benchmark
+    public ModifyDbInstanceRequest modifyDbInstanceRequest() {
+        return Translator.modifyDbInstanceRequest(previousModel, desiredModel, false);
+    }
+
+    @Benchmark
+    public boolean isModifyDbInstanceRequestEffective() {
+        return Translator.isModifyDbInstanceRequestEffective(previousModel, desiredModel, false);
+    }
+
+    private static DBInstance dbInstance(final String engineVersion) {
+        final List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < TAG_COUNT; i++) {
+            tags.add(Tag.builder().key("tag-key-" + i).value("tag-value-" + i).build());
+        }
+        final List<DBInstanceRole> roles = new ArrayList<>();
+        for (int i = 0; i < ROLE_COUNT; i++) {
+            roles.add(DBInstanceRole.builder()
+                    .featureName("feature-" + i)
+                    .roleArn("arn:aws:iam::123456789012:role/role-" + i)
+                    .status("ACTIVE")
+                    .build());
+        }
+        final List<VpcSecurityGroupMembership> securityGroups = new ArrayList<>();
+        for (int i = 0; i < SECURITY_GROUP_COUNT; i++) {
+            securityGroups.add(VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-" + i).status("active").build());
+        }
+        return DBInstance.builder()
+                .dbInstanceIdentifier("db-instance")
+                .dbInstanceArn("arn:aws:rds:us-east-1:123456789012:db:db-instance")
+                .dbInstanceClass("db.r5.large")
+                .dbInstanceStatus("available")
+                .engine("postgres")
+                .engineVersion(engineVersion)
+                .allocatedStorage(100)
+                .maxAllocatedStorage(1000)
+                .iops(3000)
+                .storageType("io1")
+                .multiAZ(true)
+                .masterUsername("master")
+                .backupRetentionPeriod(7)
+                .preferredBackupWindow("03:00-04:00")
+                .preferredMaintenanceWindow("sun:05:00-sun:06:00")
+                .performanceInsightsEnabled(true)
+                .performanceInsightsRetentionPeriod(7)
+                .monitoringInterval(60)
+                .monitoringRoleArn("arn:aws:iam::123456789012:role/monitoring")
+                .endpoint(Endpoint.builder().address("db-instance.abc.us-east-1.rds.amazonaws.com").port(5432).hostedZoneId("Z2R2ITUGPM61AM").build())
+                .dbParameterGroups(DBParameterGroupStatus.builder().dbParameterGroupName("default.postgres10").parameterApplyStatus("in-sync").build())
+                .dbSubnetGroup(DBSubnetGroup.builder().dbSubnetGroupName("subnet-group").build())
+                .vpcSecurityGroups(securityGroups)
+                .associatedRoles(roles)
+                .enabledCloudwatchLogsExports("audit", "error")
+                .processorFeatures(
+                        ProcessorFeature.builder().name("coreCount").value("2").build(),
+                        ProcessorFeature.builder().name("threadsPerCore").value("2").build())
+                .tagList(tags)
+                .build();
+    }
+}
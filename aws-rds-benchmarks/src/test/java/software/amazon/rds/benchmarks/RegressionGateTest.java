@@ -0,0 +1,66 @@
+package software.amazon.rds.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+public class RegressionGateTest {
+
+    private static final String BENCHMARK = "software.amazon.rds.dbinstance.TranslatorBenchmark.translateDbInstanceFromSdk";
+
+    private final RegressionGate gate = new RegressionGate(0.1);
+
+    @Test
+    public void check_WithinThreshold() {
+        final Properties baseline = RegressionGate.toBaseline(Collections.singletonList(new Measurement(BENCHMARK, 1000.0, 4096.0)));
+
+        assertThat(gate.check(baseline, Collections.singletonList(new Measurement(BENCHMARK, 950.0, 4400.0)))).isEmpty();
+    }
+
+    @Test
+    public void check_ThroughputRegression() {
+        final Properties baseline = RegressionGate.toBaseline(Collections.singletonList(new Measurement(BENCHMARK, 1000.0, 4096.0)));
+
+        final List<String> regressions = gate.check(baseline, Collections.singletonList(new Measurement(BENCHMARK, 850.0, 4096.0)));
+
+        assertThat(regressions).hasSize(1);
+        assertThat(regressions.get(0)).contains(BENCHMARK).contains("throughput");
+    }
+
+    @Test
+    public void check_AllocationRegression() {
+        final Properties baseline = RegressionGate.toBaseline(Collections.singletonList(new Measurement(BENCHMARK, 1000.0, 4096.0)));
+
+        final List<String> regressions = gate.check(baseline, Collections.singletonList(new Measurement(BENCHMARK, 1000.0, 8192.0)));
+
+        assertThat(regressions).hasSize(1);
+        assertThat(regressions.get(0)).contains("allocation");
+    }
+
+    @Test
+    public void check_AllocationSlackForNearZeroBaseline() {
+        final Properties baseline = RegressionGate.toBaseline(Collections.singletonList(new Measurement(BENCHMARK, 1000.0, 0.0)));
+
+        assertThat(gate.check(baseline, Collections.singletonList(new Measurement(BENCHMARK, 1000.0, 8.0)))).isEmpty();
+    }
+
+    @Test
+    public void check_NewBenchmarkPasses() {
+        final Properties baseline = RegressionGate.toBaseline(Collections.singletonList(new Measurement(BENCHMARK, 1000.0, 4096.0)));
+
+        assertThat(gate.check(baseline, Arrays.asList(
+                new Measurement(BENCHMARK, 1000.0, 4096.0),
+                new Measurement(BENCHMARK + "V2", 1.0, 1_000_000.0)))).isEmpty();
+    }
+
+    @Test
+    public void constructor_RejectsInvalidThreshold() {
+        assertThatThrownBy(() -> new RegressionGate(1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package software.amazon.rds.common.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import lombok.Value;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeDbEngineVersionsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbEngineVersionsResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Caches the outcome of DescribeDBEngineVersions lookups keyed by (engine, engine version, parameter group family).
+ * A catalog instance should not be shared across regions.
+ */
+public class EngineVersionCatalog {
+
+    public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    private final ExpiringCache<Key, Boolean> cache;
+
+    public EngineVersionCatalog() {
+        this(DEFAULT_TTL, Clock.systemUTC());
+    }
+
+    public EngineVersionCatalog(final Duration ttl, final Clock clock) {
+        this.cache = new ExpiringCache<>(ttl, ExpiringCache.DEFAULT_MAX_SIZE, clock);
+    }
+
+    public boolean hasEngineVersion(
+            final ProxyClient<RdsClient> proxyClient,
+            final DescribeDbEngineVersionsRequest request
+    ) {
+        final Key key = new Key(request.engine(), request.engineVersion(), request.dbParameterGroupFamily());
+        return cache.get(key, k -> {
+            final DescribeDbEngineVersionsResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                    request,
+                    proxyClient.client()::describeDBEngineVersions
+            );
+            return !response.dbEngineVersions().isEmpty();
+        });
+    }
+
+    @Value
+    private static class Key {
+        String engine;
+        String engineVersion;
+        String dbParameterGroupFamily;
+    }
+}
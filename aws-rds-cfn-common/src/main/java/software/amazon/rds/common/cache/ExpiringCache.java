@@ -0,0 +1,115 @@
+package software.amazon.rds.common.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import lombok.NonNull;
+
+/**
+ * A bounded in-memory cache with a fixed time-to-live per entry.
+ * Once the size limit is reached, the least recently accessed entry is evicted.
+ * Loaders are invoked outside of the cache lock, concurrent misses for the same key may therefore load it twice.
+ * {@code null} values are not cached.
+ */
+public class ExpiringCache<K, V> {
+
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries;
+
+    public ExpiringCache(final Duration ttl) {
+        this(ttl, DEFAULT_MAX_SIZE, Clock.systemUTC());
+    }
+
+    public ExpiringCache(@NonNull final Duration ttl, final int maxSize, @NonNull final Clock clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize should be positive");
+        }
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public Optional<V> getIfPresent(final K key) {
+        synchronized (entries) {
+            final Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.isExpired(clock.instant())) {
+                entries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry.value);
+        }
+    }
+
+    public V get(final K key, final Function<K, V> loader) {
+        final Optional<V> cached = getIfPresent(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        final V value = loader.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    public void put(final K key, final V value) {
+        put(key, value, ttl);
+    }
+
+    public void put(final K key, final V value, @NonNull final Duration ttl) {
+        if (value == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, clock.instant().plus(ttl)));
+        }
+    }
+
+    public void invalidate(final K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final Instant expiresAt;
+
+        private Entry(final V value, final Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(final Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package software.amazon.rds.common.client;
+
+import java.util.Locale;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DbClusterEndpointNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DescribeDbClusterEndpointsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.Filter;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Existence checks that do not rely on {@code *NotFound} errors. A describe request filtered by identifier returns an
+ * empty list for a missing resource, so a deletion poll costs neither an SDK exception nor its error logging.
+ * The not-found exceptions are still treated as absence in case the service answers with one.
+ */
+public final class RdsExistenceProbe {
+
+    private static final String DB_INSTANCE_ID_FILTER = "db-instance-id";
+    private static final String DB_CLUSTER_ID_FILTER = "db-cluster-id";
+
+    private RdsExistenceProbe() {
+    }
+
+    public static boolean dbInstanceExists(final ProxyClient<RdsClient> proxyClient, final String dbInstanceIdentifier) {
+        try {
+            return !proxyClient.injectCredentialsAndInvokeV2(
+                    DescribeDbInstancesRequest.builder()
+                            .filters(idFilter(DB_INSTANCE_ID_FILTER, dbInstanceIdentifier))
+                            .build(),
+                    proxyClient.client()::describeDBInstances
+            ).dbInstances().isEmpty();
+        } catch (DbInstanceNotFoundException e) {
+            return false;
+        }
+    }
+
+    public static boolean dbClusterExists(final ProxyClient<RdsClient> proxyClient, final String dbClusterIdentifier) {
+        try {
+            return !proxyClient.injectCredentialsAndInvokeV2(
+                    DescribeDbClustersRequest.builder()
+                            .filters(idFilter(DB_CLUSTER_ID_FILTER, dbClusterIdentifier))
+                            .build(),
+                    proxyClient.client()::describeDBClusters
+            ).dbClusters().isEmpty();
+        } catch (DbClusterNotFoundException e) {
+            return false;
+        }
+    }
+
+    // DescribeDBClusterEndpoints already answers an unknown identifier with an empty list.
+    public static boolean dbClusterEndpointExists(final ProxyClient<RdsClient> proxyClient, final String dbClusterEndpointIdentifier) {
+        try {
+            return !proxyClient.injectCredentialsAndInvokeV2(
+                    DescribeDbClusterEndpointsRequest.builder()
+                            .dbClusterEndpointIdentifier(dbClusterEndpointIdentifier)
+                            .build(),
+                    proxyClient.client()::describeDBClusterEndpoints
+            ).dbClusterEndpoints().isEmpty();
+        } catch (DbClusterEndpointNotFoundException e) {
+            return false;
+        }
+    }
+
+    // RDS stores identifiers in lower case; the filter value is matched against the stored identifier.
+    private static Filter idFilter(final String name, final String identifier) {
+        return Filter.builder().name(name).values(identifier.toLowerCase(Locale.ROOT)).build();
+    }
+}
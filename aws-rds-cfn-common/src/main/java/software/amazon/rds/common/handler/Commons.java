@@ -1,11 +1,16 @@
 package software.amazon.rds.common.handler;
 
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.rds.model.KmsKeyNotAccessibleException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
@@ -83,4 +88,43 @@ public final class Commons {
         }
         return progress;
     }
+
+    public static <M, C> ProgressEvent<M, C> execOnce(
+            final ProgressEvent<M, C> progress,
+            final String phaseName,
+            final ProgressEventLambda<M, C> func,
+            final Function<C, Boolean> conditionGetter,
+            final VoidBiFunction<C, Boolean> conditionSetter
+    ) {
+        return execOnce(progress, () -> PhaseTimer.time(phaseName, progress, func), conditionGetter, conditionSetter);
+    }
+
+    /**
+     * Polls {@code isDeleted} with {@code backoff} until the resource is gone. Meant to follow a delete call chain:
+     * the chain is a no-op service call followed by the stabilization, so that errors ignored by the delete call
+     * still end up here. {@code errorRuleSet} only applies to the errors thrown by {@code isDeleted}.
+     * The stabilization is timed as a phase named after {@code callGraph}, see {@link PhaseTimer}.
+     */
+    public static <ClientT, M, C extends StdCallbackContext> ProgressEvent<M, C> awaitAbsence(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<ClientT> proxyClient,
+            final String callGraph,
+            final ProgressEvent<M, C> progress,
+            final Delay backoff,
+            final BiPredicate<ProxyClient<ClientT>, M> isDeleted,
+            final ErrorRuleSet errorRuleSet
+    ) {
+        return PhaseTimer.time(callGraph, progress, () ->
+                proxy.initiate(callGraph, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                        .translateToServiceRequest(Function.identity())
+                        .backoffDelay(backoff)
+                        .makeServiceCall((request, client) -> request)
+                        .stabilize((request, response, client, model, context) -> isDeleted.test(client, model))
+                        .handleError((request, exception, client, model, context) -> handleException(
+                                ProgressEvent.progress(model, context),
+                                exception,
+                                errorRuleSet
+                        ))
+                        .progress());
+    }
 }
@@ -0,0 +1,201 @@
+package software.amazon.rds.common.handler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+/**
+ * A dependency graph of handler steps. Steps become runnable once all of their dependencies have completed,
+ * and runnable steps are executed concurrently on the {@link HandlerExecutor}. Steps running at the same time share
+ * the resource model and the callback context, neither of which is thread-safe: a step that writes the resource model
+ * has to depend on the other steps touching it, and concurrent steps may only write disjoint callback context fields.
+ * Their writes are visible to the steps that follow once all of them have completed.
+ * A step bound to a callback context flag is executed at most once across handler re-invocations,
+ * see {@link Commons#execOnce}. A disabled step is considered complete without being executed.
+ * Every executed step is timed as a phase named after the step, see {@link PhaseTimer}.
+ */
+public final class ExecutionPlan<M, C> {
+
+    private static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    @Getter
+    private final List<Step<M, C>> steps;
+
+    private final int maxConcurrency;
+
+    private ExecutionPlan(final List<Step<M, C>> steps, final int maxConcurrency) {
+        this.steps = steps;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public static <M, C> Builder<M, C> builder() {
+        return new Builder<>();
+    }
+
+    public ProgressEvent<M, C> execute(final ProgressEvent<M, C> progress) {
+        final Set<String> completed = steps.stream()
+                .filter(step -> !step.isEnabled())
+                .map(Step::getName)
+                .collect(Collectors.toCollection(HashSet::new));
+        ProgressEvent<M, C> current = progress;
+
+        while (completed.size() < steps.size()) {
+            final List<Step<M, C>> runnable = steps.stream()
+                    .filter(step -> !completed.contains(step.getName()))
+                    .filter(step -> completed.containsAll(step.getDependsOn()))
+                    .collect(Collectors.toList());
+
+            final List<ProgressEvent<M, C>> results = runnable.size() == 1 ?
+                    Collections.singletonList(runnable.get(0).run(current)) :
+                    runConcurrently(runnable, current);
+
+            for (final ProgressEvent<M, C> result : results) {
+                if (!result.isInProgress() || result.getCallbackDelaySeconds() > 0) {
+                    return result;
+                }
+            }
+
+            runnable.forEach(step -> completed.add(step.getName()));
+            current = results.get(0);
+        }
+
+        return current;
+    }
+
+    private List<ProgressEvent<M, C>> runConcurrently(
+            final List<Step<M, C>> runnable,
+            final ProgressEvent<M, C> progress
+    ) {
+        final Executor executor = HandlerExecutor.bounded(maxConcurrency);
+        final List<CompletableFuture<ProgressEvent<M, C>>> futures = new ArrayList<>();
+        for (final Step<M, C> step : runnable) {
+            futures.add(CompletableFuture.supplyAsync(PhaseTimer.propagate(() -> step.run(progress)), executor));
+        }
+        try {
+            // all steps are awaited, even after one has failed, so that none of them outlives the invocation
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).exceptionally(exception -> null).get();
+            final List<ProgressEvent<M, C>> results = new ArrayList<>();
+            for (final CompletableFuture<ProgressEvent<M, C>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return Collections.singletonList(ProgressEvent.failed(
+                    progress.getResourceModel(),
+                    progress.getCallbackContext(),
+                    HandlerErrorCode.InternalFailure,
+                    exception.getMessage()
+            ));
+        } catch (ExecutionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @AllArgsConstructor
+    public static class Step<M, C> {
+        @Getter
+        private final String name;
+        @Getter
+        private final boolean enabled;
+        @Getter
+        private final Set<String> dependsOn;
+        private final Function<ProgressEvent<M, C>, ProgressEvent<M, C>> func;
+        private final Function<C, Boolean> conditionGetter;
+        private final VoidBiFunction<C, Boolean> conditionSetter;
+
+        ProgressEvent<M, C> run(final ProgressEvent<M, C> progress) {
+            if (conditionGetter == null) {
+                return PhaseTimer.time(name, progress, () -> func.apply(progress));
+            }
+            return Commons.execOnce(progress, name, () -> func.apply(progress), conditionGetter, conditionSetter);
+        }
+    }
+
+    public static class Builder<M, C> {
+        private final Map<String, Step<M, C>> steps = new LinkedHashMap<>();
+        private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+        public Builder<M, C> step(
+                @NonNull final String name,
+                @NonNull final Function<ProgressEvent<M, C>, ProgressEvent<M, C>> func,
+                final String... dependsOn
+        ) {
+            return stepIf(true, name, func, dependsOn);
+        }
+
+        public Builder<M, C> stepIf(
+                final boolean enabled,
+                @NonNull final String name,
+                @NonNull final Function<ProgressEvent<M, C>, ProgressEvent<M, C>> func,
+                final String... dependsOn
+        ) {
+            return addStep(new Step<>(name, enabled, new HashSet<>(Arrays.asList(dependsOn)), func, null, null));
+        }
+
+        public Builder<M, C> stepOnce(
+                @NonNull final String name,
+                @NonNull final Function<ProgressEvent<M, C>, ProgressEvent<M, C>> func,
+                @NonNull final Function<C, Boolean> conditionGetter,
+                @NonNull final VoidBiFunction<C, Boolean> conditionSetter,
+                final String... dependsOn
+        ) {
+            return addStep(new Step<>(name, true, new HashSet<>(Arrays.asList(dependsOn)), func, conditionGetter, conditionSetter));
+        }
+
+        public Builder<M, C> maxConcurrency(final int maxConcurrency) {
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency should be positive");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public ExecutionPlan<M, C> build() {
+            final Set<String> visited = new HashSet<>();
+            while (visited.size() < steps.size()) {
+                final List<String> runnable = steps.values().stream()
+                        .filter(step -> !visited.contains(step.getName()))
+                        .filter(step -> visited.containsAll(step.getDependsOn()))
+                        .map(Step::getName)
+                        .collect(Collectors.toList());
+                if (runnable.isEmpty()) {
+                    throw new IllegalArgumentException("Execution plan contains a cycle or an unknown dependency");
+                }
+                visited.addAll(runnable);
+            }
+            return new ExecutionPlan<>(new ArrayList<>(steps.values()), maxConcurrency);
+        }
+
+        private Builder<M, C> addStep(final Step<M, C> step) {
+            if (steps.containsKey(step.getName())) {
+                throw new IllegalArgumentException("Duplicate execution plan step: " + step.getName());
+            }
+            steps.put(step.getName(), step);
+            return this;
+        }
+    }
+}
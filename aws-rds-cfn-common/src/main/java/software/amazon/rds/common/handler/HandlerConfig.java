@@ -4,11 +4,16 @@ import java.time.Duration;
 
 import lombok.Builder;
 import lombok.Getter;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.logging.RequestLogger;
 
 @Builder
 public class HandlerConfig {
 
+    public static final int MIN_LIST_PAGE_SIZE = 20;
+    public static final int MAX_LIST_PAGE_SIZE = 100;
+
     @Getter
     @Builder.Default
     final private boolean probingEnabled = false;
@@ -19,4 +24,36 @@ public class HandlerConfig {
             .delay(Duration.ofSeconds(30))
             .timeout(Duration.ofMinutes(90))
             .build();
+
+    @Getter
+    @Builder.Default
+    final private Delay absenceBackoff = ProgressiveBackoff.builder()
+            .minDelay(Duration.ofSeconds(5))
+            .maxDelay(Duration.ofSeconds(60))
+            .timeout(Duration.ofMinutes(180))
+            .build();
+
+    @Getter
+    @Builder.Default
+    final private int listPageSize = MAX_LIST_PAGE_SIZE;
+
+    @Getter
+    @Builder.Default
+    final private boolean preflightValidationEnabled = false;
+
+    @Getter
+    @Builder.Default
+    final private long logBudgetBytes = RequestLogger.DEFAULT_LOG_BUDGET_BYTES;
+
+    public static class HandlerConfigBuilder {
+        // RDS Describe* APIs reject a MaxRecords value outside of this range.
+        public HandlerConfigBuilder listPageSize(final int listPageSize) {
+            if (listPageSize < MIN_LIST_PAGE_SIZE || listPageSize > MAX_LIST_PAGE_SIZE) {
+                throw new IllegalArgumentException("listPageSize should be between " + MIN_LIST_PAGE_SIZE + " and " + MAX_LIST_PAGE_SIZE);
+            }
+            this.listPageSize$value = listPageSize;
+            this.listPageSize$set = true;
+            return this;
+        }
+    }
 }
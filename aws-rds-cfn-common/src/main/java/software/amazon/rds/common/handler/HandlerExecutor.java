@@ -0,0 +1,77 @@
+package software.amazon.rds.common.handler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The one executor handlers fan out work to, shared by all handlers of the container.
+ * It runs at most {@link #MAX_THREADS} daemon threads, which are released after {@link #KEEP_ALIVE_SECONDS} of
+ * idleness. A task submitted while all threads are busy runs on the submitting thread instead of being queued, hence
+ * a task may itself fan out without ever waiting on work stuck behind it.
+ * Callers await every task they submit before the handler invocation returns, so no task outlives its invocation.
+ */
+public final class HandlerExecutor {
+
+    public static final int MAX_THREADS = 16;
+    public static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static final String THREAD_NAME_PREFIX = "rds-handler-";
+
+    private static final ThreadPoolExecutor EXECUTOR = newExecutor();
+
+    private HandlerExecutor() {
+    }
+
+    public static Executor shared() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Returns a view of the shared executor that runs at most {@code maxConcurrency} of the tasks submitted through it
+     * at a time. Submitting blocks while that many tasks are running.
+     */
+    public static Executor bounded(final int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency should be positive");
+        }
+        final Semaphore permits = new Semaphore(maxConcurrency);
+        return task -> {
+            permits.acquireUninterruptibly();
+            try {
+                EXECUTOR.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException exception) {
+                permits.release();
+                throw exception;
+            }
+        };
+    }
+
+    private static ThreadPoolExecutor newExecutor() {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                MAX_THREADS,
+                MAX_THREADS,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,104 @@
+package software.amazon.rds.common.handler;
+
+import java.util.function.Supplier;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+/**
+ * Times handler phases into the {@link PhaseTimingContext} of the callback context.
+ * A phase is named after the call graph it drives, e.g. {@code rds::create-db-instance}.
+ * API calls are attributed to the innermost phase that is running on the calling thread; tasks handed to the
+ * {@link HandlerExecutor} have to be wrapped with {@link #propagate(Supplier)} to keep that attribution.
+ */
+public final class PhaseTimer {
+
+    private static final String DESCRIBE_PREFIX = "Describe";
+
+    private static final ThreadLocal<PhaseTimingContext.PhaseTiming> ACTIVE_PHASE = new ThreadLocal<>();
+
+    private PhaseTimer() {
+    }
+
+    public static <M, C> ProgressEvent<M, C> time(
+            final String phaseName,
+            final ProgressEvent<M, C> progress,
+            final ProgressEventLambda<M, C> func
+    ) {
+        final PhaseTimingContext phaseTimingContext = getPhaseTimingContext(progress.getCallbackContext());
+        if (phaseTimingContext == null) {
+            return func.enact();
+        }
+        final PhaseTimingContext.PhaseTiming timing = phaseTimingContext.phase(phaseName);
+        final PhaseTimingContext.PhaseTiming outerPhase = ACTIVE_PHASE.get();
+        ACTIVE_PHASE.set(timing);
+        final long startNanos = System.nanoTime();
+        synchronized (timing) {
+            if (timing.getStartedAt() == 0) {
+                timing.setStartedAt(System.currentTimeMillis());
+            }
+        }
+        try {
+            return func.enact();
+        } finally {
+            synchronized (timing) {
+                timing.setActiveMillis(timing.getActiveMillis() + (System.nanoTime() - startNanos) / 1_000_000L);
+                timing.setFinishedAt(System.currentTimeMillis());
+                timing.setPolls(timing.getPolls() + 1);
+            }
+            restore(outerPhase);
+        }
+    }
+
+    /**
+     * Wraps a task that is about to be handed to another thread so that it runs within the phase that is active on
+     * the submitting thread. Without it, the API calls made by the task are not attributed to any phase.
+     */
+    public static <T> Supplier<T> propagate(final Supplier<T> task) {
+        final PhaseTimingContext.PhaseTiming phase = ACTIVE_PHASE.get();
+        if (phase == null) {
+            return task;
+        }
+        return () -> {
+            final PhaseTimingContext.PhaseTiming previousPhase = ACTIVE_PHASE.get();
+            ACTIVE_PHASE.set(phase);
+            try {
+                return task.get();
+            } finally {
+                restore(previousPhase);
+            }
+        };
+    }
+
+    /**
+     * Attributes an API call to the phase that is active on the calling thread. Calls made from tasks running on the
+     * {@link HandlerExecutor} are only counted if the task was wrapped with {@link #propagate(Supplier)}.
+     */
+    public static void recordApiCall(final Object request) {
+        final PhaseTimingContext.PhaseTiming timing = ACTIVE_PHASE.get();
+        if (timing == null) {
+            return;
+        }
+        // concurrent tasks of the same phase record into the same timing
+        synchronized (timing) {
+            timing.setApiCalls(timing.getApiCalls() + 1);
+            if (request != null && request.getClass().getSimpleName().startsWith(DESCRIBE_PREFIX)) {
+                timing.setDescribes(timing.getDescribes() + 1);
+            }
+        }
+    }
+
+    private static void restore(final PhaseTimingContext.PhaseTiming phase) {
+        if (phase == null) {
+            ACTIVE_PHASE.remove();
+        } else {
+            ACTIVE_PHASE.set(phase);
+        }
+    }
+
+    private static PhaseTimingContext getPhaseTimingContext(final Object callbackContext) {
+        if (callbackContext instanceof PhaseTimingContext.Provider) {
+            return ((PhaseTimingContext.Provider) callbackContext).getPhaseTimingContext();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,74 @@
+package software.amazon.rds.common.handler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Per-phase timings of a handler operation. Lives in the callback context so that the numbers
+ * accumulate across re-invocations of the same operation.
+ */
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode
+public class PhaseTimingContext {
+
+    private Map<String, PhaseTiming> phases;
+
+    public PhaseTimingContext() {
+        this.phases = new LinkedHashMap<>();
+    }
+
+    // steps of an execution plan enter their phases concurrently
+    public synchronized PhaseTiming phase(final String phaseName) {
+        return phases.computeIfAbsent(phaseName, name -> new PhaseTiming());
+    }
+
+    /**
+     * Returns a loggable view of all phases in the order they were first entered. Wall time spans from the first
+     * entry to the last exit of a phase and so includes the callback delays between invocations.
+     */
+    public Map<String, Map<String, Long>> summary() {
+        final Map<String, Map<String, Long>> summary = new LinkedHashMap<>();
+        for (final Map.Entry<String, PhaseTiming> entry : phases.entrySet()) {
+            final PhaseTiming timing = entry.getValue();
+            final Map<String, Long> phaseSummary = new LinkedHashMap<>();
+            phaseSummary.put("wallMillis", Math.max(0L, timing.getFinishedAt() - timing.getStartedAt()));
+            phaseSummary.put("activeMillis", timing.getActiveMillis());
+            phaseSummary.put("polls", (long) timing.getPolls());
+            phaseSummary.put("describes", (long) timing.getDescribes());
+            phaseSummary.put("apiCalls", (long) timing.getApiCalls());
+            summary.put(entry.getKey(), phaseSummary);
+        }
+        return summary;
+    }
+
+    // Serialized as a positional array: a long operation carries one entry per phase in every callback payload.
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"startedAt", "finishedAt", "activeMillis", "polls", "describes", "apiCalls"})
+    @lombok.Getter
+    @lombok.Setter
+    @lombok.ToString
+    @lombok.EqualsAndHashCode
+    public static class PhaseTiming {
+        // epoch millis of the first time the phase was entered
+        private long startedAt;
+        // epoch millis of the last time the phase was left
+        private long finishedAt;
+        // time spent inside the handler, excluding the callback delays between invocations
+        private long activeMillis;
+        // number of times the phase was entered, one per handler invocation unless the phase repeats within one
+        private int polls;
+        private int describes;
+        private int apiCalls;
+    }
+
+    public interface Provider {
+        PhaseTimingContext getPhaseTimingContext();
+    }
+}
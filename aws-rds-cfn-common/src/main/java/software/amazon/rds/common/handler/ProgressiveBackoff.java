@@ -0,0 +1,51 @@
+package software.amazon.rds.common.handler;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * A backoff that starts at {@code minDelay} and grows by {@code factor} on every attempt, capped at {@code maxDelay}.
+ * Once the accumulated delay exceeds {@code timeout}, {@link Duration#ZERO} is returned to signal the end of polling.
+ */
+@Builder
+public class ProgressiveBackoff implements Delay {
+
+    @Getter
+    @NonNull
+    final private Duration minDelay;
+
+    @Getter
+    @NonNull
+    final private Duration maxDelay;
+
+    @Getter
+    @Builder.Default
+    final private double factor = 2.0;
+
+    @Getter
+    @NonNull
+    final private Duration timeout;
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        Duration elapsed = Duration.ZERO;
+        Duration delay = minDelay;
+        for (int i = 1; i < attempt; i++) {
+            elapsed = elapsed.plus(delay);
+            delay = grow(delay);
+        }
+        if (elapsed.plus(delay).compareTo(timeout) > 0) {
+            return Duration.ZERO;
+        }
+        return delay;
+    }
+
+    private Duration grow(final Duration delay) {
+        final Duration next = Duration.ofMillis((long) (delay.toMillis() * factor));
+        return next.compareTo(maxDelay) > 0 ? maxDelay : next;
+    }
+}
@@ -1,5 +1,8 @@
 package software.amazon.rds.common.handler;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
@@ -0,0 +1,162 @@
+package software.amazon.rds.common.logging;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.StringUtils;
+import org.json.JSONObject;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.rds.common.error.ErrorCode;
+
+/**
+ * Collects per-operation call latency and outcome counts of a single handler invocation
+ * and renders them as one CloudWatch Embedded Metric Format (EMF) record.
+ * Safe to use from multiple threads.
+ */
+public class ApiMetrics {
+
+    public static final String NAMESPACE = "RdsResourceHandlers";
+
+    static final String LATENCY = "Latency";
+    static final String CALLS = "Calls";
+    static final String ERRORS = "Errors";
+    static final String THROTTLES = "Throttles";
+    static final String LATENCY_PERCENTILES = "LatencyPercentiles";
+
+    private static final String REQUEST_SUFFIX = "Request";
+    private static final String UNIT_MILLISECONDS = "Milliseconds";
+    private static final String UNIT_COUNT = "Count";
+    // EMF limits: at most 100 metrics per directive and 100 values per metric
+    private static final int MAX_METRICS_PER_DIRECTIVE = 100;
+    private static final int MAX_VALUES_PER_METRIC = 100;
+
+    private final ConcurrentMap<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+    public void record(final Object request, final long latencyMillis, final Throwable error) {
+        final OperationMetrics metrics = operations.computeIfAbsent(operationName(request), name -> new OperationMetrics());
+        metrics.latency.record(latencyMillis);
+        if (error != null) {
+            metrics.errorsByCode.computeIfAbsent(errorCode(error), code -> new AtomicLong()).incrementAndGet();
+            if (isThrottling(error)) {
+                metrics.throttles.incrementAndGet();
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    public String toEmf(final long timestamp, final Map<String, String> properties) {
+        final Map<String, Object> record = new LinkedHashMap<>();
+        final List<Map<String, String>> metricDefinitions = new ArrayList<>();
+
+        for (final Map.Entry<String, OperationMetrics> entry : new TreeMap<>(operations).entrySet()) {
+            final String operation = entry.getKey();
+            final OperationMetrics metrics = entry.getValue();
+            final LatencyHistogram latency = metrics.latency;
+
+            putMetric(record, metricDefinitions, operation + "." + LATENCY, UNIT_MILLISECONDS,
+                    latency.getRepresentativeValues(MAX_VALUES_PER_METRIC));
+            putMetric(record, metricDefinitions, operation + "." + CALLS, UNIT_COUNT, latency.getTotalCount());
+            long errors = 0;
+            for (final Map.Entry<String, AtomicLong> errorEntry : new TreeMap<>(metrics.errorsByCode).entrySet()) {
+                errors += errorEntry.getValue().get();
+                putMetric(record, metricDefinitions, operation + "." + ERRORS + "." + errorEntry.getKey(), UNIT_COUNT,
+                        errorEntry.getValue().get());
+            }
+            putMetric(record, metricDefinitions, operation + "." + ERRORS, UNIT_COUNT, errors);
+            putMetric(record, metricDefinitions, operation + "." + THROTTLES, UNIT_COUNT, metrics.throttles.get());
+
+            final Map<String, Long> percentiles = new LinkedHashMap<>();
+            percentiles.put("p50", latency.getValueAtPercentile(50.0));
+            percentiles.put("p90", latency.getValueAtPercentile(90.0));
+            percentiles.put("p99", latency.getValueAtPercentile(99.0));
+            percentiles.put("max", latency.getMax());
+            percentiles.put("sum", latency.getSum());
+            record.put(operation + "." + LATENCY_PERCENTILES, percentiles);
+        }
+
+        final List<Map<String, Object>> directives = new ArrayList<>();
+        for (int from = 0; from < metricDefinitions.size(); from += MAX_METRICS_PER_DIRECTIVE) {
+            final Map<String, Object> directive = new LinkedHashMap<>();
+            directive.put("Namespace", NAMESPACE);
+            directive.put("Dimensions", new String[][]{{}});
+            directive.put("Metrics", metricDefinitions.subList(from, Math.min(from + MAX_METRICS_PER_DIRECTIVE, metricDefinitions.size())));
+            directives.add(directive);
+        }
+        final Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("Timestamp", timestamp);
+        metadata.put("CloudWatchMetrics", directives);
+        record.put("_aws", metadata);
+
+        if (properties != null) {
+            for (final Map.Entry<String, String> property : properties.entrySet()) {
+                if (property.getValue() != null) {
+                    record.putIfAbsent(property.getKey(), property.getValue());
+                }
+            }
+        }
+        return new JSONObject(record).toString();
+    }
+
+    private static void putMetric(
+            final Map<String, Object> record,
+            final List<Map<String, String>> metricDefinitions,
+            final String name,
+            final String unit,
+            final Object value
+    ) {
+        final Map<String, String> definition = new LinkedHashMap<>();
+        definition.put("Name", name);
+        definition.put("Unit", unit);
+        metricDefinitions.add(definition);
+        record.put(name, value);
+    }
+
+    static String operationName(final Object request) {
+        if (request == null) {
+            return "Unknown";
+        }
+        return StringUtils.removeEnd(request.getClass().getSimpleName(), REQUEST_SUFFIX);
+    }
+
+    static String errorCode(final Throwable error) {
+        if (error instanceof AwsServiceException) {
+            final AwsServiceException awsServiceException = (AwsServiceException) error;
+            final ErrorCode errorCode = ErrorCode.fromException(awsServiceException);
+            if (errorCode != null) {
+                return errorCode.toString();
+            }
+            if (awsServiceException.awsErrorDetails() != null && StringUtils.isNotBlank(awsServiceException.awsErrorDetails().errorCode())) {
+                return awsServiceException.awsErrorDetails().errorCode();
+            }
+        }
+        return error.getClass().getSimpleName();
+    }
+
+    static boolean isThrottling(final Throwable error) {
+        if (error instanceof SdkServiceException && ((SdkServiceException) error).isThrottlingException()) {
+            return true;
+        }
+        if (error instanceof AwsServiceException) {
+            final ErrorCode errorCode = ErrorCode.fromException((AwsServiceException) error);
+            return errorCode == ErrorCode.Throttling || errorCode == ErrorCode.ThrottlingException;
+        }
+        return false;
+    }
+
+    private static class OperationMetrics {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong throttles = new AtomicLong();
+        private final ConcurrentMap<String, AtomicLong> errorsByCode = new ConcurrentHashMap<>();
+    }
+}
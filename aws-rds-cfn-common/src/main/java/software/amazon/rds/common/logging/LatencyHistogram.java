@@ -0,0 +1,126 @@
+package software.amazon.rds.common.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size, log-linear latency histogram in the spirit of HdrHistogram.
+ * Every power of two range is split into {@link #SUB_BUCKET_COUNT} linear sub-buckets,
+ * so recorded values are kept with a relative error below 1/{@link #SUB_BUCKET_COUNT}.
+ * Values above {@link #MAX_TRACKABLE_VALUE} are recorded as {@link #MAX_TRACKABLE_VALUE}.
+ */
+public class LatencyHistogram {
+
+    public static final int SUB_BUCKET_BITS = 4;
+    public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    public static final long MAX_TRACKABLE_VALUE = (1L << 24) - 1;
+
+    private static final int MAX_EXPONENT = 63 - Long.numberOfLeadingZeros(MAX_TRACKABLE_VALUE);
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(final long value) {
+        final long clamped = Math.min(Math.max(value, 0L), MAX_TRACKABLE_VALUE);
+        counts.incrementAndGet(bucketIndex(clamped));
+        totalCount.incrementAndGet();
+        sum.addAndGet(clamped);
+        max.accumulateAndGet(clamped, Math::max);
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public long getSum() {
+        return sum.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the lowest value of the bucket the given percentile falls into, or 0 if nothing has been recorded.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        final long total = totalCount.get();
+        if (total == 0) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(total * Math.min(Math.max(percentile, 0.0), 100.0) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return bucketLowerBound(i);
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Returns at most {@code limit} values that represent the recorded distribution: one bucket value per recorded
+     * sample. If more than {@code limit} samples were recorded, the bucket counts are scaled down proportionally,
+     * every non-empty bucket keeping at least one value so that the tail of the distribution is not lost.
+     */
+    public List<Long> getRepresentativeValues(final int limit) {
+        final long total = totalCount.get();
+        final List<Long> values = new ArrayList<>((int) Math.min(total, Math.max(limit, 0)));
+        if (total == 0 || limit <= 0) {
+            return values;
+        }
+        final long[] scaledCounts = new long[BUCKET_COUNT];
+        long scaledTotal = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            final long count = counts.get(i);
+            if (count > 0) {
+                scaledCounts[i] = total <= limit ? count : Math.max(1L, count * limit / total);
+                scaledTotal += scaledCounts[i];
+            }
+        }
+        while (scaledTotal > limit) {
+            int largest = 0;
+            for (int i = 1; i < BUCKET_COUNT; i++) {
+                if (scaledCounts[i] > scaledCounts[largest]) {
+                    largest = i;
+                }
+            }
+            if (scaledCounts[largest] <= 1) {
+                break;
+            }
+            scaledCounts[largest]--;
+            scaledTotal--;
+        }
+        for (int i = 0; i < BUCKET_COUNT && values.size() < limit; i++) {
+            for (long j = 0; j < scaledCounts[i] && values.size() < limit; j++) {
+                values.add(bucketLowerBound(i));
+            }
+        }
+        return values;
+    }
+
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketLowerBound(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        final int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+    }
+}
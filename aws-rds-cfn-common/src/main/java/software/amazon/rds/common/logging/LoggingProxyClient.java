@@ -1,6 +1,8 @@
 package software.amazon.rds.common.logging;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -11,6 +13,7 @@ import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.handler.PhaseTimer;
 
 @RequiredArgsConstructor
 public class LoggingProxyClient<ClientT> implements ProxyClient<ClientT> {
@@ -68,13 +71,31 @@ public class LoggingProxyClient<ClientT> implements ProxyClient<ClientT> {
         ResultT result = null;
         try {
             requestLogger.log(request);
-            result = injectCredentials.apply(request, requestFunction);
+            PhaseTimer.recordApiCall(request);
+            final long startNanos = System.nanoTime();
+            try {
+                result = injectCredentials.apply(request, requestFunction);
+            } catch (Exception e) {
+                recordMetrics(request, startNanos, e);
+                throw e;
+            }
+            if (result instanceof CompletableFuture) {
+                ((CompletableFuture<?>) result).whenComplete((response, throwable) -> recordMetrics(
+                        request,
+                        startNanos,
+                        throwable instanceof CompletionException ? throwable.getCause() : throwable
+                ));
+            } else {
+                recordMetrics(request, startNanos, null);
+            }
         } catch (Exception e) {
             requestLogger.logAndThrow(e);
         }
-        requestLogger.log(result);
+        requestLogger.logResponse(request, result);
         return result;
     }
 
-
+    private void recordMetrics(final AwsRequest request, final long startNanos, final Throwable throwable) {
+        requestLogger.getApiMetrics().record(request, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), throwable);
+    }
 }
@@ -0,0 +1,132 @@
+package software.amazon.rds.common.logging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+
+/**
+ * Samples the responses of repeated describe calls, such as stabilization polls. The first response to a request is
+ * to be logged in full, the following ones only by the fields that changed since the previous poll, and nothing at
+ * all if none did. Only the previous response of every request is kept, for up to {@link #MAX_TRACKED_REQUESTS}
+ * distinct requests.
+ */
+class PollSampler {
+
+    static final int MAX_TRACKED_REQUESTS = 16;
+
+    private static final String POLL_OPERATION_PREFIX = "Describe";
+
+    private final Map<AwsRequest, Poll> polls = new LinkedHashMap<AwsRequest, Poll>(MAX_TRACKED_REQUESTS, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<AwsRequest, Poll> eldest) {
+            return size() > MAX_TRACKED_REQUESTS;
+        }
+    };
+
+    enum Kind {
+        FIRST,
+        CHANGED,
+        UNCHANGED
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    static class Sample {
+        private final Kind kind;
+        private final Map<String, Object> changes;
+        private final long unchangedPolls;
+    }
+
+    @lombok.Value
+    static class LastResponse {
+        AwsResponse response;
+        long polls;
+    }
+
+    private static class Poll {
+        private AwsResponse response;
+        private boolean loggedInFull = true;
+        private long unchangedPolls;
+        private long totalPolls = 1;
+    }
+
+    static boolean isPoll(final Object request) {
+        return request instanceof AwsRequest && request.getClass().getSimpleName().startsWith(POLL_OPERATION_PREFIX);
+    }
+
+    synchronized Sample sample(final AwsRequest request, final AwsResponse response) {
+        final Poll poll = polls.get(request);
+        if (poll == null) {
+            final Poll first = new Poll();
+            first.response = response;
+            polls.put(request, first);
+            return new Sample(Kind.FIRST, Collections.emptyMap(), 0);
+        }
+        poll.totalPolls++;
+        final Map<String, Object> changes = new LinkedHashMap<>();
+        diff("", poll.response, response, changes);
+        poll.response = response;
+        if (changes.isEmpty()) {
+            poll.unchangedPolls++;
+            return new Sample(Kind.UNCHANGED, changes, poll.unchangedPolls);
+        }
+        final Sample sample = new Sample(Kind.CHANGED, changes, poll.unchangedPolls);
+        poll.loggedInFull = false;
+        poll.unchangedPolls = 0;
+        return sample;
+    }
+
+    /**
+     * Returns the last response of every poll that was not logged in full, and forgets all polls.
+     */
+    synchronized List<LastResponse> drain() {
+        final List<LastResponse> responses = new ArrayList<>();
+        for (final Poll poll : polls.values()) {
+            if (!poll.loggedInFull) {
+                responses.add(new LastResponse(poll.response, poll.totalPolls));
+            }
+        }
+        polls.clear();
+        return responses;
+    }
+
+    static void diff(final String path, final Object previous, final Object current, final Map<String, Object> changes) {
+        if (previous == current) {
+            return;
+        }
+        if (previous instanceof SdkPojo && current instanceof SdkPojo && previous.getClass() == current.getClass()) {
+            for (final SdkField<?> field : ((SdkPojo) current).sdkFields()) {
+                diff(join(path, field.memberName()), field.getValueOrDefault(previous), field.getValueOrDefault(current), changes);
+            }
+            return;
+        }
+        if (previous instanceof List && current instanceof List && ((List<?>) previous).size() == ((List<?>) current).size()) {
+            final List<?> previousList = (List<?>) previous;
+            final List<?> currentList = (List<?>) current;
+            for (int i = 0; i < currentList.size(); i++) {
+                diff(path + "[" + i + "]", previousList.get(i), currentList.get(i), changes);
+            }
+            return;
+        }
+        if (!Objects.equals(previous, current)) {
+            changes.put(path, current);
+        }
+    }
+
+    private static String join(final String path, final String memberName) {
+        return path.isEmpty() ? memberName : path + "." + memberName;
+    }
+}
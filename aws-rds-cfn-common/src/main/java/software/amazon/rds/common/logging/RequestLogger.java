@@ -1,8 +1,11 @@
 package software.amazon.rds.common.logging;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.ObjectUtils;
@@ -17,6 +20,7 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.handler.PhaseTimingContext;
 import software.amazon.rds.common.printer.JsonPrinter;
 
 @lombok.Getter
@@ -28,9 +32,35 @@ public class RequestLogger {
     public static final String STACK_ID = "StackId";
     public static final String AWS_ACCOUNT_ID = "AwsAccountId";
     public static final String CLIENT_REQUEST_TOKEN = "ClientRequestToken";
+    public static final String PHASE_TIMINGS = "PhaseTimings";
+    public static final String OPERATION_STATUS = "OperationStatus";
+    public static final String PHASES = "Phases";
+    public static final String LOG_BUDGET = "LogBudget";
+    public static final String LOG_BUDGET_BYTES = "LogBudgetBytes";
+    public static final String LOGGED_BYTES = "LoggedBytes";
+    public static final String SUPPRESSED_BYTES = "SuppressedBytes";
+    public static final String SUPPRESSED_MESSAGES = "SuppressedMessages";
+    public static final String RESPONSE_DIFF = "ResponseDiff";
+    public static final String CHANGES = "Changes";
+    public static final String RESPONSE = "Response";
+    public static final String UNCHANGED_POLLS = "UnchangedPolls";
+    public static final String POLLS = "Polls";
+    public static final long DEFAULT_LOG_BUDGET_BYTES = 512 * 1024;
     private final Logger logger;
     private final Map<String, String> requestDataMap;
     private final JsonPrinter jsonPrinter;
+    private final ApiMetrics apiMetrics;
+
+    // Messages are dropped once the budget is spent; throwables, the handler response, phase timings, the last poll
+    // responses and the budget summary are always logged.
+    private long logBudgetBytes = DEFAULT_LOG_BUDGET_BYTES;
+    private final AtomicLong loggedBytes = new AtomicLong();
+    private final AtomicLong suppressedBytes = new AtomicLong();
+    private final AtomicLong suppressedMessages = new AtomicLong();
+
+    private boolean pollSamplingEnabled = true;
+    @lombok.Getter(lombok.AccessLevel.NONE)
+    private final PollSampler pollSampler = new PollSampler();
 
     private final LogRuleSet DEFAULT_LOG_RULE_SET = LogRuleSet.builder()
             .withLogClasses((Throwable t) -> log(t),
@@ -54,7 +84,8 @@ public class RequestLogger {
                              final @NonNull ResourceHandlerRequest<T> request,
                              final JsonPrinter jsonPrinter) {
         this.logger = logger;
-        this.jsonPrinter = jsonPrinter;
+        this.jsonPrinter = jsonPrinter == null ? null : jsonPrinter.forRequest();
+        this.apiMetrics = new ApiMetrics();
         this.requestDataMap = new HashMap<>();
         requestDataMap.put(STACK_ID, request.getStackId());
         requestDataMap.put(AWS_ACCOUNT_ID, request.getAwsAccountId());
@@ -65,18 +96,86 @@ public class RequestLogger {
                                                            final @NonNull ResourceHandlerRequest<M> request,
                                                            final JsonPrinter jsonPrinter,
                                                            final Function<RequestLogger, ProgressEvent<M, C>> requestHandler) {
+        return handleRequest(logger, request, jsonPrinter, DEFAULT_LOG_BUDGET_BYTES, requestHandler);
+    }
+
+    public static <M, C> ProgressEvent<M, C> handleRequest(final Logger logger,
+                                                           final @NonNull ResourceHandlerRequest<M> request,
+                                                           final JsonPrinter jsonPrinter,
+                                                           final long logBudgetBytes,
+                                                           final Function<RequestLogger, ProgressEvent<M, C>> requestHandler) {
         RequestLogger requestLogger = new RequestLogger(logger, request, jsonPrinter);
+        requestLogger.setLogBudgetBytes(logBudgetBytes);
         requestLogger.log("HandlerRequest", request);
         ProgressEvent<M, C> progressEvent = null;
         try {
             progressEvent = requestHandler.apply(requestLogger);
-            requestLogger.log("HandlerResponse", progressEvent);
+            requestLogger.logOutsideBudget("HandlerResponse", progressEvent, null);
+            requestLogger.logPhaseTimings(progressEvent);
         } catch (Throwable throwable) {
             requestLogger.logAndThrow(throwable);
+        } finally {
+            requestLogger.logLastPollResponses();
+            requestLogger.logBudgetSummary();
+            requestLogger.flushMetrics();
         }
         return progressEvent;
     }
 
+    public long getLoggedBytes() {
+        return loggedBytes.get();
+    }
+
+    public long getSuppressedBytes() {
+        return suppressedBytes.get();
+    }
+
+    public long getSuppressedMessages() {
+        return suppressedMessages.get();
+    }
+
+    public void logBudgetSummary() {
+        if (suppressedMessages.get() == 0) {
+            return;
+        }
+        final Map<String, Long> summary = new LinkedHashMap<>();
+        summary.put(LOG_BUDGET_BYTES, logBudgetBytes);
+        summary.put(LOGGED_BYTES, loggedBytes.get());
+        summary.put(SUPPRESSED_BYTES, suppressedBytes.get());
+        summary.put(SUPPRESSED_MESSAGES, suppressedMessages.get());
+        try {
+            LogMessage message = JsonLogMessage.newLogMessage(jsonPrinter);
+            message.append(CONTENT, LOG_BUDGET);
+            message.append(summary);
+            message.append(requestDataMap);
+            logMessage(message);
+        } catch (Throwable throwable) {
+            logMessage(throwable);
+        }
+    }
+
+    public <M, C> void logPhaseTimings(final ProgressEvent<M, C> progressEvent) {
+        if (progressEvent == null || progressEvent.isInProgress() ||
+                !(progressEvent.getCallbackContext() instanceof PhaseTimingContext.Provider)) {
+            return;
+        }
+        final PhaseTimingContext phaseTimingContext = ((PhaseTimingContext.Provider) progressEvent.getCallbackContext()).getPhaseTimingContext();
+        if (phaseTimingContext != null && !phaseTimingContext.getPhases().isEmpty()) {
+            logOutsideBudget(PHASE_TIMINGS, Collections.singletonMap(PHASES, phaseTimingContext.summary()), Collections.singletonMap(OPERATION_STATUS, String.valueOf(progressEvent.getStatus())));
+        }
+    }
+
+    public void flushMetrics() {
+        if (apiMetrics.isEmpty()) {
+            return;
+        }
+        try {
+            logMessage(apiMetrics.toEmf(System.currentTimeMillis(), requestDataMap));
+        } catch (Throwable throwable) {
+            logMessage(throwable);
+        }
+    }
+
     public void log(Throwable throwable) {
         try {
             LogMessage message = JsonLogMessage.newLogMessage(jsonPrinter);
@@ -102,24 +201,106 @@ public class RequestLogger {
         }
     }
 
+    /**
+     * Logs a service response. With poll sampling enabled, a repeated describe call only logs the fields that changed
+     * since its previous response; the last response is logged in full by {@link #logLastPollResponses()}.
+     */
+    public void logResponse(final AwsRequest request, final Object response) {
+        if (!pollSamplingEnabled || !PollSampler.isPoll(request) || !(response instanceof AwsResponse)) {
+            log(response);
+            return;
+        }
+        try {
+            final PollSampler.Sample sample = pollSampler.sample(request, (AwsResponse) response);
+            switch (sample.getKind()) {
+                case FIRST:
+                    log(response);
+                    break;
+                case CHANGED:
+                    final Map<String, String> additionalFields = new LinkedHashMap<>();
+                    additionalFields.put(RESPONSE, response.getClass().getSimpleName());
+                    additionalFields.put(UNCHANGED_POLLS, String.valueOf(sample.getUnchangedPolls()));
+                    log(RESPONSE_DIFF, Collections.singletonMap(CHANGES, sample.getChanges()), additionalFields);
+                    break;
+                default:
+                    break;
+            }
+        } catch (Throwable throwable) {
+            logMessage(throwable);
+        }
+    }
+
+    public void logLastPollResponses() {
+        for (final PollSampler.LastResponse lastResponse : pollSampler.drain()) {
+            final AwsResponse response = lastResponse.getResponse();
+            logOutsideBudget(response.getClass().getSimpleName(), response, Collections.singletonMap(POLLS, String.valueOf(lastResponse.getPolls())));
+        }
+    }
+
     public void log(String message, Object object) {
         log(message, object, null);
     }
 
     public void log(String msg, Object object, Map<String, String> additionalFields) {
+        if (loggedBytes.get() >= logBudgetBytes) {
+            // not even rendered, so only the message is accounted for
+            suppressedMessages.incrementAndGet();
+            return;
+        }
+        log(msg, object, additionalFields, true);
+    }
+
+    private void logOutsideBudget(String msg, Object object, Map<String, String> additionalFields) {
+        log(msg, object, additionalFields, false);
+    }
+
+    private void log(String msg, Object object, Map<String, String> additionalFields, boolean withinBudget) {
         try {
             LogMessage message = JsonLogMessage.newLogMessage(jsonPrinter);
             message.append(CONTENT, msg);
             message.append(object);
             message.append(additionalFields);
             message.append(requestDataMap);
-            logMessage(message);
+            if (withinBudget) {
+                logWithinBudget(message.toString());
+            } else {
+                logMessage(message);
+            }
         } catch (Throwable throwable) {
             logMessage(throwable);
             logMessage(ObjectUtils.defaultIfNull(object, StringUtils.EMPTY).toString());
         }
     }
 
+    private void logWithinBudget(final String message) {
+        final long bytes = utf8Length(message);
+        if (loggedBytes.addAndGet(bytes) > logBudgetBytes) {
+            loggedBytes.addAndGet(-bytes);
+            suppressedBytes.addAndGet(bytes);
+            suppressedMessages.incrementAndGet();
+            return;
+        }
+        logMessage(message);
+    }
+
+    private static long utf8Length(final String message) {
+        long length = 0;
+        for (int i = 0; i < message.length(); i++) {
+            final char c = message.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
     private void logMessage(final LogMessage message) {
         logMessage(message.toString());
     }
@@ -0,0 +1,106 @@
+package software.amazon.rds.common.printer;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.type.CollectionType;
+
+/**
+ * Renders collections longer than {@code maxElements} as a summary: the element count, the first
+ * {@code maxElements} elements and the collection hash. Shorter collections are rendered as usual.
+ */
+class CollectionSummarizer extends BeanSerializerModifier {
+
+    static final String COUNT = "Count";
+    static final String FIRST = "First";
+    static final String HASH = "Hash";
+
+    private static final long serialVersionUID = 1L;
+
+    private final int maxElements;
+
+    CollectionSummarizer(final int maxElements) {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("maxElements should not be negative");
+        }
+        this.maxElements = maxElements;
+    }
+
+    @Override
+    public JsonSerializer<?> modifyCollectionSerializer(
+            final SerializationConfig config,
+            final CollectionType valueType,
+            final BeanDescription beanDesc,
+            final JsonSerializer<?> serializer
+    ) {
+        return new SummarizingSerializer(serializer, maxElements);
+    }
+
+    private static class SummarizingSerializer extends JsonSerializer<Collection<?>> implements ContextualSerializer, ResolvableSerializer {
+
+        private final JsonSerializer<Object> delegate;
+        private final int maxElements;
+
+        @SuppressWarnings("unchecked")
+        SummarizingSerializer(final JsonSerializer<?> delegate, final int maxElements) {
+            this.delegate = (JsonSerializer<Object>) delegate;
+            this.maxElements = maxElements;
+        }
+
+        @Override
+        public void serialize(
+                final Collection<?> value,
+                final JsonGenerator generator,
+                final SerializerProvider provider
+        ) throws IOException {
+            if (value.size() <= maxElements) {
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+            generator.writeStartObject();
+            generator.writeNumberField(COUNT, value.size());
+            generator.writeArrayFieldStart(FIRST);
+            final Iterator<?> iterator = value.iterator();
+            for (int i = 0; i < maxElements && iterator.hasNext(); i++) {
+                provider.defaultSerializeValue(iterator.next(), generator);
+            }
+            generator.writeEndArray();
+            generator.writeStringField(HASH, Integer.toHexString(value.hashCode()));
+            generator.writeEndObject();
+        }
+
+        @Override
+        public boolean isEmpty(final SerializerProvider provider, final Collection<?> value) {
+            return value == null || value.isEmpty();
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(
+                final SerializerProvider provider,
+                final BeanProperty property
+        ) throws JsonMappingException {
+            if (delegate instanceof ContextualSerializer) {
+                return new SummarizingSerializer(((ContextualSerializer) delegate).createContextual(provider, property), maxElements);
+            }
+            return this;
+        }
+
+        @Override
+        public void resolve(final SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) delegate).resolve(provider);
+            }
+        }
+    }
+}
@@ -1,10 +1,5 @@
 package software.amazon.rds.common.printer;
 
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
-import org.apache.commons.lang3.exception.ExceptionUtils;
-import org.json.JSONObject;
-
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
@@ -13,6 +8,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.FilterProvider;
 import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
@@ -20,7 +16,8 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 public class FilteredJsonPrinter implements JsonPrinter {
     final static String PWD = "pwd";
-    public static final String STACK_TRACE = "StackTrace";
+    public static final String STACK_TRACE = ThrowableSerializer.STACK_TRACE;
+    public static final int DEFAULT_MAX_COLLECTION_ELEMENTS = 32;
     private static final String EMPTY_JSON = "{}";
 
     @JsonFilter(PWD)
@@ -31,14 +28,25 @@ public class FilteredJsonPrinter implements JsonPrinter {
 
     final protected ObjectMapper mapper;
     final protected ObjectWriter writer;
+    final private ThrowableSerializer throwableSerializer;
 
     public FilteredJsonPrinter(String... filterFields) {
+        this(ThrowableSerializer.DEFAULT_MAX_STACK_DEPTH, filterFields);
+    }
+
+    public FilteredJsonPrinter(int maxStackDepth, String... filterFields) {
+        this(maxStackDepth, DEFAULT_MAX_COLLECTION_ELEMENTS, filterFields);
+    }
+
+    public FilteredJsonPrinter(int maxStackDepth, int maxCollectionElements, String... filterFields) {
         this.filterFields = filterFields;
+        this.throwableSerializer = new ThrowableSerializer(maxStackDepth);
         mapper = new ObjectMapper()
                 .setPropertyNamingStrategy(PropertyNamingStrategy.UPPER_CAMEL_CASE)
                 .enable(SerializationFeature.INDENT_OUTPUT)
                 .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
         mapper.registerModule(new JavaTimeModule());
+        mapper.registerModule(new SimpleModule().setSerializerModifier(new CollectionSummarizer(maxCollectionElements)));
         mapper.addMixIn(Object.class, PropertyFilterMixIn.class);
         mapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
         mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
@@ -47,6 +55,21 @@ public class FilteredJsonPrinter implements JsonPrinter {
         writer = mapper.writer(filter);
     }
 
+    private FilteredJsonPrinter(final FilteredJsonPrinter printer, final ThrowableSerializer throwableSerializer) {
+        this.filterFields = printer.filterFields;
+        this.mapper = printer.mapper;
+        this.writer = printer.writer;
+        this.throwableSerializer = throwableSerializer;
+    }
+
+    /**
+     * Shares the object mappers with this printer, but prints every distinct stack trace only once.
+     */
+    @Override
+    public JsonPrinter forRequest() {
+        return new FilteredJsonPrinter(this, throwableSerializer.deduplicating());
+    }
+
     @Override
     public String print(final Object obj) throws JsonProcessingException {
         return obj == null ? EMPTY_JSON : writer.writeValueAsString(obj);
@@ -54,12 +77,11 @@ public class FilteredJsonPrinter implements JsonPrinter {
 
     @Override
     public String print(final Throwable throwable) {
+        if (throwable == null) {
+            return EMPTY_JSON;
+        }
         try {
-            //throwable is not serializable
-            String jsonThrowable = ReflectionToStringBuilder.toString(throwable, ToStringStyle.JSON_STYLE);
-            JSONObject jsonObject = new JSONObject(jsonThrowable);
-            jsonObject.append(STACK_TRACE, ExceptionUtils.getStackTrace(throwable));
-            return jsonObject.toString();
+            return writer.writeValueAsString(throwableSerializer.serialize(throwable));
         } catch (Exception exception) {
             return String.format("<failed to print object> %s", exception);
         }
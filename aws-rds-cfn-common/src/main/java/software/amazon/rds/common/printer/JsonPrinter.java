@@ -7,4 +7,11 @@ public interface JsonPrinter {
     String print(final Object obj) throws JsonProcessingException;
 
     String print(final Throwable throwable);
+
+    /**
+     * Returns the printer to use for the lifetime of a single handler request.
+     */
+    default JsonPrinter forRequest() {
+        return this;
+    }
 }
@@ -0,0 +1,134 @@
+package software.amazon.rds.common.printer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.Getter;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+/**
+ * Turns a throwable into a flat, JSON-friendly map: class, message, the service error details if any, a stack trace
+ * cut to {@code maxStackDepth} frames and the chain of causes.
+ * A de-duplicating serializer emits every distinct stack trace once and refers to repeated ones by fingerprint only,
+ * hence it should not outlive the request it is created for.
+ */
+public class ThrowableSerializer {
+
+    public static final int DEFAULT_MAX_STACK_DEPTH = 20;
+    public static final int MAX_CAUSE_DEPTH = 5;
+
+    public static final String CLASS = "Class";
+    public static final String MESSAGE = "Message";
+    public static final String ERROR_CODE = "ErrorCode";
+    public static final String REQUEST_ID = "RequestId";
+    public static final String STATUS_CODE = "StatusCode";
+    public static final String STACK_TRACE = "StackTrace";
+    public static final String OMITTED_FRAMES = "OmittedFrames";
+    public static final String FINGERPRINT = "StackTraceFingerprint";
+    public static final String REPEATED = "StackTraceRepeated";
+    public static final String CAUSE = "Cause";
+
+    @Getter
+    private final int maxStackDepth;
+    private final Set<String> fingerprints;
+
+    public ThrowableSerializer() {
+        this(DEFAULT_MAX_STACK_DEPTH);
+    }
+
+    public ThrowableSerializer(final int maxStackDepth) {
+        this(maxStackDepth, null);
+    }
+
+    private ThrowableSerializer(final int maxStackDepth, final Set<String> fingerprints) {
+        if (maxStackDepth < 0) {
+            throw new IllegalArgumentException("maxStackDepth should not be negative");
+        }
+        this.maxStackDepth = maxStackDepth;
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * Returns a serializer with the same settings and an empty set of seen stack traces.
+     */
+    public ThrowableSerializer deduplicating() {
+        return new ThrowableSerializer(maxStackDepth, ConcurrentHashMap.newKeySet());
+    }
+
+    public Map<String, Object> serialize(final Throwable throwable) {
+        final Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        return serialize(throwable, visited, 0);
+    }
+
+    private Map<String, Object> serialize(final Throwable throwable, final Set<Throwable> visited, final int depth) {
+        visited.add(throwable);
+        final Map<String, Object> result = new LinkedHashMap<>();
+        result.put(CLASS, throwable.getClass().getName());
+        if (throwable.getMessage() != null) {
+            result.put(MESSAGE, throwable.getMessage());
+        }
+        putServiceDetails(result, throwable);
+        putStackTrace(result, throwable);
+
+        final Throwable cause = throwable.getCause();
+        if (cause != null && depth < MAX_CAUSE_DEPTH && !visited.contains(cause)) {
+            result.put(CAUSE, serialize(cause, visited, depth + 1));
+        }
+        return result;
+    }
+
+    private static void putServiceDetails(final Map<String, Object> result, final Throwable throwable) {
+        if (throwable instanceof AwsServiceException && ((AwsServiceException) throwable).awsErrorDetails() != null) {
+            final String errorCode = ((AwsServiceException) throwable).awsErrorDetails().errorCode();
+            if (errorCode != null) {
+                result.put(ERROR_CODE, errorCode);
+            }
+        }
+        if (throwable instanceof SdkServiceException) {
+            final SdkServiceException serviceException = (SdkServiceException) throwable;
+            if (serviceException.requestId() != null) {
+                result.put(REQUEST_ID, serviceException.requestId());
+            }
+            if (serviceException.statusCode() != 0) {
+                result.put(STATUS_CODE, serviceException.statusCode());
+            }
+        }
+    }
+
+    private void putStackTrace(final Map<String, Object> result, final Throwable throwable) {
+        final StackTraceElement[] stackTrace = throwable.getStackTrace();
+        if (stackTrace.length == 0) {
+            return;
+        }
+        final int depth = Math.min(maxStackDepth, stackTrace.length);
+        final String fingerprint = fingerprint(throwable, stackTrace, depth);
+        result.put(FINGERPRINT, fingerprint);
+        if (fingerprints != null && !fingerprints.add(fingerprint)) {
+            result.put(REPEATED, true);
+            return;
+        }
+        final List<String> frames = new ArrayList<>(depth);
+        for (int i = 0; i < depth; i++) {
+            frames.add(stackTrace[i].toString());
+        }
+        result.put(STACK_TRACE, frames);
+        if (depth < stackTrace.length) {
+            result.put(OMITTED_FRAMES, stackTrace.length - depth);
+        }
+    }
+
+    private static String fingerprint(final Throwable throwable, final StackTraceElement[] stackTrace, final int depth) {
+        long hash = throwable.getClass().getName().hashCode();
+        for (int i = 0; i < depth; i++) {
+            hash = 31 * hash + stackTrace[i].hashCode();
+        }
+        return Long.toHexString(hash);
+    }
+}
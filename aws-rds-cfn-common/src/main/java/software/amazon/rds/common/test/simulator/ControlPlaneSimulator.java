@@ -0,0 +1,138 @@
+package software.amazon.rds.common.test.simulator;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+
+/**
+ * A deterministic, in-memory stand-in for the RDS and EC2 control planes, for offline end-to-end handler
+ * tests, benchmarks and load tests. Both simulated clients share one logical clock: every API call advances
+ * it by one tick, and resources move through their lifecycle statuses as the clock advances.
+ * Latency and throttling are injected per call; throttling decisions come from a seeded random source, so a run
+ * with the same configuration and call sequence always behaves the same way.
+ */
+public class ControlPlaneSimulator {
+
+    static final String THROTTLING_ERROR_CODE = "Throttling";
+    private static final int ERROR_STATUS_CODE = 400;
+
+    @lombok.Getter
+    private final SimulatorConfig config;
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong throttles = new AtomicLong();
+    private final ConcurrentMap<String, AtomicLong> calls = new ConcurrentHashMap<>();
+    private final Random random;
+
+    private final SimulatedRdsClient rdsClient;
+    // created on first use, so that modules without the EC2 SDK can use the RDS side alone
+    private SimulatedEc2Client ec2Client;
+
+    public ControlPlaneSimulator() {
+        this(SimulatorConfig.builder().build());
+    }
+
+    public ControlPlaneSimulator(@NonNull final SimulatorConfig config) {
+        this.config = config;
+        this.random = new Random(config.getSeed());
+        this.rdsClient = new SimulatedRdsClient(this);
+    }
+
+    public SimulatedRdsClient rdsClient() {
+        return rdsClient;
+    }
+
+    public synchronized SimulatedEc2Client ec2Client() {
+        if (ec2Client == null) {
+            ec2Client = new SimulatedEc2Client(this);
+        }
+        return ec2Client;
+    }
+
+    public long now() {
+        return clock.get();
+    }
+
+    /**
+     * Moves the clock forward without issuing an API call, e.g. to emulate the callback delay between invocations.
+     */
+    public void advance(final long ticks) {
+        clock.addAndGet(Math.max(ticks, 0L));
+    }
+
+    public long getCallCount(final String operation) {
+        final AtomicLong count = calls.get(operation);
+        return count == null ? 0L : count.get();
+    }
+
+    public long getTotalCallCount() {
+        return calls.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    public Map<String, Long> getCallCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+        calls.forEach((operation, count) -> counts.put(operation, count.get()));
+        return counts;
+    }
+
+    public long getThrottleCount() {
+        return throttles.get();
+    }
+
+    /**
+     * Accounts for an API call and applies the injected faults. Returns the tick the call is served at.
+     */
+    long call(final String operation, final Supplier<AwsServiceException.Builder> errorBuilder) {
+        calls.computeIfAbsent(operation, op -> new AtomicLong()).incrementAndGet();
+        sleep();
+        final long tick = clock.incrementAndGet();
+        if (shouldThrottle()) {
+            throttles.incrementAndGet();
+            throw error(errorBuilder.get(), THROTTLING_ERROR_CODE, "Rate exceeded");
+        }
+        return tick;
+    }
+
+    String arn(final String service, final String resourceType, final String name) {
+        return String.format("arn:aws:%s:%s:%s:%s:%s", service, config.getRegion(), config.getAccountId(), resourceType, name);
+    }
+
+    static AwsServiceException error(final AwsServiceException.Builder builder, final String errorCode, final String message) {
+        return builder
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode(errorCode)
+                        .errorMessage(message)
+                        .build())
+                .message(message)
+                .statusCode(ERROR_STATUS_CODE)
+                .build();
+    }
+
+    private boolean shouldThrottle() {
+        if (config.getThrottleRate() <= 0.0) {
+            return false;
+        }
+        synchronized (random) {
+            return random.nextDouble() < config.getThrottleRate();
+        }
+    }
+
+    private void sleep() {
+        final long latencyMillis = config.getLatency().toMillis();
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package software.amazon.rds.common.test.simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of a paginated describe. Markers are opaque to callers; here they are the offset of the next page.
+ */
+@lombok.Getter
+@lombok.AllArgsConstructor
+class Page<T> {
+
+    private final List<T> items;
+    private final String nextMarker;
+
+    static <T> Page<T> of(final List<T> all, final String marker, final Integer maxRecords, final int defaultPageSize) {
+        final int from = marker == null ? 0 : Math.min(Math.max(Integer.parseInt(marker), 0), all.size());
+        final int pageSize = maxRecords == null || maxRecords <= 0 ? defaultPageSize : maxRecords;
+        final int to = Math.min(from + pageSize, all.size());
+        return new Page<>(new ArrayList<>(all.subList(from, to)), to < all.size() ? String.valueOf(to) : null);
+    }
+}
@@ -0,0 +1,62 @@
+package software.amazon.rds.common.test.simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A resource status that moves through a sequence of transient statuses before it settles.
+ * A {@code null} settled status means the resource is gone once the transition is over.
+ */
+class ResourceLifecycle {
+
+    private final List<Step> steps = new ArrayList<>();
+    private String settledStatus;
+    private long nextStartTick;
+
+    ResourceLifecycle(final String settledStatus) {
+        this.settledStatus = settledStatus;
+    }
+
+    /**
+     * Starts a new transition at {@code now}, replacing the one in flight.
+     */
+    ResourceLifecycle transition(final long now) {
+        steps.clear();
+        nextStartTick = now;
+        return this;
+    }
+
+    ResourceLifecycle through(final String status, final long ticks) {
+        nextStartTick += Math.max(ticks, 0L);
+        steps.add(new Step(status, nextStartTick));
+        return this;
+    }
+
+    ResourceLifecycle settle(final String status) {
+        settledStatus = status;
+        return this;
+    }
+
+    String status(final long now) {
+        for (final Step step : steps) {
+            if (now < step.endTick) {
+                return step.status;
+            }
+        }
+        return settledStatus;
+    }
+
+    boolean isSettled(final long now) {
+        return steps.isEmpty() || now >= steps.get(steps.size() - 1).endTick;
+    }
+
+    boolean isGone(final long now) {
+        return isSettled(now) && settledStatus == null;
+    }
+
+    @lombok.AllArgsConstructor
+    private static class Step {
+        private final String status;
+        private final long endTick;
+    }
+}
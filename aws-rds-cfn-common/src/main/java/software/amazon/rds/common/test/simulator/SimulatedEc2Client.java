@@ -0,0 +1,119 @@
+package software.amazon.rds.common.test.simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsResponse;
+import software.amazon.awssdk.services.ec2.model.DescribeSubnetsRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeSubnetsResponse;
+import software.amazon.awssdk.services.ec2.model.Ec2Exception;
+import software.amazon.awssdk.services.ec2.model.SecurityGroup;
+import software.amazon.awssdk.services.ec2.model.Subnet;
+
+/**
+ * The EC2 side of a {@link ControlPlaneSimulator}. Subnets and security groups are static: they are seeded by the
+ * test and never change. Operations that are not simulated throw {@link UnsupportedOperationException}.
+ */
+public class SimulatedEc2Client implements Ec2Client {
+
+    static final String SUBNET_NOT_FOUND = "InvalidSubnetID.NotFound";
+    static final String SECURITY_GROUP_NOT_FOUND = "InvalidGroup.NotFound";
+
+    private final ControlPlaneSimulator simulator;
+    private final Map<String, Subnet> subnets = new TreeMap<>();
+    private final Map<String, SecurityGroup> securityGroups = new TreeMap<>();
+
+    SimulatedEc2Client(final ControlPlaneSimulator simulator) {
+        this.simulator = simulator;
+    }
+
+    public synchronized SimulatedEc2Client putSubnet(final String subnetId, final String vpcId, final String availabilityZone) {
+        return putSubnet(Subnet.builder()
+                .subnetId(subnetId)
+                .vpcId(vpcId)
+                .availabilityZone(availabilityZone)
+                .subnetArn(simulator.arn("ec2", "subnet", subnetId))
+                .build());
+    }
+
+    public synchronized SimulatedEc2Client putSubnet(final Subnet subnet) {
+        subnets.put(subnet.subnetId(), subnet);
+        return this;
+    }
+
+    public synchronized SimulatedEc2Client putSecurityGroup(final SecurityGroup securityGroup) {
+        securityGroups.put(securityGroup.groupId(), securityGroup);
+        return this;
+    }
+
+    synchronized Subnet getSubnet(final String subnetId) {
+        return subnets.get(subnetId);
+    }
+
+    @Override
+    public DescribeSubnetsResponse describeSubnets(final DescribeSubnetsRequest request) {
+        simulator.call("DescribeSubnets", Ec2Exception::builder);
+        return doDescribeSubnets(request);
+    }
+
+    @Override
+    public DescribeSecurityGroupsResponse describeSecurityGroups(final DescribeSecurityGroupsRequest request) {
+        simulator.call("DescribeSecurityGroups", Ec2Exception::builder);
+        return doDescribeSecurityGroups(request);
+    }
+
+    private synchronized DescribeSubnetsResponse doDescribeSubnets(final DescribeSubnetsRequest request) {
+        if (request.hasSubnetIds()) {
+            final List<Subnet> found = new ArrayList<>();
+            for (final String subnetId : request.subnetIds()) {
+                final Subnet subnet = subnets.get(subnetId);
+                if (subnet == null) {
+                    throw ControlPlaneSimulator.error(Ec2Exception.builder(), SUBNET_NOT_FOUND,
+                            String.format("The subnet ID '%s' does not exist", subnetId));
+                }
+                found.add(subnet);
+            }
+            return DescribeSubnetsResponse.builder().subnets(found).build();
+        }
+        final Page<Subnet> page = Page.of(new ArrayList<>(subnets.values()), request.nextToken(), request.maxResults(),
+                simulator.getConfig().getDefaultPageSize());
+        return DescribeSubnetsResponse.builder()
+                .subnets(page.getItems())
+                .nextToken(page.getNextMarker())
+                .build();
+    }
+
+    private synchronized DescribeSecurityGroupsResponse doDescribeSecurityGroups(final DescribeSecurityGroupsRequest request) {
+        if (request.hasGroupIds()) {
+            final List<SecurityGroup> found = new ArrayList<>();
+            for (final String groupId : request.groupIds()) {
+                final SecurityGroup securityGroup = securityGroups.get(groupId);
+                if (securityGroup == null) {
+                    throw ControlPlaneSimulator.error(Ec2Exception.builder(), SECURITY_GROUP_NOT_FOUND,
+                            String.format("The security group '%s' does not exist", groupId));
+                }
+                found.add(securityGroup);
+            }
+            return DescribeSecurityGroupsResponse.builder().securityGroups(found).build();
+        }
+        final Page<SecurityGroup> page = Page.of(new ArrayList<>(securityGroups.values()), request.nextToken(), request.maxResults(),
+                simulator.getConfig().getDefaultPageSize());
+        return DescribeSecurityGroupsResponse.builder()
+                .securityGroups(page.getItems())
+                .nextToken(page.getNextMarker())
+                .build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
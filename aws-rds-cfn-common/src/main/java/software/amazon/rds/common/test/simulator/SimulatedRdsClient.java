@@ -0,0 +1,604 @@
+package software.amazon.rds.common.test.simulator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.AddRoleToDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.AddRoleToDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.rds.model.AvailabilityZone;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbSubnetGroupResponse;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBInstanceRole;
+import software.amazon.awssdk.services.rds.model.DBParameterGroup;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.DBSubnetGroup;
+import software.amazon.awssdk.services.rds.model.DbInstanceAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbInstanceRoleAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbInstanceRoleNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbParameterGroupAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbParameterGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbSubnetGroupAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbSubnetGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DeleteDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.DeleteDbParameterGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.DeleteDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbSubnetGroupResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbSubnetGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbSubnetGroupsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersResponse;
+import software.amazon.awssdk.services.rds.model.Endpoint;
+import software.amazon.awssdk.services.rds.model.EngineDefaults;
+import software.amazon.awssdk.services.rds.model.Filter;
+import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
+import software.amazon.awssdk.services.rds.model.InvalidDbParameterGroupStateException;
+import software.amazon.awssdk.services.rds.model.InvalidDbSubnetGroupStateException;
+import software.amazon.awssdk.services.rds.model.InvalidSubnetException;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbSubnetGroupResponse;
+import software.amazon.awssdk.services.rds.model.RdsException;
+import software.amazon.awssdk.services.rds.model.RebootDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RebootDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
+import software.amazon.awssdk.services.rds.model.Subnet;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.awssdk.services.rds.paginators.DescribeEngineDefaultParametersIterable;
+
+/**
+ * The RDS side of a {@link ControlPlaneSimulator}. Simulates DB instances with their lifecycle
+ * ({@code creating → backing-up → available}, {@code modifying}, {@code rebooting}, {@code deleting}),
+ * DB subnet groups, DB parameter groups without parameters and resource tags. Identifiers are case-insensitive and reported in
+ * lower case, like the service does. Operations that are not simulated throw {@link UnsupportedOperationException}.
+ */
+public class SimulatedRdsClient implements RdsClient {
+
+    public static final String STATUS_CREATING = "creating";
+    public static final String STATUS_BACKING_UP = "backing-up";
+    public static final String STATUS_AVAILABLE = "available";
+    public static final String STATUS_MODIFYING = "modifying";
+    public static final String STATUS_REBOOTING = "rebooting";
+    public static final String STATUS_DELETING = "deleting";
+
+    private static final String SUBNET_GROUP_STATUS_COMPLETE = "Complete";
+    private static final String SUBNET_STATUS_ACTIVE = "Active";
+    private static final String PARAMETER_APPLY_STATUS_IN_SYNC = "in-sync";
+    private static final String ROLE_STATUS_ACTIVE = "ACTIVE";
+    private static final String DB_INSTANCE_ID_FILTER = "db-instance-id";
+    private static final int DEFAULT_PORT = 3306;
+
+    private final ControlPlaneSimulator simulator;
+
+    private final Map<String, SimulatedDbInstance> dbInstances = new TreeMap<>();
+    private final Map<String, DBSubnetGroup> dbSubnetGroups = new TreeMap<>();
+    private final Map<String, DBParameterGroup> dbParameterGroups = new TreeMap<>();
+    private final Map<String, Map<String, String>> tags = new TreeMap<>();
+
+    SimulatedRdsClient(final ControlPlaneSimulator simulator) {
+        this.simulator = simulator;
+    }
+
+    @Override
+    public CreateDbInstanceResponse createDBInstance(final CreateDbInstanceRequest request) {
+        final long now = simulator.call("CreateDBInstance", RdsException::builder);
+        synchronized (this) {
+            purgeDeleted(now);
+            final String id = normalize(request.dbInstanceIdentifier());
+            if (dbInstances.containsKey(id)) {
+                throw ControlPlaneSimulator.error(DbInstanceAlreadyExistsException.builder(), "DBInstanceAlreadyExists",
+                        "DB instance already exists");
+            }
+            final DBSubnetGroup dbSubnetGroup = request.dbSubnetGroupName() == null ? null : getDbSubnetGroup(request.dbSubnetGroupName());
+            final String dbParameterGroupName = request.dbParameterGroupName() == null ?
+                    "default." + request.engine() :
+                    getDbParameterGroup(request.dbParameterGroupName()).dbParameterGroupName();
+            final String arn = simulator.arn("rds", "db", id);
+            final DBInstance dbInstance = DBInstance.builder()
+                    .dbInstanceIdentifier(id)
+                    .dbInstanceArn(arn)
+                    .dbiResourceId("db-" + Integer.toHexString(arn.hashCode()).toUpperCase(Locale.ROOT))
+                    .engine(request.engine())
+                    .engineVersion(request.engineVersion())
+                    .dbInstanceClass(request.dbInstanceClass())
+                    .allocatedStorage(request.allocatedStorage())
+                    .masterUsername(request.masterUsername())
+                    .dbName(request.dbName())
+                    .multiAZ(request.multiAZ())
+                    .dbSubnetGroup(dbSubnetGroup)
+                    .dbParameterGroups(DBParameterGroupStatus.builder()
+                            .dbParameterGroupName(dbParameterGroupName)
+                            .parameterApplyStatus(PARAMETER_APPLY_STATUS_IN_SYNC)
+                            .build())
+                    .endpoint(Endpoint.builder()
+                            .address(String.format("%s.simulated.%s.rds.amazonaws.com", id, simulator.getConfig().getRegion()))
+                            .port(request.port() == null ? DEFAULT_PORT : request.port())
+                            .build())
+                    .build();
+            final SimulatedDbInstance simulated = new SimulatedDbInstance(dbInstance, new ResourceLifecycle(STATUS_AVAILABLE)
+                    .transition(now)
+                    .through(STATUS_CREATING, simulator.getConfig().getCreatingTicks())
+                    .through(STATUS_BACKING_UP, simulator.getConfig().getBackingUpTicks()));
+            dbInstances.put(id, simulated);
+            tags.put(arn, toTagMap(request.tags()));
+            return CreateDbInstanceResponse.builder().dbInstance(simulated.view(now)).build();
+        }
+    }
+
+    @Override
+    public DescribeDbInstancesResponse describeDBInstances(final DescribeDbInstancesRequest request) {
+        final long now = simulator.call("DescribeDBInstances", RdsException::builder);
+        synchronized (this) {
+            purgeDeleted(now);
+            if (request.dbInstanceIdentifier() != null) {
+                return DescribeDbInstancesResponse.builder()
+                        .dbInstances(getDbInstance(request.dbInstanceIdentifier()).view(now))
+                        .build();
+            }
+            final Predicate<DBInstance> filter = dbInstanceFilter(request.hasFilters() ? request.filters() : null);
+            final List<DBInstance> matching = dbInstances.values().stream()
+                    .map(simulated -> simulated.view(now))
+                    .filter(filter)
+                    .collect(Collectors.toList());
+            final Page<DBInstance> page = Page.of(matching, request.marker(), request.maxRecords(), simulator.getConfig().getDefaultPageSize());
+            return DescribeDbInstancesResponse.builder()
+                    .dbInstances(page.getItems())
+                    .marker(page.getNextMarker())
+                    .build();
+        }
+    }
+
+    @Override
+    public ModifyDbInstanceResponse modifyDBInstance(final ModifyDbInstanceRequest request) {
+        final long now = simulator.call("ModifyDBInstance", RdsException::builder);
+        synchronized (this) {
+            purgeDeleted(now);
+            final SimulatedDbInstance simulated = getAvailableDbInstance(request.dbInstanceIdentifier(), now);
+            final DBInstance.Builder builder = simulated.dbInstance.toBuilder();
+            if (request.dbInstanceClass() != null) {
+                builder.dbInstanceClass(request.dbInstanceClass());
+            }
+            if (request.allocatedStorage() != null) {
+                builder.allocatedStorage(request.allocatedStorage());
+            }
+            if (request.engineVersion() != null) {
+                builder.engineVersion(request.engineVersion());
+            }
+            if (request.multiAZ() != null) {
+                builder.multiAZ(request.multiAZ());
+            }
+            if (request.dbParameterGroupName() != null) {
+                builder.dbParameterGroups(DBParameterGroupStatus.builder()
+                        .dbParameterGroupName(getDbParameterGroup(request.dbParameterGroupName()).dbParameterGroupName())
+                        .parameterApplyStatus(PARAMETER_APPLY_STATUS_IN_SYNC)
+                        .build());
+            }
+            simulated.dbInstance = builder.build();
+            simulated.lifecycle.transition(now).through(STATUS_MODIFYING, simulator.getConfig().getModifyingTicks());
+            return ModifyDbInstanceResponse.builder().dbInstance(simulated.view(now)).build();
+        }
+    }
+
+    @Override
+    public RebootDbInstanceResponse rebootDBInstance(final RebootDbInstanceRequest request) {
+        final long now = simulator.call("RebootDBInstance", RdsException::builder);
+        synchronized (this) {
+            purgeDeleted(now);
+            final SimulatedDbInstance simulated = getAvailableDbInstance(request.dbInstanceIdentifier(), now);
+            simulated.lifecycle.transition(now).through(STATUS_REBOOTING, simulator.getConfig().getRebootingTicks());
+            return RebootDbInstanceResponse.builder().dbInstance(simulated.view(now)).build();
+        }
+    }
+
+    @Override
+    public DeleteDbInstanceResponse deleteDBInstance(final DeleteDbInstanceRequest request) {
+        final long now = simulator.call("DeleteDBInstance", RdsException::builder);
+        synchronized (this) {
+            purgeDeleted(now);
+            final SimulatedDbInstance simulated = getDbInstance(request.dbInstanceIdentifier());
+            if (STATUS_DELETING.equals(simulated.lifecycle.status(now))) {
+                throw ControlPlaneSimulator.error(InvalidDbInstanceStateException.builder(), "InvalidDBInstanceState",
+                        String.format("Instance %s is already being deleted.", simulated.dbInstance.dbInstanceIdentifier()));
+            }
+            simulated.lifecycle.transition(now)
+                    .through(STATUS_DELETING, simulator.getConfig().getDeletingTicks())
+                    .settle(null);
+            return DeleteDbInstanceResponse.builder().dbInstance(simulated.view(now)).build();
+        }
+    }
+
+    @Override
+    public AddRoleToDbInstanceResponse addRoleToDBInstance(final AddRoleToDbInstanceRequest request) {
+        final long now = simulator.call("AddRoleToDBInstance", RdsException::builder);
+        synchronized (this) {
+            purgeDeleted(now);
+            final SimulatedDbInstance simulated = getDbInstance(request.dbInstanceIdentifier());
+            final List<DBInstanceRole> roles = new ArrayList<>(simulated.dbInstance.associatedRoles());
+            if (roles.stream().anyMatch(role -> role.roleArn().equals(request.roleArn()))) {
+                throw ControlPlaneSimulator.error(DbInstanceRoleAlreadyExistsException.builder(), "DBInstanceRoleAlreadyExists",
+                        String.format("Role %s is already associated with the DB instance.", request.roleArn()));
+            }
+            roles.add(DBInstanceRole.builder()
+                    .roleArn(request.roleArn())
+                    .featureName(request.featureName())
+                    .status(ROLE_STATUS_ACTIVE)
+                    .build());
+            simulated.dbInstance = simulated.dbInstance.toBuilder().associatedRoles(roles).build();
+            return AddRoleToDbInstanceResponse.builder().build();
+        }
+    }
+
+    @Override
+    public RemoveRoleFromDbInstanceResponse removeRoleFromDBInstance(final RemoveRoleFromDbInstanceRequest request) {
+        final long now = simulator.call("RemoveRoleFromDBInstance", RdsException::builder);
+        synchronized (this) {
+            purgeDeleted(now);
+            final SimulatedDbInstance simulated = getDbInstance(request.dbInstanceIdentifier());
+            final List<DBInstanceRole> roles = new ArrayList<>(simulated.dbInstance.associatedRoles());
+            if (!roles.removeIf(role -> role.roleArn().equals(request.roleArn()))) {
+                throw ControlPlaneSimulator.error(DbInstanceRoleNotFoundException.builder(), "DBInstanceRoleNotFound",
+                        String.format("Role %s is not associated with the DB instance.", request.roleArn()));
+            }
+            simulated.dbInstance = simulated.dbInstance.toBuilder().associatedRoles(roles).build();
+            return RemoveRoleFromDbInstanceResponse.builder().build();
+        }
+    }
+
+    @Override
+    public CreateDbSubnetGroupResponse createDBSubnetGroup(final CreateDbSubnetGroupRequest request) {
+        simulator.call("CreateDBSubnetGroup", RdsException::builder);
+        synchronized (this) {
+            final String name = normalize(request.dbSubnetGroupName());
+            if (dbSubnetGroups.containsKey(name)) {
+                throw ControlPlaneSimulator.error(DbSubnetGroupAlreadyExistsException.builder(), "DBSubnetGroupAlreadyExists",
+                        String.format("The DB subnet group '%s' already exists.", name));
+            }
+            final String arn = simulator.arn("rds", "subgrp", name);
+            final DBSubnetGroup dbSubnetGroup = subnetGroup(DBSubnetGroup.builder()
+                    .dbSubnetGroupName(name)
+                    .dbSubnetGroupArn(arn)
+                    .subnetGroupStatus(SUBNET_GROUP_STATUS_COMPLETE), request.dbSubnetGroupDescription(), request.subnetIds());
+            dbSubnetGroups.put(name, dbSubnetGroup);
+            tags.put(arn, toTagMap(request.tags()));
+            return CreateDbSubnetGroupResponse.builder().dbSubnetGroup(dbSubnetGroup).build();
+        }
+    }
+
+    @Override
+    public DescribeDbSubnetGroupsResponse describeDBSubnetGroups(final DescribeDbSubnetGroupsRequest request) {
+        simulator.call("DescribeDBSubnetGroups", RdsException::builder);
+        synchronized (this) {
+            if (request.dbSubnetGroupName() != null) {
+                return DescribeDbSubnetGroupsResponse.builder()
+                        .dbSubnetGroups(getDbSubnetGroup(request.dbSubnetGroupName()))
+                        .build();
+            }
+            final Page<DBSubnetGroup> page = Page.of(new ArrayList<>(dbSubnetGroups.values()), request.marker(), request.maxRecords(),
+                    simulator.getConfig().getDefaultPageSize());
+            return DescribeDbSubnetGroupsResponse.builder()
+                    .dbSubnetGroups(page.getItems())
+                    .marker(page.getNextMarker())
+                    .build();
+        }
+    }
+
+    @Override
+    public ModifyDbSubnetGroupResponse modifyDBSubnetGroup(final ModifyDbSubnetGroupRequest request) {
+        simulator.call("ModifyDBSubnetGroup", RdsException::builder);
+        synchronized (this) {
+            final DBSubnetGroup current = getDbSubnetGroup(request.dbSubnetGroupName());
+            final DBSubnetGroup dbSubnetGroup = subnetGroup(current.toBuilder(),
+                    request.dbSubnetGroupDescription() == null ? current.dbSubnetGroupDescription() : request.dbSubnetGroupDescription(),
+                    request.subnetIds());
+            dbSubnetGroups.put(current.dbSubnetGroupName(), dbSubnetGroup);
+            return ModifyDbSubnetGroupResponse.builder().dbSubnetGroup(dbSubnetGroup).build();
+        }
+    }
+
+    @Override
+    public DeleteDbSubnetGroupResponse deleteDBSubnetGroup(final DeleteDbSubnetGroupRequest request) {
+        final long now = simulator.call("DeleteDBSubnetGroup", RdsException::builder);
+        synchronized (this) {
+            purgeDeleted(now);
+            final DBSubnetGroup dbSubnetGroup = getDbSubnetGroup(request.dbSubnetGroupName());
+            final boolean inUse = dbInstances.values().stream()
+                    .anyMatch(simulated -> simulated.dbInstance.dbSubnetGroup() != null &&
+                            dbSubnetGroup.dbSubnetGroupName().equals(simulated.dbInstance.dbSubnetGroup().dbSubnetGroupName()));
+            if (inUse) {
+                throw ControlPlaneSimulator.error(InvalidDbSubnetGroupStateException.builder(), "InvalidDBSubnetGroupStateFault",
+                        String.format("Cannot delete the subnet group '%s' because it is in use.", dbSubnetGroup.dbSubnetGroupName()));
+            }
+            dbSubnetGroups.remove(dbSubnetGroup.dbSubnetGroupName());
+            tags.remove(dbSubnetGroup.dbSubnetGroupArn());
+            return DeleteDbSubnetGroupResponse.builder().build();
+        }
+    }
+
+    @Override
+    public CreateDbParameterGroupResponse createDBParameterGroup(final CreateDbParameterGroupRequest request) {
+        simulator.call("CreateDBParameterGroup", RdsException::builder);
+        synchronized (this) {
+            final String name = normalize(request.dbParameterGroupName());
+            if (dbParameterGroups.containsKey(name)) {
+                throw ControlPlaneSimulator.error(DbParameterGroupAlreadyExistsException.builder(), "DBParameterGroupAlreadyExists",
+                        String.format("Parameter group %s already exists", name));
+            }
+            final String arn = simulator.arn("rds", "pg", name);
+            final DBParameterGroup dbParameterGroup = DBParameterGroup.builder()
+                    .dbParameterGroupName(name)
+                    .dbParameterGroupArn(arn)
+                    .dbParameterGroupFamily(request.dbParameterGroupFamily())
+                    .description(request.description())
+                    .build();
+            dbParameterGroups.put(name, dbParameterGroup);
+            tags.put(arn, toTagMap(request.tags()));
+            return CreateDbParameterGroupResponse.builder().dbParameterGroup(dbParameterGroup).build();
+        }
+    }
+
+    @Override
+    public DescribeDbParameterGroupsResponse describeDBParameterGroups(final DescribeDbParameterGroupsRequest request) {
+        simulator.call("DescribeDBParameterGroups", RdsException::builder);
+        synchronized (this) {
+            if (request.dbParameterGroupName() != null) {
+                return DescribeDbParameterGroupsResponse.builder()
+                        .dbParameterGroups(getDbParameterGroup(request.dbParameterGroupName()))
+                        .build();
+            }
+            final Page<DBParameterGroup> page = Page.of(new ArrayList<>(dbParameterGroups.values()), request.marker(), request.maxRecords(),
+                    simulator.getConfig().getDefaultPageSize());
+            return DescribeDbParameterGroupsResponse.builder()
+                    .dbParameterGroups(page.getItems())
+                    .marker(page.getNextMarker())
+                    .build();
+        }
+    }
+
+    @Override
+    public DescribeEngineDefaultParametersResponse describeEngineDefaultParameters(final DescribeEngineDefaultParametersRequest request) {
+        simulator.call("DescribeEngineDefaultParameters", RdsException::builder);
+        return DescribeEngineDefaultParametersResponse.builder()
+                .engineDefaults(EngineDefaults.builder()
+                        .dbParameterGroupFamily(request.dbParameterGroupFamily())
+                        .parameters(Collections.emptyList())
+                        .build())
+                .build();
+    }
+
+    @Override
+    public DescribeEngineDefaultParametersIterable describeEngineDefaultParametersPaginator(final DescribeEngineDefaultParametersRequest request) {
+        return new DescribeEngineDefaultParametersIterable(this, request);
+    }
+
+    @Override
+    public DeleteDbParameterGroupResponse deleteDBParameterGroup(final DeleteDbParameterGroupRequest request) {
+        final long now = simulator.call("DeleteDBParameterGroup", RdsException::builder);
+        synchronized (this) {
+            purgeDeleted(now);
+            final DBParameterGroup dbParameterGroup = getDbParameterGroup(request.dbParameterGroupName());
+            final boolean inUse = dbInstances.values().stream()
+                    .flatMap(simulated -> simulated.dbInstance.dbParameterGroups().stream())
+                    .anyMatch(status -> dbParameterGroup.dbParameterGroupName().equals(status.dbParameterGroupName()));
+            if (inUse) {
+                throw ControlPlaneSimulator.error(InvalidDbParameterGroupStateException.builder(), "InvalidDBParameterGroupState",
+                        String.format("One or more database instances are still members of the parameter group %s",
+                                dbParameterGroup.dbParameterGroupName()));
+            }
+            dbParameterGroups.remove(dbParameterGroup.dbParameterGroupName());
+            tags.remove(dbParameterGroup.dbParameterGroupArn());
+            return DeleteDbParameterGroupResponse.builder().build();
+        }
+    }
+
+    @Override
+    public AddTagsToResourceResponse addTagsToResource(final AddTagsToResourceRequest request) {
+        final long now = simulator.call("AddTagsToResource", RdsException::builder);
+        synchronized (this) {
+            purgeDeleted(now);
+            getTags(request.resourceName()).putAll(toTagMap(request.tags()));
+            return AddTagsToResourceResponse.builder().build();
+        }
+    }
+
+    @Override
+    public RemoveTagsFromResourceResponse removeTagsFromResource(final RemoveTagsFromResourceRequest request) {
+        final long now = simulator.call("RemoveTagsFromResource", RdsException::builder);
+        synchronized (this) {
+            purgeDeleted(now);
+            getTags(request.resourceName()).keySet().removeAll(request.tagKeys());
+            return RemoveTagsFromResourceResponse.builder().build();
+        }
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        final long now = simulator.call("ListTagsForResource", RdsException::builder);
+        synchronized (this) {
+            purgeDeleted(now);
+            return ListTagsForResourceResponse.builder()
+                    .tagList(getTags(request.resourceName()).entrySet().stream()
+                            .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private SimulatedDbInstance getDbInstance(final String dbInstanceIdentifier) {
+        final SimulatedDbInstance simulated = dbInstances.get(normalize(dbInstanceIdentifier));
+        if (simulated == null) {
+            throw ControlPlaneSimulator.error(DbInstanceNotFoundException.builder(), "DBInstanceNotFound",
+                    String.format("DBInstance %s not found.", dbInstanceIdentifier));
+        }
+        return simulated;
+    }
+
+    private SimulatedDbInstance getAvailableDbInstance(final String dbInstanceIdentifier, final long now) {
+        final SimulatedDbInstance simulated = getDbInstance(dbInstanceIdentifier);
+        if (!STATUS_AVAILABLE.equals(simulated.lifecycle.status(now))) {
+            throw ControlPlaneSimulator.error(InvalidDbInstanceStateException.builder(), "InvalidDBInstanceState",
+                    String.format("Instance %s is not in available state.", simulated.dbInstance.dbInstanceIdentifier()));
+        }
+        return simulated;
+    }
+
+    private DBSubnetGroup getDbSubnetGroup(final String dbSubnetGroupName) {
+        final DBSubnetGroup dbSubnetGroup = dbSubnetGroups.get(normalize(dbSubnetGroupName));
+        if (dbSubnetGroup == null) {
+            throw ControlPlaneSimulator.error(DbSubnetGroupNotFoundException.builder(), "DBSubnetGroupNotFoundFault",
+                    String.format("DB subnet group '%s' does not exist.", dbSubnetGroupName));
+        }
+        return dbSubnetGroup;
+    }
+
+    private DBParameterGroup getDbParameterGroup(final String dbParameterGroupName) {
+        final DBParameterGroup dbParameterGroup = dbParameterGroups.get(normalize(dbParameterGroupName));
+        if (dbParameterGroup == null) {
+            throw ControlPlaneSimulator.error(DbParameterGroupNotFoundException.builder(), "DBParameterGroupNotFound",
+                    String.format("DBParameterGroup not found: %s", dbParameterGroupName));
+        }
+        return dbParameterGroup;
+    }
+
+    private Map<String, String> getTags(final String resourceName) {
+        final Map<String, String> resourceTags = tags.get(resourceName);
+        if (resourceTags == null) {
+            throw notFoundByArn(resourceName);
+        }
+        return resourceTags;
+    }
+
+    private DBSubnetGroup subnetGroup(
+            final DBSubnetGroup.Builder builder,
+            final String description,
+            final Collection<String> subnetIds
+    ) {
+        final List<Subnet> subnets = new ArrayList<>();
+        String vpcId = null;
+        for (final String subnetId : subnetIds) {
+            final software.amazon.awssdk.services.ec2.model.Subnet ec2Subnet = simulator.ec2Client().getSubnet(subnetId);
+            if (ec2Subnet == null) {
+                throw ControlPlaneSimulator.error(InvalidSubnetException.builder(), "InvalidSubnet",
+                        String.format("Some input subnets in :[%s] are invalid.", String.join(", ", subnetIds)));
+            }
+            vpcId = ec2Subnet.vpcId();
+            subnets.add(Subnet.builder()
+                    .subnetIdentifier(subnetId)
+                    .subnetAvailabilityZone(AvailabilityZone.builder().name(ec2Subnet.availabilityZone()).build())
+                    .subnetStatus(SUBNET_STATUS_ACTIVE)
+                    .build());
+        }
+        return builder
+                .dbSubnetGroupDescription(description)
+                .vpcId(vpcId)
+                .subnets(subnets)
+                .build();
+    }
+
+    private void purgeDeleted(final long now) {
+        final Iterator<SimulatedDbInstance> iterator = dbInstances.values().iterator();
+        while (iterator.hasNext()) {
+            final SimulatedDbInstance simulated = iterator.next();
+            if (simulated.lifecycle.isGone(now)) {
+                tags.remove(simulated.dbInstance.dbInstanceArn());
+                iterator.remove();
+            }
+        }
+    }
+
+    private static Predicate<DBInstance> dbInstanceFilter(final List<Filter> filters) {
+        Predicate<DBInstance> predicate = dbInstance -> true;
+        if (filters == null) {
+            return predicate;
+        }
+        for (final Filter filter : filters) {
+            if (!DB_INSTANCE_ID_FILTER.equals(filter.name())) {
+                throw ControlPlaneSimulator.error(RdsException.builder(), "InvalidParameterValue",
+                        String.format("Unrecognized filter name: %s", filter.name()));
+            }
+            final List<String> values = filter.values().stream().map(SimulatedRdsClient::normalize).collect(Collectors.toList());
+            predicate = predicate.and(dbInstance -> values.contains(dbInstance.dbInstanceIdentifier()) ||
+                    values.contains(normalize(dbInstance.dbInstanceArn())));
+        }
+        return predicate;
+    }
+
+    private static AwsServiceException notFoundByArn(final String arn) {
+        if (arn != null && arn.contains(":subgrp:")) {
+            return ControlPlaneSimulator.error(DbSubnetGroupNotFoundException.builder(), "DBSubnetGroupNotFoundFault",
+                    String.format("DB subnet group '%s' does not exist.", arn));
+        }
+        if (arn != null && arn.contains(":pg:")) {
+            return ControlPlaneSimulator.error(DbParameterGroupNotFoundException.builder(), "DBParameterGroupNotFound",
+                    String.format("DBParameterGroup not found: %s", arn));
+        }
+        return ControlPlaneSimulator.error(DbInstanceNotFoundException.builder(), "DBInstanceNotFound",
+                String.format("DBInstance %s not found.", arn));
+    }
+
+    private static Map<String, String> toTagMap(final Collection<Tag> tagList) {
+        final Map<String, String> tagMap = new LinkedHashMap<>();
+        if (tagList != null) {
+            for (final Tag tag : tagList) {
+                tagMap.put(tag.key(), tag.value());
+            }
+        }
+        return tagMap;
+    }
+
+    private static String normalize(final String identifier) {
+        return identifier == null ? null : identifier.toLowerCase(Locale.ROOT);
+    }
+
+    private static class SimulatedDbInstance {
+        private DBInstance dbInstance;
+        private final ResourceLifecycle lifecycle;
+
+        SimulatedDbInstance(final DBInstance dbInstance, final ResourceLifecycle lifecycle) {
+            this.dbInstance = dbInstance;
+            this.lifecycle = lifecycle;
+        }
+
+        DBInstance view(final long now) {
+            return dbInstance.toBuilder().dbInstanceStatus(lifecycle.status(now)).build();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package software.amazon.rds.common.test.simulator;
+
+import java.time.Duration;
+
+/**
+ * Tunables of a {@link ControlPlaneSimulator}. Lifecycle durations are expressed in ticks of the simulator clock;
+ * every API call advances the clock by one tick.
+ */
+@lombok.Builder(toBuilder = true)
+@lombok.Getter
+public class SimulatorConfig {
+
+    @lombok.Builder.Default
+    private final String region = "us-east-1";
+    @lombok.Builder.Default
+    private final String accountId = "123456789012";
+
+    // wall time every API call takes before it is served
+    @lombok.Builder.Default
+    private final Duration latency = Duration.ZERO;
+    // share of API calls, between 0 and 1, rejected with a throttling error
+    @lombok.Builder.Default
+    private final double throttleRate = 0.0;
+    @lombok.Builder.Default
+    private final long seed = 0L;
+    @lombok.Builder.Default
+    private final int defaultPageSize = 100;
+
+    @lombok.Builder.Default
+    private final long creatingTicks = 3;
+    @lombok.Builder.Default
+    private final long backingUpTicks = 2;
+    @lombok.Builder.Default
+    private final long modifyingTicks = 2;
+    @lombok.Builder.Default
+    private final long rebootingTicks = 2;
+    @lombok.Builder.Default
+    private final long deletingTicks = 2;
+}
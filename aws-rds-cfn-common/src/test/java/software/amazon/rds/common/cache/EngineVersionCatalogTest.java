@@ -0,0 +1,86 @@
+package software.amazon.rds.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBEngineVersion;
+import software.amazon.awssdk.services.rds.model.DescribeDbEngineVersionsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbEngineVersionsResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+@ExtendWith(MockitoExtension.class)
+class EngineVersionCatalogTest {
+
+    @Mock
+    private ProxyClient<RdsClient> proxyClient;
+
+    @Mock
+    private RdsClient rdsClient;
+
+    private ExpiringCacheTest.MutableClock clock;
+
+    private EngineVersionCatalog catalog;
+
+    @BeforeEach
+    public void setup() {
+        clock = new ExpiringCacheTest.MutableClock();
+        catalog = new EngineVersionCatalog(Duration.ofHours(1), clock);
+    }
+
+    @Test
+    void hasEngineVersion_CachesServiceResponse() {
+        stubDescribe(DescribeDbEngineVersionsResponse.builder().build());
+
+        assertThat(catalog.hasEngineVersion(proxyClient, request("mysql", "5.6", "mysql8.0"))).isFalse();
+        assertThat(catalog.hasEngineVersion(proxyClient, request("mysql", "5.6", "mysql8.0"))).isFalse();
+        verify(rdsClient, times(1)).describeDBEngineVersions(any(DescribeDbEngineVersionsRequest.class));
+    }
+
+    @Test
+    void hasEngineVersion_RefreshesAfterTtl() {
+        stubDescribe(DescribeDbEngineVersionsResponse.builder()
+                .dbEngineVersions(DBEngineVersion.builder().build())
+                .build());
+
+        assertThat(catalog.hasEngineVersion(proxyClient, request("mysql", "8.0.28", "mysql8.0"))).isTrue();
+        clock.advance(Duration.ofHours(1));
+        assertThat(catalog.hasEngineVersion(proxyClient, request("mysql", "8.0.28", "mysql8.0"))).isTrue();
+        verify(rdsClient, times(2)).describeDBEngineVersions(any(DescribeDbEngineVersionsRequest.class));
+    }
+
+    private void stubDescribe(final DescribeDbEngineVersionsResponse response) {
+        when(proxyClient.client()).thenReturn(rdsClient);
+        when(proxyClient.injectCredentialsAndInvokeV2(any(), any())).thenAnswer(invocation -> {
+            final Function<AwsRequest, AwsResponse> requestFunction = invocation.getArgument(1);
+            return requestFunction.apply(invocation.getArgument(0));
+        });
+        when(rdsClient.describeDBEngineVersions(any(DescribeDbEngineVersionsRequest.class))).thenReturn(response);
+    }
+
+    private static DescribeDbEngineVersionsRequest request(
+            final String engine,
+            final String engineVersion,
+            final String dbParameterGroupFamily
+    ) {
+        return DescribeDbEngineVersionsRequest.builder()
+                .engine(engine)
+                .engineVersion(engineVersion)
+                .dbParameterGroupFamily(dbParameterGroupFamily)
+                .build();
+    }
+}
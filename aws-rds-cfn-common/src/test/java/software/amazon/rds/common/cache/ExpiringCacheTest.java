@@ -0,0 +1,95 @@
+package software.amazon.rds.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ExpiringCacheTest {
+
+    static class MutableClock extends Clock {
+        private Instant instant = Instant.EPOCH;
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @Test
+    public void get_LoadsOnceWithinTtl() {
+        final MutableClock clock = new MutableClock();
+        final ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofMinutes(5), 10, clock);
+        final AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("key", k -> k + loads.incrementAndGet())).isEqualTo("key1");
+        clock.advance(Duration.ofMinutes(4));
+        assertThat(cache.get("key", k -> k + loads.incrementAndGet())).isEqualTo("key1");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_ReloadsExpiredEntry() {
+        final MutableClock clock = new MutableClock();
+        final ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofMinutes(5), 10, clock);
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.get("key", k -> k + loads.incrementAndGet());
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThat(cache.getIfPresent("key")).isEmpty();
+        assertThat(cache.get("key", k -> k + loads.incrementAndGet())).isEqualTo("key2");
+    }
+
+    @Test
+    public void get_DoesNotCacheNull() {
+        final ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofMinutes(5));
+
+        assertThat(cache.get("key", k -> null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void put_EvictsLeastRecentlyUsed() {
+        final ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofMinutes(5), 2, new MutableClock());
+
+        cache.put("first", "1");
+        cache.put("second", "2");
+        cache.getIfPresent("first");
+        cache.put("third", "3");
+
+        assertThat(cache.getIfPresent("first")).contains("1");
+        assertThat(cache.getIfPresent("second")).isEmpty();
+        assertThat(cache.getIfPresent("third")).contains("3");
+    }
+
+    @Test
+    public void invalidate_RemovesEntry() {
+        final ExpiringCache<String, String> cache = new ExpiringCache<>(Duration.ofMinutes(5));
+
+        cache.put("key", "value");
+        cache.invalidate("key");
+
+        assertThat(cache.getIfPresent("key")).isEmpty();
+    }
+}
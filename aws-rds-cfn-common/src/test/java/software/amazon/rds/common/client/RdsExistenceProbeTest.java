@@ -0,0 +1,99 @@
+package software.amazon.rds.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBClusterEndpoint;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DescribeDbClusterEndpointsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClusterEndpointsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+@ExtendWith(MockitoExtension.class)
+class RdsExistenceProbeTest {
+
+    @Mock
+    private ProxyClient<RdsClient> proxyClient;
+
+    @Mock
+    private RdsClient rdsClient;
+
+    @BeforeEach
+    public void setup() {
+        when(proxyClient.client()).thenReturn(rdsClient);
+        when(proxyClient.injectCredentialsAndInvokeV2(any(), any())).thenAnswer(invocation -> {
+            final Function<AwsRequest, AwsResponse> requestFunction = invocation.getArgument(1);
+            return requestFunction.apply(invocation.getArgument(0));
+        });
+    }
+
+    @Test
+    void dbInstanceExists_FilteredEmptyList() {
+        final List<DescribeDbInstancesRequest> requests = new ArrayList<>();
+        when(rdsClient.describeDBInstances(any(DescribeDbInstancesRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            return DescribeDbInstancesResponse.builder().build();
+        });
+
+        assertThat(RdsExistenceProbe.dbInstanceExists(proxyClient, "DB-Instance")).isFalse();
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).dbInstanceIdentifier()).isNull();
+        assertThat(requests.get(0).filters()).hasSize(1);
+        assertThat(requests.get(0).filters().get(0).name()).isEqualTo("db-instance-id");
+        assertThat(requests.get(0).filters().get(0).values()).containsExactly("db-instance");
+    }
+
+    @Test
+    void dbInstanceExists_NotFound() {
+        when(rdsClient.describeDBInstances(any(DescribeDbInstancesRequest.class)))
+                .thenThrow(DbInstanceNotFoundException.builder().message("not found").build());
+
+        assertThat(RdsExistenceProbe.dbInstanceExists(proxyClient, "db-instance")).isFalse();
+    }
+
+    @Test
+    void dbClusterExists_Found() {
+        final List<DescribeDbClustersRequest> requests = new ArrayList<>();
+        when(rdsClient.describeDBClusters(any(DescribeDbClustersRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            return DescribeDbClustersResponse.builder()
+                    .dbClusters(DBCluster.builder().dbClusterIdentifier("db-cluster").status("deleting").build())
+                    .build();
+        });
+
+        assertThat(RdsExistenceProbe.dbClusterExists(proxyClient, "db-cluster")).isTrue();
+        assertThat(requests.get(0).dbClusterIdentifier()).isNull();
+        assertThat(requests.get(0).filters().get(0).name()).isEqualTo("db-cluster-id");
+    }
+
+    @Test
+    void dbClusterEndpointExists_EmptyList() {
+        when(rdsClient.describeDBClusterEndpoints(any(DescribeDbClusterEndpointsRequest.class)))
+                .thenReturn(DescribeDbClusterEndpointsResponse.builder().build())
+                .thenReturn(DescribeDbClusterEndpointsResponse.builder()
+                        .dbClusterEndpoints(DBClusterEndpoint.builder().dbClusterEndpointIdentifier("endpoint").build())
+                        .build());
+
+        assertThat(RdsExistenceProbe.dbClusterEndpointExists(proxyClient, "endpoint")).isFalse();
+        assertThat(RdsExistenceProbe.dbClusterEndpointExists(proxyClient, "endpoint")).isTrue();
+    }
+}
@@ -0,0 +1,132 @@
+package software.amazon.rds.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import lombok.Data;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+public class ExecutionPlanTest {
+
+    @Data
+    private static class Context {
+        private boolean firstDone;
+        private boolean secondDone;
+    }
+
+    @Test
+    public void execute_RespectsDependencies() {
+        final List<String> trace = new CopyOnWriteArrayList<>();
+
+        final ExecutionPlan<Void, Context> plan = ExecutionPlan.<Void, Context>builder()
+                .step("third", progress -> record(trace, "third", progress), "first", "second")
+                .step("first", progress -> record(trace, "first", progress))
+                .step("second", progress -> record(trace, "second", progress), "first")
+                .build();
+
+        final ProgressEvent<Void, Context> result = plan.execute(ProgressEvent.progress(null, new Context()));
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(trace).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    public void execute_RunsIndependentStepsConcurrently() {
+        final CountDownLatch latch = new CountDownLatch(2);
+
+        final ExecutionPlan<Void, Context> plan = ExecutionPlan.<Void, Context>builder()
+                .step("left", progress -> await(latch, progress))
+                .step("right", progress -> await(latch, progress))
+                .build();
+
+        final ProgressEvent<Void, Context> result = plan.execute(ProgressEvent.progress(null, new Context()));
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(latch.getCount()).isZero();
+    }
+
+    @Test
+    public void execute_SkipsCompletedAndDisabledSteps() {
+        final List<String> trace = new CopyOnWriteArrayList<>();
+        final Context context = new Context();
+        context.setFirstDone(true);
+
+        final ExecutionPlan<Void, Context> plan = ExecutionPlan.<Void, Context>builder()
+                .stepOnce("first", progress -> record(trace, "first", progress), Context::isFirstDone, Context::setFirstDone)
+                .stepIf(false, "disabled", progress -> record(trace, "disabled", progress))
+                .stepOnce("second", progress -> record(trace, "second", progress), Context::isSecondDone, Context::setSecondDone, "first", "disabled")
+                .build();
+
+        final ProgressEvent<Void, Context> result = plan.execute(ProgressEvent.progress(null, context));
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(trace).containsExactly("second");
+        assertThat(context.isSecondDone()).isTrue();
+    }
+
+    @Test
+    public void execute_StopsOnFailure() {
+        final List<String> trace = new CopyOnWriteArrayList<>();
+
+        final ExecutionPlan<Void, Context> plan = ExecutionPlan.<Void, Context>builder()
+                .step("first", progress -> ProgressEvent.failed(null, progress.getCallbackContext(), HandlerErrorCode.InternalFailure, "failed"))
+                .step("second", progress -> record(trace, "second", progress), "first")
+                .build();
+
+        final ProgressEvent<Void, Context> result = plan.execute(ProgressEvent.progress(null, new Context()));
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.InternalFailure);
+        assertThat(trace).isEmpty();
+    }
+
+    @Test
+    public void build_RejectsCycles() {
+        assertThatThrownBy(() -> ExecutionPlan.<Void, Context>builder()
+                .step("first", progress -> progress, "second")
+                .step("second", progress -> progress, "first")
+                .build()
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void build_RejectsUnknownDependencies() {
+        assertThatThrownBy(() -> ExecutionPlan.<Void, Context>builder()
+                .step("first", progress -> progress, "unknown")
+                .build()
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ProgressEvent<Void, Context> record(
+            final List<String> trace,
+            final String name,
+            final ProgressEvent<Void, Context> progress
+    ) {
+        trace.add(name);
+        return progress;
+    }
+
+    private static ProgressEvent<Void, Context> await(
+            final CountDownLatch latch,
+            final ProgressEvent<Void, Context> progress
+    ) {
+        latch.countDown();
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                return ProgressEvent.failed(null, progress.getCallbackContext(), HandlerErrorCode.InternalFailure, "timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return progress;
+    }
+}
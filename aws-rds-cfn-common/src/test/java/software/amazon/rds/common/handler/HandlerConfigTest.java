@@ -1,6 +1,7 @@
 package software.amazon.rds.common.handler;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Duration;
 
@@ -32,6 +33,20 @@ public class HandlerConfigTest {
         final HandlerConfig config = HandlerConfig.builder().build();
         assertThat(config.isProbingEnabled()).isNotNull();
         assertThat(config.getBackoff()).isNotNull();
+        assertThat(config.getListPageSize()).isEqualTo(100);
     }
 
+    @Test
+    public void test_HandlerConfigBuilder_ListPageSize() {
+        assertThat(HandlerConfig.builder().listPageSize(20).build().getListPageSize()).isEqualTo(20);
+        assertThat(HandlerConfig.builder().listPageSize(100).build().getListPageSize()).isEqualTo(100);
+    }
+
+    @Test
+    public void test_HandlerConfigBuilder_ListPageSizeOutOfRange() {
+        assertThatThrownBy(() -> HandlerConfig.builder().listPageSize(19))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HandlerConfig.builder().listPageSize(101))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
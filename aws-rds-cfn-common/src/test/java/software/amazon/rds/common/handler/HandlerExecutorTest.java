@@ -0,0 +1,50 @@
+package software.amazon.rds.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class HandlerExecutorTest {
+
+    @Test
+    public void bounded_LimitsConcurrency() {
+        final Executor executor = HandlerExecutor.bounded(2);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+        assertThat(maxRunning.get()).isBetween(1, 2);
+    }
+
+    @Test
+    public void shared_RunsOnDaemonThreads() {
+        final boolean daemon = CompletableFuture.supplyAsync(() -> Thread.currentThread().isDaemon(), HandlerExecutor.shared()).join();
+
+        assertThat(daemon).isTrue();
+    }
+
+    @Test
+    public void bounded_RejectsNonPositiveConcurrency() {
+        assertThatThrownBy(() -> HandlerExecutor.bounded(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
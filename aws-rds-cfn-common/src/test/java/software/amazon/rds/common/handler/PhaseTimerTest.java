@@ -0,0 +1,153 @@
+package software.amazon.rds.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+public class PhaseTimerTest {
+
+    private static final String CREATE_PHASE = "rds::create-db-instance";
+    private static final String STABILIZE_PHASE = "rds::stabilize-db-instance-CreateHandler";
+
+    @Test
+    public void time_AccumulatesAcrossInvocations() {
+        final PhaseTimingCallbackContext context = new PhaseTimingCallbackContext();
+        final ProgressEvent<Void, PhaseTimingCallbackContext> progress = ProgressEvent.progress(null, context);
+
+        for (int i = 0; i < 3; i++) {
+            PhaseTimer.time(CREATE_PHASE, progress, () -> {
+                PhaseTimer.recordApiCall(DescribeDbInstancesRequest.builder().build());
+                return progress;
+            });
+        }
+
+        final PhaseTimingContext.PhaseTiming timing = context.getPhaseTimingContext().getPhases().get(CREATE_PHASE);
+        assertThat(timing.getPolls()).isEqualTo(3);
+        assertThat(timing.getDescribes()).isEqualTo(3);
+        assertThat(timing.getApiCalls()).isEqualTo(3);
+        assertThat(timing.getStartedAt()).isPositive();
+        assertThat(timing.getFinishedAt()).isGreaterThanOrEqualTo(timing.getStartedAt());
+    }
+
+    @Test
+    public void time_AttributesCallsToInnermostPhase() {
+        final PhaseTimingCallbackContext context = new PhaseTimingCallbackContext();
+        final ProgressEvent<Void, PhaseTimingCallbackContext> progress = ProgressEvent.progress(null, context);
+
+        PhaseTimer.time(CREATE_PHASE, progress, () -> {
+            PhaseTimer.recordApiCall(CreateDbInstanceRequest.builder().build());
+            PhaseTimer.time(STABILIZE_PHASE, progress, () -> {
+                PhaseTimer.recordApiCall(DescribeDbInstancesRequest.builder().build());
+                return progress;
+            });
+            PhaseTimer.recordApiCall(DescribeDbInstancesRequest.builder().build());
+            return progress;
+        });
+        // outside of any phase
+        PhaseTimer.recordApiCall(DescribeDbInstancesRequest.builder().build());
+
+        final Map<String, PhaseTimingContext.PhaseTiming> phases = context.getPhaseTimingContext().getPhases();
+        assertThat(phases.keySet()).containsExactly(CREATE_PHASE, STABILIZE_PHASE);
+        assertThat(phases.get(CREATE_PHASE).getApiCalls()).isEqualTo(2);
+        assertThat(phases.get(CREATE_PHASE).getDescribes()).isEqualTo(1);
+        assertThat(phases.get(STABILIZE_PHASE).getApiCalls()).isEqualTo(1);
+        assertThat(phases.get(STABILIZE_PHASE).getDescribes()).isEqualTo(1);
+    }
+
+    @Test
+    public void time_NoProviderContext() {
+        final ProgressEvent<Void, Void> progress = ProgressEvent.progress(null, null);
+        assertThat(PhaseTimer.time(CREATE_PHASE, progress, () -> progress)).isSameAs(progress);
+    }
+
+    @Test
+    public void execOnce_TimesPhase() {
+        final PhaseTimingCallbackContext context = new PhaseTimingCallbackContext();
+        final ProgressEvent<Void, PhaseTimingCallbackContext> progress = ProgressEvent.progress(null, context);
+
+        Commons.execOnce(progress, CREATE_PHASE, () -> progress, c -> c.isCreated(), (c, v) -> c.setCreated(v));
+        Commons.execOnce(progress, CREATE_PHASE, () -> progress, c -> c.isCreated(), (c, v) -> c.setCreated(v));
+
+        assertThat(context.isCreated()).isTrue();
+        assertThat(context.getPhaseTimingContext().getPhases().get(CREATE_PHASE).getPolls()).isEqualTo(1);
+    }
+
+    @Test
+    public void propagate_AttributesCallsOnExecutorThreads() {
+        final PhaseTimingCallbackContext context = new PhaseTimingCallbackContext();
+        final ProgressEvent<Void, PhaseTimingCallbackContext> progress = ProgressEvent.progress(null, context);
+
+        PhaseTimer.time(CREATE_PHASE, progress, () -> {
+            CompletableFuture.supplyAsync(PhaseTimer.propagate(() -> {
+                PhaseTimer.recordApiCall(DescribeDbInstancesRequest.builder().build());
+                return null;
+            }), HandlerExecutor.shared()).join();
+            // not propagated
+            CompletableFuture.supplyAsync(() -> {
+                PhaseTimer.recordApiCall(DescribeDbInstancesRequest.builder().build());
+                return null;
+            }, HandlerExecutor.shared()).join();
+            return progress;
+        });
+
+        final PhaseTimingContext.PhaseTiming timing = context.getPhaseTimingContext().getPhases().get(CREATE_PHASE);
+        assertThat(timing.getApiCalls()).isEqualTo(1);
+        assertThat(timing.getDescribes()).isEqualTo(1);
+    }
+
+    @Test
+    public void executionPlan_TimesEveryStep() {
+        final PhaseTimingCallbackContext context = new PhaseTimingCallbackContext();
+
+        ExecutionPlan.<Void, PhaseTimingCallbackContext>builder()
+                .step("left", progress -> {
+                    PhaseTimer.recordApiCall(DescribeDbInstancesRequest.builder().build());
+                    return progress;
+                })
+                .step("right", progress -> {
+                    PhaseTimer.recordApiCall(CreateDbInstanceRequest.builder().build());
+                    return progress;
+                })
+                .build()
+                .execute(ProgressEvent.progress(null, context));
+
+        final Map<String, PhaseTimingContext.PhaseTiming> phases = context.getPhaseTimingContext().getPhases();
+        assertThat(phases.keySet()).containsExactlyInAnyOrder("left", "right");
+        assertThat(phases.get("left").getDescribes()).isEqualTo(1);
+        assertThat(phases.get("right").getApiCalls()).isEqualTo(1);
+        assertThat(phases.get("right").getDescribes()).isZero();
+    }
+
+    @Test
+    public void summary_ContainsAllPhases() {
+        final PhaseTimingContext phaseTimingContext = new PhaseTimingContext();
+        final PhaseTimingContext.PhaseTiming timing = phaseTimingContext.phase(CREATE_PHASE);
+        timing.setStartedAt(1_000L);
+        timing.setFinishedAt(61_000L);
+        timing.setActiveMillis(1_500L);
+        timing.setPolls(4);
+        timing.setDescribes(12);
+        timing.setApiCalls(13);
+
+        final Map<String, Long> summary = phaseTimingContext.summary().get(CREATE_PHASE);
+        assertThat(summary.get("wallMillis")).isEqualTo(60_000L);
+        assertThat(summary.get("activeMillis")).isEqualTo(1_500L);
+        assertThat(summary.get("polls")).isEqualTo(4L);
+        assertThat(summary.get("describes")).isEqualTo(12L);
+        assertThat(summary.get("apiCalls")).isEqualTo(13L);
+    }
+
+    @lombok.Getter
+    @lombok.Setter
+    static class PhaseTimingCallbackContext implements PhaseTimingContext.Provider {
+        private final PhaseTimingContext phaseTimingContext = new PhaseTimingContext();
+        private boolean created;
+    }
+}
@@ -0,0 +1,37 @@
+package software.amazon.rds.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class ProgressiveBackoffTest {
+
+    private static final ProgressiveBackoff BACKOFF = ProgressiveBackoff.builder()
+            .minDelay(Duration.ofSeconds(5))
+            .maxDelay(Duration.ofSeconds(30))
+            .timeout(Duration.ofMinutes(2))
+            .build();
+
+    @Test
+    public void nextDelay_GrowsUpToMaxDelay() {
+        assertThat(BACKOFF.nextDelay(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(BACKOFF.nextDelay(2)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(BACKOFF.nextDelay(3)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(BACKOFF.nextDelay(4)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(BACKOFF.nextDelay(5)).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void nextDelay_ZeroAfterTimeout() {
+        // 5 + 10 + 20 + 30 + 30 = 95s, another 30s would exceed the 2 minute timeout
+        assertThat(BACKOFF.nextDelay(5)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(BACKOFF.nextDelay(6)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void builder_DefaultFactor() {
+        assertThat(BACKOFF.getFactor()).isEqualTo(2.0);
+    }
+}
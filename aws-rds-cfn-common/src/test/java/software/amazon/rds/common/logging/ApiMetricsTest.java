@@ -0,0 +1,74 @@
+package software.amazon.rds.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RdsException;
+
+class ApiMetricsTest {
+
+    @Test
+    void toEmf() {
+        final ApiMetrics metrics = new ApiMetrics();
+        metrics.record(DescribeDbInstancesRequest.builder().build(), 20, null);
+        metrics.record(DescribeDbInstancesRequest.builder().build(), 40, DbInstanceNotFoundException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("DBInstanceNotFound").build())
+                .build());
+        metrics.record(ModifyDbInstanceRequest.builder().build(), 100, RdsException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").build())
+                .statusCode(400)
+                .build());
+
+        final JSONObject record = new JSONObject(metrics.toEmf(1234L, Collections.singletonMap("StackId", "stack")));
+
+        assertThat(record.getJSONObject("_aws").getLong("Timestamp")).isEqualTo(1234L);
+        final JSONObject directive = record.getJSONObject("_aws").getJSONArray("CloudWatchMetrics").getJSONObject(0);
+        assertThat(directive.getString("Namespace")).isEqualTo(ApiMetrics.NAMESPACE);
+        assertThat(directive.getJSONArray("Dimensions").getJSONArray(0).length()).isEqualTo(0);
+        final JSONArray definitions = directive.getJSONArray("Metrics");
+        for (int i = 0; i < definitions.length(); i++) {
+            assertThat(record.has(definitions.getJSONObject(i).getString("Name"))).isTrue();
+        }
+
+        assertThat(record.getJSONArray("DescribeDbInstances.Latency").length()).isEqualTo(2);
+        assertThat(record.getLong("DescribeDbInstances.Calls")).isEqualTo(2);
+        assertThat(record.getLong("DescribeDbInstances.Errors")).isEqualTo(1);
+        assertThat(record.getLong("DescribeDbInstances.Errors.DBInstanceNotFound")).isEqualTo(1);
+        assertThat(record.getLong("DescribeDbInstances.Throttles")).isEqualTo(0);
+        assertThat(record.getLong("ModifyDbInstance.Errors.Throttling")).isEqualTo(1);
+        assertThat(record.getLong("ModifyDbInstance.Throttles")).isEqualTo(1);
+        assertThat(record.getJSONObject("ModifyDbInstance.LatencyPercentiles").getLong("max")).isEqualTo(100);
+        assertThat(record.getString("StackId")).isEqualTo("stack");
+    }
+
+    @Test
+    void toEmf_SplitsDirectivesAtMetricLimit() {
+        final ApiMetrics metrics = new ApiMetrics();
+        for (int i = 0; i < 120; i++) {
+            metrics.record(DescribeDbInstancesRequest.builder().build(), 1, RdsException.builder()
+                    .awsErrorDetails(AwsErrorDetails.builder().errorCode("Code" + i).build())
+                    .build());
+        }
+
+        final JSONObject record = new JSONObject(metrics.toEmf(0L, null));
+        final JSONArray directives = record.getJSONObject("_aws").getJSONArray("CloudWatchMetrics");
+        assertThat(directives.length()).isEqualTo(2);
+        assertThat(directives.getJSONObject(0).getJSONArray("Metrics").length()).isEqualTo(100);
+        assertThat(directives.getJSONObject(1).getJSONArray("Metrics").length()).isEqualTo(4 + 120 - 100);
+    }
+
+    @Test
+    void operationName() {
+        assertThat(ApiMetrics.operationName(DescribeDbInstancesRequest.builder().build())).isEqualTo("DescribeDbInstances");
+        assertThat(ApiMetrics.operationName(null)).isEqualTo("Unknown");
+    }
+}
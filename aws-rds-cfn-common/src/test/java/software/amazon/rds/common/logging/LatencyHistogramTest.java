@@ -0,0 +1,59 @@
+package software.amazon.rds.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketIndex_RoundTripsBucketLowerBound() {
+        for (long value = 0; value < 100_000; value++) {
+            final long lowerBound = LatencyHistogram.bucketLowerBound(LatencyHistogram.bucketIndex(value));
+            assertThat(lowerBound).isLessThanOrEqualTo(value);
+            assertThat(value - lowerBound).isLessThanOrEqualTo(Math.max(0, value / LatencyHistogram.SUB_BUCKET_COUNT));
+        }
+    }
+
+    @Test
+    void getValueAtPercentile() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        assertThat(histogram.getTotalCount()).isEqualTo(100);
+        assertThat(histogram.getSum()).isEqualTo(5050);
+        assertThat(histogram.getMax()).isEqualTo(100);
+        assertThat(histogram.getValueAtPercentile(50.0)).isBetween(47L, 50L);
+        assertThat(histogram.getValueAtPercentile(99.0)).isBetween(93L, 99L);
+    }
+
+    @Test
+    void getValueAtPercentile_Empty() {
+        assertThat(new LatencyHistogram().getValueAtPercentile(99.0)).isEqualTo(0);
+    }
+
+    @Test
+    void record_ClampsOutOfRangeValues() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+
+        assertThat(histogram.getTotalCount()).isEqualTo(2);
+        assertThat(histogram.getMax()).isEqualTo(LatencyHistogram.MAX_TRACKABLE_VALUE);
+        assertThat(histogram.getValueAtPercentile(0.0)).isEqualTo(0);
+    }
+
+    @Test
+    void getRepresentativeValues_ScalesDownToLimit() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 1000; i++) {
+            histogram.record(10);
+        }
+        histogram.record(5000);
+
+        assertThat(histogram.getRepresentativeValues(100)).hasSize(100).contains(10L, 4864L);
+        assertThat(histogram.getRepresentativeValues(2000)).hasSize(1001);
+    }
+}
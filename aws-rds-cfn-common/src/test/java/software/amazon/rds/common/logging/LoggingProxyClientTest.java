@@ -1,6 +1,7 @@
 package software.amazon.rds.common.logging;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -8,6 +9,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.concurrent.CompletableFuture;
 
+import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -103,4 +105,21 @@ class LoggingProxyClientTest extends ProxyClientTestBase {
         verify(logger, times(2)).log(captor.capture());
         assertThat(captor.getValue().contains(STACK_ID)).isTrue();
     }
+
+    @Test
+    void test_injectCredentialsAndInvokeV2_RecordsMetrics() {
+        final RequestLogger requestLogger = new RequestLogger(logger, request, new FilteredJsonPrinter());
+        final ProxyClient<RdsClient> proxyRdsClient = new LoggingProxyClient<>(requestLogger, proxy);
+        when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenReturn(awsResponse)
+                .thenThrow(new IllegalStateException("test exception"));
+
+        proxyRdsClient.injectCredentialsAndInvokeV2(awsRequest, request -> awsResponse);
+        assertThatThrownBy(() -> proxyRdsClient.injectCredentialsAndInvokeV2(awsRequest, request -> awsResponse))
+                .isInstanceOf(IllegalStateException.class);
+
+        final JSONObject record = new JSONObject(requestLogger.getApiMetrics().toEmf(0L, null));
+        assertThat(record.getLong("DescribeDbInstances.Calls")).isEqualTo(2);
+        assertThat(record.getLong("DescribeDbInstances.Errors.IllegalStateException")).isEqualTo(1);
+    }
 }
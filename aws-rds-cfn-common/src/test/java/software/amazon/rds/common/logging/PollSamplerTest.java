@@ -0,0 +1,67 @@
+package software.amazon.rds.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.PendingModifiedValues;
+
+class PollSamplerTest {
+
+    private static final DescribeDbInstancesRequest DESCRIBE_REQUEST = DescribeDbInstancesRequest.builder()
+            .dbInstanceIdentifier("db-instance")
+            .build();
+
+    @Test
+    void sample_ReportsChangedFieldsOnly() {
+        final PollSampler sampler = new PollSampler();
+        final DBInstance modifying = DBInstance.builder()
+                .dbInstanceIdentifier("db-instance")
+                .dbInstanceStatus("modifying")
+                .pendingModifiedValues(PendingModifiedValues.builder().dbInstanceClass("db.m5.large").build())
+                .dbParameterGroups(DBParameterGroupStatus.builder().dbParameterGroupName("default").parameterApplyStatus("applying").build())
+                .build();
+        final DBInstance available = modifying.toBuilder()
+                .dbInstanceStatus("available")
+                .pendingModifiedValues(PendingModifiedValues.builder().build())
+                .dbParameterGroups(DBParameterGroupStatus.builder().dbParameterGroupName("default").parameterApplyStatus("pending-reboot").build())
+                .build();
+
+        assertThat(sampler.sample(DESCRIBE_REQUEST, response(modifying)).getKind()).isEqualTo(PollSampler.Kind.FIRST);
+        assertThat(sampler.sample(DESCRIBE_REQUEST, response(modifying)).getKind()).isEqualTo(PollSampler.Kind.UNCHANGED);
+        final PollSampler.Sample sample = sampler.sample(DESCRIBE_REQUEST, response(available));
+
+        assertThat(sample.getKind()).isEqualTo(PollSampler.Kind.CHANGED);
+        assertThat(sample.getUnchangedPolls()).isEqualTo(1);
+        assertThat(sample.getChanges()).containsOnlyKeys(
+                "DBInstances[0].DBInstanceStatus",
+                "DBInstances[0].PendingModifiedValues.DBInstanceClass",
+                "DBInstances[0].DBParameterGroups[0].ParameterApplyStatus"
+        );
+        assertThat(sample.getChanges().get("DBInstances[0].DBInstanceStatus")).isEqualTo("available");
+
+        final List<PollSampler.LastResponse> lastResponses = sampler.drain();
+        assertThat(lastResponses).hasSize(1);
+        assertThat(lastResponses.get(0).getResponse()).isEqualTo(response(available));
+        assertThat(lastResponses.get(0).getPolls()).isEqualTo(3);
+        assertThat(sampler.drain()).isEmpty();
+    }
+
+    @Test
+    void isPoll_DescribeRequestsOnly() {
+        assertThat(PollSampler.isPoll(DESCRIBE_REQUEST)).isTrue();
+        assertThat(PollSampler.isPoll(ListTagsForResourceRequest.builder().build())).isFalse();
+        assertThat(PollSampler.isPoll(null)).isFalse();
+    }
+
+    private static DescribeDbInstancesResponse response(final DBInstance dbInstance) {
+        return DescribeDbInstancesResponse.builder().dbInstances(dbInstance).build();
+    }
+}
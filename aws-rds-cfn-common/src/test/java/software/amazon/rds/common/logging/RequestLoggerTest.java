@@ -4,8 +4,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -13,8 +18,13 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.handler.PhaseTimingContext;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
 
 @ExtendWith(MockitoExtension.class)
@@ -89,4 +99,162 @@ public class RequestLoggerTest {
         verify(logger, atLeast(1)).log(captor.capture());
         assertThat(captor.getValue().contains(AWS_ACCOUNT_ID)).isTrue();
     }
+
+    @Test
+    void test_handle_request_flushes_metrics() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId(STACK_ID);
+        RequestLogger.handleRequest(logger, request, new FilteredJsonPrinter(), requestLogger -> {
+            requestLogger.getApiMetrics().record(DescribeDbInstancesRequest.builder().build(), 10, null);
+            return null;
+        });
+        verify(logger, atLeast(1)).log(captor.capture());
+        final JSONObject record = new JSONObject(captor.getValue());
+        assertThat(record.has("_aws")).isTrue();
+        assertThat(record.getLong("DescribeDbInstances.Calls")).isEqualTo(1);
+        assertThat(record.getString(RequestLogger.STACK_ID)).isEqualTo(STACK_ID);
+    }
+
+    @Test
+    void test_handle_request_logs_phase_timings() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId(STACK_ID);
+        final PhaseTimingContext phaseTimingContext = new PhaseTimingContext();
+        phaseTimingContext.phase("rds::create-db-instance").setPolls(3);
+        final PhaseTimingContext.Provider context = () -> phaseTimingContext;
+        RequestLogger.handleRequest(logger, request, new FilteredJsonPrinter(),
+                requestLogger -> ProgressEvent.<Void, PhaseTimingContext.Provider>success(null, context));
+        verify(logger, atLeast(1)).log(captor.capture());
+        final JSONObject record = captor.getAllValues().stream()
+                .filter(message -> message.contains(RequestLogger.PHASE_TIMINGS))
+                .map(JSONObject::new)
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        assertThat(record.getString(RequestLogger.OPERATION_STATUS)).isEqualTo("SUCCESS");
+        assertThat(record.getJSONObject(RequestLogger.PHASES).getJSONObject("rds::create-db-instance").getLong("polls")).isEqualTo(3);
+    }
+
+    @Test
+    void test_log_budget_suppresses_messages() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId(STACK_ID);
+        RequestLogger requestLogger = new RequestLogger(logger, request, new FilteredJsonPrinter());
+        requestLogger.setLogBudgetBytes(1024);
+        final List<DBInstance> dbInstances = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            dbInstances.add(DBInstance.builder().dbInstanceIdentifier("db-instance-" + i).build());
+        }
+
+        requestLogger.log(SIMPLE_LOG, new Object());
+        requestLogger.log(DescribeDbInstancesResponse.builder().dbInstances(dbInstances).build());
+        requestLogger.log(new IllegalStateException("test exception"));
+
+        verify(logger, times(2)).log(captor.capture());
+        assertThat(captor.getAllValues().get(1)).contains("test exception");
+        assertThat(requestLogger.getSuppressedMessages()).isEqualTo(1);
+        assertThat(requestLogger.getSuppressedBytes()).isGreaterThan(0);
+        assertThat(requestLogger.getLoggedBytes()).isLessThanOrEqualTo(1024);
+
+        requestLogger.logBudgetSummary();
+
+        verify(logger, times(3)).log(captor.capture());
+        final JSONObject record = new JSONObject(captor.getValue());
+        assertThat(record.getString(RequestLogger.CONTENT)).isEqualTo(RequestLogger.LOG_BUDGET);
+        assertThat(record.getLong(RequestLogger.SUPPRESSED_MESSAGES)).isEqualTo(1);
+        assertThat(record.getLong(RequestLogger.SUPPRESSED_BYTES)).isEqualTo(requestLogger.getSuppressedBytes());
+    }
+
+    @Test
+    void test_log_budget_exempts_handler_response() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId(STACK_ID);
+        final PhaseTimingContext phaseTimingContext = new PhaseTimingContext();
+        phaseTimingContext.phase("rds::create-db-instance").setPolls(2);
+        final PhaseTimingContext.Provider context = () -> phaseTimingContext;
+        final DescribeDbInstancesRequest describeRequest = DescribeDbInstancesRequest.builder().dbInstanceIdentifier("db-instance").build();
+        final DescribeDbInstancesResponse creating = DescribeDbInstancesResponse.builder()
+                .dbInstances(DBInstance.builder().dbInstanceIdentifier("db-instance").dbInstanceStatus("creating").build())
+                .build();
+        final DescribeDbInstancesResponse available = DescribeDbInstancesResponse.builder()
+                .dbInstances(DBInstance.builder().dbInstanceIdentifier("db-instance").dbInstanceStatus("available").build())
+                .build();
+
+        RequestLogger.handleRequest(logger, request, new FilteredJsonPrinter(), 0, requestLogger -> {
+            requestLogger.log(SIMPLE_LOG, new Object());
+            requestLogger.logResponse(describeRequest, creating);
+            requestLogger.logResponse(describeRequest, available);
+            return ProgressEvent.<Void, PhaseTimingContext.Provider>success(null, context);
+        });
+
+        verify(logger, atLeast(1)).log(captor.capture());
+        final List<String> contents = new ArrayList<>();
+        for (final String message : captor.getAllValues()) {
+            if (message.startsWith("{") && !message.contains("_aws")) {
+                contents.add(new JSONObject(message).getString(RequestLogger.CONTENT));
+            }
+        }
+        assertThat(contents).containsExactly(
+                "HandlerResponse",
+                RequestLogger.PHASE_TIMINGS,
+                "DescribeDbInstancesResponse",
+                RequestLogger.LOG_BUDGET
+        );
+    }
+
+    @Test
+    void test_log_budget_summary_skipped_within_budget() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId(STACK_ID);
+        RequestLogger.handleRequest(logger, request, new FilteredJsonPrinter(), requestLogger -> null);
+        verify(logger, atLeast(1)).log(captor.capture());
+        assertThat(captor.getAllValues()).noneMatch(message -> message.contains(RequestLogger.LOG_BUDGET));
+    }
+
+    @Test
+    void test_log_response_samples_polls() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId(STACK_ID);
+        RequestLogger requestLogger = new RequestLogger(logger, request, new FilteredJsonPrinter());
+        final DescribeDbInstancesRequest describeRequest = DescribeDbInstancesRequest.builder().dbInstanceIdentifier("db-instance").build();
+        final DescribeDbInstancesResponse creating = DescribeDbInstancesResponse.builder()
+                .dbInstances(DBInstance.builder().dbInstanceIdentifier("db-instance").dbInstanceStatus("creating").build())
+                .build();
+        final DescribeDbInstancesResponse available = DescribeDbInstancesResponse.builder()
+                .dbInstances(DBInstance.builder().dbInstanceIdentifier("db-instance").dbInstanceStatus("available").build())
+                .build();
+
+        requestLogger.logResponse(describeRequest, creating);
+        requestLogger.logResponse(describeRequest, creating);
+        requestLogger.logResponse(describeRequest, creating);
+        requestLogger.logResponse(describeRequest, available);
+
+        verify(logger, times(2)).log(captor.capture());
+        final JSONObject diff = new JSONObject(captor.getValue());
+        assertThat(diff.getString(RequestLogger.CONTENT)).isEqualTo(RequestLogger.RESPONSE_DIFF);
+        assertThat(diff.getString(RequestLogger.UNCHANGED_POLLS)).isEqualTo("2");
+        assertThat(diff.getJSONObject(RequestLogger.CHANGES).getString("DBInstances[0].DBInstanceStatus")).isEqualTo("available");
+
+        requestLogger.logLastPollResponses();
+
+        verify(logger, times(3)).log(captor.capture());
+        final JSONObject last = new JSONObject(captor.getValue());
+        assertThat(last.getString(RequestLogger.CONTENT)).isEqualTo("DescribeDbInstancesResponse");
+        assertThat(last.getString(RequestLogger.POLLS)).isEqualTo("4");
+    }
+
+    @Test
+    void test_log_response_without_sampling() {
+        ResourceHandlerRequest<Void> request = new ResourceHandlerRequest<>();
+        request.setStackId(STACK_ID);
+        RequestLogger requestLogger = new RequestLogger(logger, request, new FilteredJsonPrinter());
+        requestLogger.setPollSamplingEnabled(false);
+        final DescribeDbInstancesRequest describeRequest = DescribeDbInstancesRequest.builder().dbInstanceIdentifier("db-instance").build();
+        final DescribeDbInstancesResponse response = DescribeDbInstancesResponse.builder().build();
+
+        requestLogger.logResponse(describeRequest, response);
+        requestLogger.logResponse(describeRequest, response);
+        requestLogger.logLastPollResponses();
+
+        verify(logger, times(2)).log(captor.capture());
+    }
 }
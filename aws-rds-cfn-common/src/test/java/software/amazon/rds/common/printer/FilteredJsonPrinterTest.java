@@ -1,13 +1,18 @@
 package software.amazon.rds.common.printer;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.json.JSONObject;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.util.StringUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import software.amazon.awssdk.services.rds.model.DescribeDbParametersResponse;
+import software.amazon.awssdk.services.rds.model.Parameter;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 class FilteredJsonPrinterTest {
@@ -43,6 +48,37 @@ class FilteredJsonPrinterTest {
         }
     }
 
+    @Test
+    void testPrintExceptionForRequest() {
+        final FilteredJsonPrinter filteredJsonPrinter = new FilteredJsonPrinter();
+        final JsonPrinter requestPrinter = filteredJsonPrinter.forRequest();
+        final RuntimeException exception = new RuntimeException("RDS");
+        final String stackTraceKey = "\"" + FilteredJsonPrinter.STACK_TRACE + "\"";
+
+        Assertions.assertTrue(requestPrinter.print(exception).contains(stackTraceKey));
+        Assertions.assertFalse(requestPrinter.print(exception).contains(stackTraceKey));
+        Assertions.assertTrue(filteredJsonPrinter.forRequest().print(exception).contains(stackTraceKey));
+        Assertions.assertTrue(filteredJsonPrinter.print(exception).contains(stackTraceKey));
+    }
+
+    @Test
+    void testPrintSummarizesLargeCollections() throws JsonProcessingException {
+        final List<Parameter> parameters = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            parameters.add(Parameter.builder().parameterName("parameter-" + i).parameterValue("value").build());
+        }
+        final FilteredJsonPrinter jsonPrinter = new FilteredJsonPrinter(ThrowableSerializer.DEFAULT_MAX_STACK_DEPTH, 3);
+
+        final JSONObject summary = new JSONObject(jsonPrinter.print(DescribeDbParametersResponse.builder()
+                .parameters(parameters)
+                .build())).getJSONObject("Parameters");
+
+        Assertions.assertEquals(100, summary.getInt(CollectionSummarizer.COUNT));
+        Assertions.assertEquals(3, summary.getJSONArray(CollectionSummarizer.FIRST).length());
+        Assertions.assertEquals(Integer.toHexString(parameters.hashCode()), summary.getString(CollectionSummarizer.HASH));
+        Assertions.assertFalse(jsonPrinter.print(parameters.subList(0, 3)).contains(CollectionSummarizer.COUNT));
+    }
+
     @Test
     void testPrintObjectWithJavaTimeInstant() throws JsonProcessingException {
         class TestClassWithJavaTimeInstant {
@@ -0,0 +1,93 @@
+package software.amazon.rds.common.printer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+
+class ThrowableSerializerTest {
+
+    @Test
+    void serialize_ServiceException() {
+        final DbInstanceNotFoundException exception = DbInstanceNotFoundException.builder()
+                .message("DBInstance db-instance not found")
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("DBInstanceNotFound").build())
+                .requestId("request-id")
+                .statusCode(404)
+                .build();
+
+        final Map<String, Object> result = new ThrowableSerializer().serialize(exception);
+
+        assertThat(result.get(ThrowableSerializer.CLASS)).isEqualTo(DbInstanceNotFoundException.class.getName());
+        assertThat(result.get(ThrowableSerializer.MESSAGE)).isEqualTo("DBInstance db-instance not found");
+        assertThat(result.get(ThrowableSerializer.ERROR_CODE)).isEqualTo("DBInstanceNotFound");
+        assertThat(result.get(ThrowableSerializer.REQUEST_ID)).isEqualTo("request-id");
+        assertThat(result.get(ThrowableSerializer.STATUS_CODE)).isEqualTo(404);
+    }
+
+    @Test
+    void serialize_TruncatesStackTrace() {
+        final RuntimeException exception = new RuntimeException("test");
+        exception.setStackTrace(frames(10));
+
+        final Map<String, Object> result = new ThrowableSerializer(3).serialize(exception);
+
+        assertThat((List<?>) result.get(ThrowableSerializer.STACK_TRACE)).hasSize(3);
+        assertThat(result.get(ThrowableSerializer.OMITTED_FRAMES)).isEqualTo(7);
+    }
+
+    @Test
+    void serialize_Cause() {
+        final IllegalStateException cause = new IllegalStateException("cause");
+        final RuntimeException exception = new RuntimeException("test", cause);
+
+        final Map<String, Object> result = new ThrowableSerializer().serialize(exception);
+
+        assertThat(result.get(ThrowableSerializer.CAUSE)).isInstanceOf(Map.class);
+        assertThat(((Map<?, ?>) result.get(ThrowableSerializer.CAUSE)).get(ThrowableSerializer.CLASS))
+                .isEqualTo(IllegalStateException.class.getName());
+    }
+
+    @Test
+    void serialize_DeduplicatesRepeatedStackTraces() {
+        final ThrowableSerializer serializer = new ThrowableSerializer().deduplicating();
+
+        final Map<String, Object> first = serializer.serialize(withFrames(new RuntimeException("first"), 5));
+        final Map<String, Object> second = serializer.serialize(withFrames(new RuntimeException("second"), 5));
+        final Map<String, Object> other = serializer.serialize(withFrames(new IllegalStateException("other"), 5));
+
+        assertThat(second.get(ThrowableSerializer.FINGERPRINT)).isEqualTo(first.get(ThrowableSerializer.FINGERPRINT));
+        assertThat(first).containsKey(ThrowableSerializer.STACK_TRACE).doesNotContainKey(ThrowableSerializer.REPEATED);
+        assertThat(second).doesNotContainKey(ThrowableSerializer.STACK_TRACE).containsEntry(ThrowableSerializer.REPEATED, true);
+        assertThat(second.get(ThrowableSerializer.MESSAGE)).isEqualTo("second");
+        assertThat(other).containsKey(ThrowableSerializer.STACK_TRACE);
+    }
+
+    @Test
+    void serialize_NotDeduplicatingByDefault() {
+        final ThrowableSerializer serializer = new ThrowableSerializer();
+
+        serializer.serialize(withFrames(new RuntimeException("first"), 5));
+
+        assertThat(serializer.serialize(withFrames(new RuntimeException("second"), 5)))
+                .containsKey(ThrowableSerializer.STACK_TRACE);
+    }
+
+    private static <T extends Throwable> T withFrames(final T throwable, final int count) {
+        throwable.setStackTrace(frames(count));
+        return throwable;
+    }
+
+    private static StackTraceElement[] frames(final int count) {
+        final StackTraceElement[] frames = new StackTraceElement[count];
+        for (int i = 0; i < count; i++) {
+            frames[i] = new StackTraceElement("software.amazon.rds.Handler", "method" + i, "Handler.java", i + 1);
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,219 @@
+package software.amazon.rds.common.test.simulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.ec2.model.DescribeSubnetsRequest;
+import software.amazon.awssdk.services.ec2.model.Ec2Exception;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.DBSubnetGroup;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DeleteDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbSubnetGroupRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersRequest;
+import software.amazon.awssdk.services.rds.model.Filter;
+import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
+import software.amazon.awssdk.services.rds.model.InvalidDbSubnetGroupStateException;
+import software.amazon.awssdk.services.rds.model.InvalidSubnetException;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RebootDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.rds.common.error.ErrorCode;
+
+public class ControlPlaneSimulatorTest {
+
+    private static final String DB_INSTANCE_IDENTIFIER = "db-instance";
+
+    @Test
+    public void dbInstance_CreateStabilizes() {
+        final ControlPlaneSimulator simulator = new ControlPlaneSimulator();
+        final SimulatedRdsClient rds = simulator.rdsClient();
+
+        assertThat(rds.createDBInstance(createDbInstanceRequest("DB-Instance")).dbInstance().dbInstanceStatus())
+                .isEqualTo(SimulatedRdsClient.STATUS_CREATING);
+        // creating for 3 ticks, backing-up for 2 more
+        assertThat(describeStatus(rds)).isEqualTo(SimulatedRdsClient.STATUS_CREATING);
+        assertThat(describeStatus(rds)).isEqualTo(SimulatedRdsClient.STATUS_CREATING);
+        assertThat(describeStatus(rds)).isEqualTo(SimulatedRdsClient.STATUS_BACKING_UP);
+        assertThat(describeStatus(rds)).isEqualTo(SimulatedRdsClient.STATUS_BACKING_UP);
+        assertThat(describeStatus(rds)).isEqualTo(SimulatedRdsClient.STATUS_AVAILABLE);
+        assertThat(simulator.getCallCount("DescribeDBInstances")).isEqualTo(5);
+    }
+
+    @Test
+    public void dbInstance_ModifyRequiresAvailable() {
+        final ControlPlaneSimulator simulator = new ControlPlaneSimulator();
+        final SimulatedRdsClient rds = simulator.rdsClient();
+        rds.createDBInstance(createDbInstanceRequest(DB_INSTANCE_IDENTIFIER));
+
+        final ModifyDbInstanceRequest modify = ModifyDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .dbInstanceClass("db.m5.large")
+                .build();
+        assertThatThrownBy(() -> rds.modifyDBInstance(modify)).isInstanceOf(InvalidDbInstanceStateException.class);
+
+        simulator.advance(10);
+        assertThat(rds.modifyDBInstance(modify).dbInstance().dbInstanceStatus()).isEqualTo(SimulatedRdsClient.STATUS_MODIFYING);
+        simulator.advance(10);
+        assertThat(rds.rebootDBInstance(RebootDbInstanceRequest.builder().dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER).build())
+                .dbInstance().dbInstanceStatus()).isEqualTo(SimulatedRdsClient.STATUS_REBOOTING);
+        simulator.advance(10);
+        assertThat(describeStatus(rds)).isEqualTo(SimulatedRdsClient.STATUS_AVAILABLE);
+        assertThat(rds.describeDBInstances(DescribeDbInstancesRequest.builder().dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER).build())
+                .dbInstances().get(0).dbInstanceClass()).isEqualTo("db.m5.large");
+    }
+
+    @Test
+    public void dbInstance_DeleteRemovesInstance() {
+        final ControlPlaneSimulator simulator = new ControlPlaneSimulator();
+        final SimulatedRdsClient rds = simulator.rdsClient();
+        rds.createDBInstance(createDbInstanceRequest(DB_INSTANCE_IDENTIFIER));
+        simulator.advance(10);
+
+        assertThat(rds.deleteDBInstance(DeleteDbInstanceRequest.builder().dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER).build())
+                .dbInstance().dbInstanceStatus()).isEqualTo(SimulatedRdsClient.STATUS_DELETING);
+        assertThat(describeStatus(rds)).isEqualTo(SimulatedRdsClient.STATUS_DELETING);
+        assertThatThrownBy(() -> describeStatus(rds)).isInstanceOf(DbInstanceNotFoundException.class);
+
+        final DescribeDbInstancesResponse filtered = rds.describeDBInstances(DescribeDbInstancesRequest.builder()
+                .filters(Filter.builder().name("db-instance-id").values(DB_INSTANCE_IDENTIFIER).build())
+                .build());
+        assertThat(filtered.dbInstances()).isEmpty();
+    }
+
+    @Test
+    public void dbInstance_DescribePaginates() {
+        final ControlPlaneSimulator simulator = new ControlPlaneSimulator();
+        final SimulatedRdsClient rds = simulator.rdsClient();
+        for (int i = 0; i < 5; i++) {
+            rds.createDBInstance(createDbInstanceRequest(DB_INSTANCE_IDENTIFIER + i));
+        }
+
+        final DescribeDbInstancesResponse first = rds.describeDBInstances(DescribeDbInstancesRequest.builder().maxRecords(2).build());
+        assertThat(first.dbInstances()).hasSize(2);
+        final DescribeDbInstancesResponse second = rds.describeDBInstances(DescribeDbInstancesRequest.builder()
+                .maxRecords(2).marker(first.marker()).build());
+        final DescribeDbInstancesResponse third = rds.describeDBInstances(DescribeDbInstancesRequest.builder()
+                .maxRecords(2).marker(second.marker()).build());
+        assertThat(third.dbInstances()).hasSize(1);
+        assertThat(third.marker()).isNull();
+        assertThat(third.dbInstances().get(0).dbInstanceIdentifier()).isEqualTo(DB_INSTANCE_IDENTIFIER + 4);
+    }
+
+    @Test
+    public void call_Throttles() {
+        final ControlPlaneSimulator simulator = new ControlPlaneSimulator(SimulatorConfig.builder().throttleRate(1.0).build());
+
+        assertThatThrownBy(() -> describeStatus(simulator.rdsClient()))
+                .isInstanceOfSatisfying(AwsServiceException.class,
+                        e -> assertThat(ErrorCode.fromException(e)).isEqualTo(ErrorCode.Throttling));
+        assertThat(simulator.getThrottleCount()).isEqualTo(1);
+        assertThat(simulator.getTotalCallCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void call_ThrottlingIsDeterministic() {
+        final SimulatorConfig config = SimulatorConfig.builder().throttleRate(0.5).seed(42L).build();
+        assertThat(throttlePattern(new ControlPlaneSimulator(config))).isEqualTo(throttlePattern(new ControlPlaneSimulator(config)));
+    }
+
+    @Test
+    public void dbSubnetGroup_ResolvesSubnets() {
+        final ControlPlaneSimulator simulator = new ControlPlaneSimulator();
+        simulator.ec2Client()
+                .putSubnet("subnet-a", "vpc-1", "us-east-1a")
+                .putSubnet("subnet-b", "vpc-1", "us-east-1b");
+        final SimulatedRdsClient rds = simulator.rdsClient();
+
+        final DBSubnetGroup dbSubnetGroup = rds.createDBSubnetGroup(CreateDbSubnetGroupRequest.builder()
+                .dbSubnetGroupName("subnet-group")
+                .dbSubnetGroupDescription("description")
+                .subnetIds("subnet-a", "subnet-b")
+                .build()).dbSubnetGroup();
+        assertThat(dbSubnetGroup.vpcId()).isEqualTo("vpc-1");
+        assertThat(dbSubnetGroup.subnetGroupStatus()).isEqualTo("Complete");
+        assertThat(dbSubnetGroup.subnets()).hasSize(2);
+
+        assertThatThrownBy(() -> rds.createDBSubnetGroup(CreateDbSubnetGroupRequest.builder()
+                .dbSubnetGroupName("other-subnet-group")
+                .subnetIds("subnet-x")
+                .build())).isInstanceOf(InvalidSubnetException.class);
+
+        rds.createDBInstance(createDbInstanceRequest(DB_INSTANCE_IDENTIFIER).toBuilder().dbSubnetGroupName("subnet-group").build());
+        assertThatThrownBy(() -> rds.deleteDBSubnetGroup(DeleteDbSubnetGroupRequest.builder().dbSubnetGroupName("subnet-group").build()))
+                .isInstanceOf(InvalidDbSubnetGroupStateException.class);
+    }
+
+    @Test
+    public void ec2_DescribeUnknownSubnet() {
+        final ControlPlaneSimulator simulator = new ControlPlaneSimulator();
+
+        assertThatThrownBy(() -> simulator.ec2Client().describeSubnets(DescribeSubnetsRequest.builder().subnetIds("subnet-x").build()))
+                .isInstanceOfSatisfying(Ec2Exception.class,
+                        e -> assertThat(e.awsErrorDetails().errorCode()).isEqualTo(SimulatedEc2Client.SUBNET_NOT_FOUND));
+    }
+
+    @Test
+    public void tags_AddAndList() {
+        final ControlPlaneSimulator simulator = new ControlPlaneSimulator();
+        final SimulatedRdsClient rds = simulator.rdsClient();
+        final String arn = rds.createDBInstance(createDbInstanceRequest(DB_INSTANCE_IDENTIFIER)).dbInstance().dbInstanceArn();
+
+        rds.addTagsToResource(AddTagsToResourceRequest.builder()
+                .resourceName(arn)
+                .tags(Tag.builder().key("key").value("value").build())
+                .build());
+
+        assertThat(rds.listTagsForResource(ListTagsForResourceRequest.builder().resourceName(arn).build()).tagList())
+                .containsExactly(Tag.builder().key("key").value("value").build());
+        assertThatThrownBy(() -> rds.listTagsForResource(ListTagsForResourceRequest.builder()
+                .resourceName(arn + "-unknown")
+                .build())).isInstanceOf(DbInstanceNotFoundException.class);
+    }
+
+    @Test
+    public void engineDefaults_PaginatesWithoutParameters() {
+        final ControlPlaneSimulator simulator = new ControlPlaneSimulator();
+
+        assertThat(simulator.rdsClient().describeEngineDefaultParametersPaginator(DescribeEngineDefaultParametersRequest.builder()
+                .dbParameterGroupFamily("mysql8.0")
+                .build()).stream()
+                .flatMap(response -> response.engineDefaults().parameters().stream())).isEmpty();
+        assertThat(simulator.getCallCount("DescribeEngineDefaultParameters")).isEqualTo(1L);
+    }
+
+    private static CreateDbInstanceRequest createDbInstanceRequest(final String dbInstanceIdentifier) {
+        return CreateDbInstanceRequest.builder()
+                .dbInstanceIdentifier(dbInstanceIdentifier)
+                .engine("mysql")
+                .dbInstanceClass("db.t3.micro")
+                .allocatedStorage(20)
+                .build();
+    }
+
+    private static String describeStatus(final SimulatedRdsClient rds) {
+        return rds.describeDBInstances(DescribeDbInstancesRequest.builder().dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER).build())
+                .dbInstances().get(0).dbInstanceStatus();
+    }
+
+    private static String throttlePattern(final ControlPlaneSimulator simulator) {
+        final StringBuilder pattern = new StringBuilder();
+        for (int i = 0; i < 32; i++) {
+            try {
+                simulator.rdsClient().describeDBInstances(DescribeDbInstancesRequest.builder().build());
+                pattern.append('.');
+            } catch (AwsServiceException e) {
+                pattern.append('T');
+            }
+        }
+        return pattern.toString();
+    }
+}
@@ -3,10 +3,16 @@ package software.amazon.rds.dbcluster;
 import static software.amazon.rds.dbcluster.Translator.addRoleToDbClusterRequest;
 import static software.amazon.rds.dbcluster.Translator.removeRoleFromDbClusterRequest;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DBCluster;
@@ -41,6 +47,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.client.RdsExistenceProbe;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
@@ -99,6 +106,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     DbClusterRoleNotFoundException.class)
             .build();
 
+    protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> NOOP_CALL = (model, proxyClient) -> model;
+
     private static final String DB_CLUSTER_FAILED_TO_STABILIZE = "DBCluster %s failed to stabilize.";
 
     private final JsonPrinter PARAMETERS_FILTER = new FilteredJsonPrinter("MasterUsername", "MasterUserPassword");
@@ -121,6 +130,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
+                config.getLogBudgetBytes(),
                 requestLogger -> handleRequest(
                         proxy,
                         request,
@@ -189,108 +199,146 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProxyClient<RdsClient> proxyClient,
             final ResourceModel model
     ) {
-        try {
-            fetchDBCluster(proxyClient, model);
-        } catch (DbClusterNotFoundException e) {
-            return true;
-        }
-        return false;
+        return !RdsExistenceProbe.dbClusterExists(proxyClient, model.getDBClusterIdentifier());
     }
 
-    protected ProgressEvent<ResourceModel, CallbackContext> addAssociatedRoles(
+    protected ProgressEvent<ResourceModel, CallbackContext> updateAssociatedRoles(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> proxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress,
-            final List<DBClusterRole> roles
+            final Collection<DBClusterRole> previousRoles,
+            final Collection<DBClusterRole> desiredRoles
+    ) {
+        final Set<DBClusterRole> rolesToRemove = new LinkedHashSet<>(Optional.ofNullable(previousRoles).orElse(Collections.emptyList()));
+        final Set<DBClusterRole> rolesToAdd = new LinkedHashSet<>(Optional.ofNullable(desiredRoles).orElse(Collections.emptyList()));
+
+        rolesToAdd.removeAll(Optional.ofNullable(previousRoles).orElse(Collections.emptyList()));
+        rolesToRemove.removeAll(Optional.ofNullable(desiredRoles).orElse(Collections.emptyList()));
+
+        if (rolesToAdd.isEmpty() && rolesToRemove.isEmpty()) {
+            return progress;
+        }
+
+        final Set<String> removedRoleArns = rolesToRemove.stream()
+                .map(DBClusterRole::getRoleArn)
+                .collect(Collectors.toSet());
+        final boolean isRemovedRoleReAdded = rolesToAdd.stream()
+                .anyMatch(role -> removedRoleArns.contains(role.getRoleArn()));
+
+        return progress
+                .then(p -> Commons.execOnce(
+                        p,
+                        () -> removeAssociatedRoles(proxyClient, p, rolesToRemove),
+                        CallbackContext::isRemovedRoles,
+                        CallbackContext::setRemovedRoles
+                ))
+                .then(p -> {
+                    // RDS rejects adding a role ARN while its removal is still pending, e.g. when only the feature name changes.
+                    if (isRemovedRoleReAdded) {
+                        return awaitAssociatedRoles(proxy, proxyClient, p, "rds::stabilize-removed-associated-roles", rolesToRemove, Collections.emptyList());
+                    }
+                    return p;
+                })
+                .then(p -> Commons.execOnce(
+                        p,
+                        () -> addAssociatedRoles(proxyClient, p, rolesToAdd),
+                        CallbackContext::isAddedRoles,
+                        CallbackContext::setAddedRoles
+                ))
+                .then(p -> awaitAssociatedRoles(proxy, proxyClient, p, "rds::stabilize-associated-roles", rolesToRemove, rolesToAdd));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> removeAssociatedRoles(
+            final ProxyClient<RdsClient> proxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Collection<DBClusterRole> rolesToRemove
     ) {
-        final ResourceModel model = progress.getResourceModel();
-        final CallbackContext callbackContext = progress.getCallbackContext();
-
-        for (final DBClusterRole dbClusterRole : Optional.ofNullable(roles).orElse(Collections.emptyList())) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::add-roles-to-dbcluster", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(modelRequest -> addRoleToDbClusterRequest(
-                            modelRequest.getDBClusterIdentifier(),
-                            dbClusterRole.getRoleArn(),
-                            dbClusterRole.getFeatureName()
-                    ))
-                    .backoffDelay(config.getBackoff())
-                    .makeServiceCall((modelRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                            modelRequest,
-                            proxyInvocation.client()::addRoleToDBCluster
-                    ))
-                    .stabilize((addRoleRequest, addRoleResponse, client, resourceModel, context) ->
-                            isAssociatedRoleAttached(client, resourceModel, dbClusterRole)
-                    )
-                    .handleError((addRoleRequest, exception, client, resourceModel, context) -> Commons.handleException(
-                            ProgressEvent.progress(resourceModel, context),
-                            exception,
-                            ADD_ASSOC_ROLES_ERROR_RULE_SET
-                    ))
-                    .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
+        final String dbClusterIdentifier = progress.getResourceModel().getDBClusterIdentifier();
+
+        for (final DBClusterRole role : rolesToRemove) {
+            try {
+                proxyClient.injectCredentialsAndInvokeV2(
+                        removeRoleFromDbClusterRequest(dbClusterIdentifier, role.getRoleArn(), role.getFeatureName()),
+                        proxyClient.client()::removeRoleFromDBCluster
+                );
+            } catch (Exception exception) {
+                final ProgressEvent<ResourceModel, CallbackContext> result = Commons.handleException(
+                        progress,
+                        exception,
+                        REMOVE_ASSOC_ROLES_ERROR_RULE_SET
+                );
+                if (!result.isSuccess()) {
+                    return result;
+                }
             }
         }
+
         return progress;
     }
 
-    protected ProgressEvent<ResourceModel, CallbackContext> removeAssociatedRoles(
-            final AmazonWebServicesClientProxy proxy,
+    private ProgressEvent<ResourceModel, CallbackContext> addAssociatedRoles(
             final ProxyClient<RdsClient> proxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress,
-            final List<DBClusterRole> roles
+            final Collection<DBClusterRole> rolesToAdd
     ) {
-        final ResourceModel model = progress.getResourceModel();
-        final CallbackContext callbackContext = progress.getCallbackContext();
-
-        for (final DBClusterRole dbClusterRole : Optional.ofNullable(roles).orElse(Collections.emptyList())) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::remove-roles-to-dbcluster", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(modelRequest -> removeRoleFromDbClusterRequest(
-                            modelRequest.getDBClusterIdentifier(),
-                            dbClusterRole.getRoleArn(),
-                            dbClusterRole.getFeatureName()
-                    ))
-                    .backoffDelay(config.getBackoff())
-                    .makeServiceCall((modelRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                            modelRequest,
-                            proxyInvocation.client()::removeRoleFromDBCluster
-                    ))
-                    .stabilize((removeRoleRequest, removeRoleResponse, client, resourceModel, context) ->
-                            isAssociatedRoleDetached(client, resourceModel, dbClusterRole)
-                    )
-                    .handleError((removeRoleRequest, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
-                            ProgressEvent.progress(resourceModel, context),
-                            exception,
-                            REMOVE_ASSOC_ROLES_ERROR_RULE_SET
-                    ))
-                    .success();
-            if (!progressEvent.isSuccess()) return progressEvent;
+        final String dbClusterIdentifier = progress.getResourceModel().getDBClusterIdentifier();
+
+        for (final DBClusterRole role : rolesToAdd) {
+            try {
+                proxyClient.injectCredentialsAndInvokeV2(
+                        addRoleToDbClusterRequest(dbClusterIdentifier, role.getRoleArn(), role.getFeatureName()),
+                        proxyClient.client()::addRoleToDBCluster
+                );
+            } catch (Exception exception) {
+                final ProgressEvent<ResourceModel, CallbackContext> result = Commons.handleException(
+                        progress,
+                        exception,
+                        ADD_ASSOC_ROLES_ERROR_RULE_SET
+                );
+                if (!result.isSuccess()) {
+                    return result;
+                }
+            }
         }
-        return ProgressEvent.progress(model, callbackContext);
+
+        return progress;
     }
 
-    protected boolean isAssociatedRoleAttached(
+    private ProgressEvent<ResourceModel, CallbackContext> awaitAssociatedRoles(
+            final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> proxyClient,
-            final ResourceModel model,
-            final DBClusterRole role
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final String callGraph,
+            final Collection<DBClusterRole> rolesToRemove,
+            final Collection<DBClusterRole> rolesToAdd
     ) {
-        final DBCluster dbCluster = fetchDBCluster(proxyClient, model);
-        return Optional.ofNullable(dbCluster.associatedRoles())
-                .orElse(Collections.emptyList())
-                .stream()
-                .anyMatch(sdkRole -> isAssociatedRolesEqual(role, sdkRole));
+        return proxy.initiate(callGraph, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(config.getBackoff())
+                .makeServiceCall(NOOP_CALL)
+                .stabilize((request, response, proxyInvocation, model, context) ->
+                        isAssociatedRolesStabilized(proxyInvocation, model, rolesToRemove, rolesToAdd)
+                )
+                .handleError((request, exception, proxyInvocation, model, context) -> Commons.handleException(
+                        ProgressEvent.progress(model, context),
+                        exception,
+                        DEFAULT_DB_CLUSTER_ERROR_RULE_SET
+                ))
+                .progress();
     }
 
-    protected boolean isAssociatedRoleDetached(
+    protected boolean isAssociatedRolesStabilized(
             final ProxyClient<RdsClient> proxyClient,
             final ResourceModel model,
-            final DBClusterRole role
+            final Collection<DBClusterRole> detachedRoles,
+            final Collection<DBClusterRole> attachedRoles
     ) {
         final DBCluster dbCluster = fetchDBCluster(proxyClient, model);
-        return Optional.ofNullable(dbCluster.associatedRoles())
-                .orElse(Collections.emptyList())
-                .stream()
-                .noneMatch(sdkRole -> isAssociatedRolesEqual(role, sdkRole));
+        final List<software.amazon.awssdk.services.rds.model.DBClusterRole> sdkRoles = Optional.ofNullable(dbCluster.associatedRoles())
+                .orElse(Collections.emptyList());
+
+        return detachedRoles.stream().noneMatch(role -> sdkRoles.stream().anyMatch(sdkRole -> isAssociatedRolesEqual(role, sdkRole))) &&
+                attachedRoles.stream().allMatch(role -> sdkRoles.stream().anyMatch(sdkRole -> isAssociatedRolesEqual(role, sdkRole)));
     }
 
     protected boolean isAssociatedRolesEqual(
@@ -1,8 +1,11 @@
 package software.amazon.rds.dbcluster;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 import software.amazon.rds.common.handler.TaggingContext;
 
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
@@ -10,6 +13,8 @@ import software.amazon.rds.common.handler.TaggingContext;
 public class CallbackContext extends StdCallbackContext implements TaggingContext.Provider {
     private boolean modified;
     private boolean deleting;
+    private boolean removedRoles;
+    private boolean addedRoles;
 
     private TaggingContext taggingContext;
 
@@ -23,6 +28,7 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
         return taggingContext;
     }
 
+    @JsonIgnore
     public boolean isAddTagsComplete() {
         return taggingContext.isAddTagsComplete();
     }
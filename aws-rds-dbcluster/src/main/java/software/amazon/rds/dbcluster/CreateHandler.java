@@ -1,6 +1,7 @@
 package software.amazon.rds.dbcluster;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashSet;
 
 import com.amazonaws.util.StringUtils;
@@ -85,7 +86,7 @@ public class CreateHandler extends BaseHandlerStd {
                     }
                     return progress;
                 })
-                .then(progress -> addAssociatedRoles(proxy, proxyClient, progress, progress.getResourceModel().getAssociatedRoles()))
+                .then(progress -> updateAssociatedRoles(proxy, proxyClient, progress, Collections.emptyList(), progress.getResourceModel().getAssociatedRoles()))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
@@ -99,13 +99,22 @@ public class DeleteHandler extends BaseHandlerStd {
                         deleteRequest,
                         proxyInvocation.client()::deleteDBCluster
                 ))
-                .stabilize((deleteRequest, deleteResponse, proxyInvocation, model, context) -> isDBClusterDeleted(proxyInvocation, model))
                 .handleError((deleteRequest, exception, client, model, context) -> Commons.handleException(
                         ProgressEvent.progress(model, context),
                         exception,
                         DEFAULT_DB_CLUSTER_ERROR_RULE_SET
                 ))
-                .done((deleteRequest, deleteResponse, proxyInvocation, model, context) -> ProgressEvent.defaultSuccessHandler(null));
+                .progress()
+                .then(p -> Commons.awaitAbsence(
+                        proxy,
+                        proxyClient,
+                        "rds::delete-db-cluster-stabilize",
+                        p,
+                        config.getAbsenceBackoff(),
+                        this::isDBClusterDeleted,
+                        DEFAULT_DB_CLUSTER_ERROR_RULE_SET
+                ))
+                .then(p -> ProgressEvent.defaultSuccessHandler(null));
     }
 
     private boolean isDeletionProtectionEnabled(
@@ -31,7 +31,7 @@ public class ListHandler extends BaseHandlerStd {
             final Logger logger
     ) {
         final DescribeDbClustersResponse describeDbClustersResponse = proxy.injectCredentialsAndInvokeV2(
-                Translator.describeDbClustersRequest(request.getNextToken()),
+                Translator.describeDbClustersRequest(request.getNextToken(), config.getListPageSize()),
                 proxyClient.client()::describeDBClusters
         );
 
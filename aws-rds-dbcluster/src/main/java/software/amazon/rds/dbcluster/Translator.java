@@ -207,6 +207,16 @@ public class Translator {
         return builder.build();
     }
 
+    static boolean isModifyDbClusterRequestEffective(
+            final ResourceModel previousModel,
+            final ResourceModel desiredModel,
+            final boolean isRollback
+    ) {
+        return previousModel == null ||
+                !modifyDbClusterRequest(previousModel, previousModel, isRollback)
+                        .equals(modifyDbClusterRequest(previousModel, desiredModel, isRollback));
+    }
+
     static CloudwatchLogsExportConfiguration cloudwatchLogsExportConfiguration(
             final ResourceModel previousModel,
             final ResourceModel desiredModel
@@ -256,10 +266,12 @@ public class Translator {
     }
 
     static DescribeDbClustersRequest describeDbClustersRequest(
-            final String nextToken
+            final String nextToken,
+            final Integer maxRecords
     ) {
         return DescribeDbClustersRequest.builder()
                 .marker(nextToken)
+                .maxRecords(maxRecords)
                 .build();
     }
 
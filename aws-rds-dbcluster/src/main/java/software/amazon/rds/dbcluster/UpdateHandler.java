@@ -73,14 +73,24 @@ public class UpdateHandler extends BaseHandlerStd {
                     }
                     return progress;
                 })
-                .then(progress -> Commons.execOnce(
+                .then(progress -> {
+                    if (shouldModifyDBCluster(previousResourceState, desiredResourceState, isRollback)) {
+                        return Commons.execOnce(
+                                progress,
+                                () -> modifyDBCluster(proxy, proxyClient, progress, previousResourceState, desiredResourceState, isRollback),
+                                CallbackContext::isModified,
+                                CallbackContext::setModified
+                        );
+                    }
+                    return progress;
+                })
+                .then(progress -> updateAssociatedRoles(
+                        proxy,
+                        proxyClient,
                         progress,
-                        () -> modifyDBCluster(proxy, proxyClient, progress, previousResourceState, desiredResourceState, isRollback),
-                        CallbackContext::isModified,
-                        CallbackContext::setModified)
-                )
-                .then(progress -> removeAssociatedRoles(proxy, proxyClient, progress, setDefaults(request.getPreviousResourceState()).getAssociatedRoles()))
-                .then(progress -> addAssociatedRoles(proxy, proxyClient, progress, progress.getResourceModel().getAssociatedRoles()))
+                        setDefaults(request.getPreviousResourceState()).getAssociatedRoles(),
+                        progress.getResourceModel().getAssociatedRoles()
+                ))
                 .then(progress -> updateTags(proxy, proxyClient, progress, previousTags, desiredTags))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
@@ -111,6 +121,21 @@ public class UpdateHandler extends BaseHandlerStd {
                 .progress();
     }
 
+    private boolean shouldModifyDBCluster(
+            final ResourceModel previousResourceState,
+            final ResourceModel desiredResourceState,
+            final boolean isRollback
+    ) {
+        if (previousResourceState == null) {
+            return true;
+        }
+        return Translator.isModifyDbClusterRequestEffective(
+                setDefaults(previousResourceState.toBuilder().build()),
+                desiredResourceState,
+                isRollback
+        );
+    }
+
     private boolean shouldRemoveFromGlobalCluster(
             final ResourceModel previousResourceState,
             final ResourceModel desiredResourceState
@@ -60,13 +60,15 @@ public class DeleteHandlerTest extends AbstractHandlerTest {
 
     @BeforeEach
     public void setup() {
+        final Constant backoff = Constant.of()
+                .delay(Duration.ofSeconds(1))
+                .timeout(Duration.ofSeconds(120))
+                .build();
         handler = new DeleteHandler(
                 HandlerConfig.builder()
                         .probingEnabled(false)
-                        .backoff(Constant.of()
-                                .delay(Duration.ofSeconds(1))
-                                .timeout(Duration.ofSeconds(120))
-                                .build())
+                        .backoff(backoff)
+                        .absenceBackoff(backoff)
                         .build()
         );
         rdsClient = mock(RdsClient.class);
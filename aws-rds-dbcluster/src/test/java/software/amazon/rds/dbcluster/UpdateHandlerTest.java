@@ -1,8 +1,10 @@
 package software.amazon.rds.dbcluster;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -90,8 +93,6 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
     @Test
     public void handleRequest_SimpleSuccessRoleNotFound() {
-        when(rdsProxy.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
-                .thenReturn(AddRoleToDbClusterResponse.builder().build());
         when(rdsProxy.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class)))
                 .thenThrow(DbClusterRoleNotFoundException.builder().message("not found").build());
 
@@ -100,12 +101,13 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         test_handleRequest_base(
                 context,
-                () -> DBCLUSTER_ACTIVE,
-                () -> RESOURCE_MODEL,
+                () -> DBCLUSTER_ACTIVE_NO_ROLE,
                 () -> RESOURCE_MODEL,
+                () -> RESOURCE_MODEL.toBuilder().associatedRoles(Lists.emptyList()).build(),
                 expectSuccess()
         );
 
+        verify(rdsProxy.client(), times(1)).removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class));
         verify(rdsProxy.client(), times(2)).describeDBClusters(any(DescribeDbClustersRequest.class));
     }
 
@@ -113,10 +115,6 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
     public void handleRequest_RemoveFromGlobalCluster() {
         when(rdsProxy.client().removeFromGlobalCluster(any(RemoveFromGlobalClusterRequest.class)))
                 .thenReturn(RemoveFromGlobalClusterResponse.builder().build());
-        when(rdsProxy.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
-                .thenReturn(AddRoleToDbClusterResponse.builder().build());
-        when(rdsProxy.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class)))
-                .thenThrow(DbClusterRoleNotFoundException.builder().message("not found").build());
 
         final CallbackContext context = new CallbackContext();
         context.setModified(true);
@@ -129,7 +127,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(4)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(rdsProxy.client(), times(3)).describeDBClusters(any(DescribeDbClustersRequest.class));
         verify(rdsProxy.client(), times(1)).removeFromGlobalCluster(any(RemoveFromGlobalClusterRequest.class));
     }
 
@@ -147,18 +145,10 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
     @Test
     public void handleRequest_SimpleSuccess() {
-        when(rdsProxy.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class)))
-                .thenReturn(RemoveRoleFromDbClusterResponse.builder().build());
-        when(rdsProxy.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
-                .thenReturn(AddRoleToDbClusterResponse.builder().build());
         when(rdsProxy.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class)))
                 .thenReturn(RemoveTagsFromResourceResponse.builder().build());
         when(rdsProxy.client().addTagsToResource(any(AddTagsToResourceRequest.class)))
                 .thenReturn(AddTagsToResourceResponse.builder().build());
-        Queue<DBCluster> transitions = new ConcurrentLinkedQueue<>();
-        transitions.add(DBCLUSTER_ACTIVE);
-        transitions.add(DBCLUSTER_INPROGRESS);
-        transitions.add(DBCLUSTER_ACTIVE_NO_ROLE);
 
         final CallbackContext context = new CallbackContext();
         context.setModified(true);
@@ -168,22 +158,83 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 ResourceHandlerRequest.<ResourceModel>builder()
                         .previousResourceTags(Translator.translateTagsToRequest(TAG_LIST))
                         .desiredResourceTags(Translator.translateTagsToRequest(TAG_LIST_ALTER)),
+                () -> DBCLUSTER_ACTIVE,
+                () -> RESOURCE_MODEL,
+                () -> RESOURCE_MODEL,
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client(), times(2)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(rdsProxy.client(), times(1)).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+        verify(rdsProxy.client(), times(1)).addTagsToResource(any(AddTagsToResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_UpdateAssociatedRoles() {
+        final DBClusterRole role1 = DBClusterRole.builder().roleArn("role-arn-1").featureName("s3Import").build();
+        final DBClusterRole role2 = DBClusterRole.builder().roleArn("role-arn-2").featureName("s3Export").build();
+        final DBClusterRole role3 = DBClusterRole.builder().roleArn("role-arn-3").featureName("Lambda").build();
+
+        when(rdsProxy.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class)))
+                .thenReturn(RemoveRoleFromDbClusterResponse.builder().build());
+        when(rdsProxy.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
+                .thenReturn(AddRoleToDbClusterResponse.builder().build());
+
+        final DBCluster dbClusterPending = DBCLUSTER_ACTIVE.toBuilder()
+                .associatedRoles(
+                        software.amazon.awssdk.services.rds.model.DBClusterRole.builder().roleArn(role1.getRoleArn()).featureName(role1.getFeatureName()).build(),
+                        software.amazon.awssdk.services.rds.model.DBClusterRole.builder().roleArn(role2.getRoleArn()).featureName(role2.getFeatureName()).build()
+                ).build();
+        final DBCluster dbClusterUpdated = DBCLUSTER_ACTIVE.toBuilder()
+                .associatedRoles(
+                        software.amazon.awssdk.services.rds.model.DBClusterRole.builder().roleArn(role2.getRoleArn()).featureName(role2.getFeatureName()).build(),
+                        software.amazon.awssdk.services.rds.model.DBClusterRole.builder().roleArn(role3.getRoleArn()).featureName(role3.getFeatureName()).build()
+                ).build();
+
+        Queue<DBCluster> transitions = new ConcurrentLinkedQueue<>();
+        transitions.add(dbClusterPending);
+
+        final CallbackContext context = new CallbackContext();
+        context.setModified(true);
+
+        test_handleRequest_base(
+                context,
                 () -> {
                     if (transitions.size() > 0) {
                         return transitions.remove();
                     }
-                    return DBCLUSTER_ACTIVE;
+                    return dbClusterUpdated;
                 },
+                () -> RESOURCE_MODEL.toBuilder().associatedRoles(Lists.newArrayList(role1, role2)).build(),
+                () -> RESOURCE_MODEL.toBuilder().associatedRoles(Lists.newArrayList(role2, role3)).build(),
+                expectSuccess()
+        );
+
+        ArgumentCaptor<RemoveRoleFromDbClusterRequest> removeCaptor = ArgumentCaptor.forClass(RemoveRoleFromDbClusterRequest.class);
+        verify(rdsProxy.client(), times(1)).removeRoleFromDBCluster(removeCaptor.capture());
+        Assertions.assertEquals(role1.getRoleArn(), removeCaptor.getValue().roleArn());
+
+        ArgumentCaptor<AddRoleToDbClusterRequest> addCaptor = ArgumentCaptor.forClass(AddRoleToDbClusterRequest.class);
+        verify(rdsProxy.client(), times(1)).addRoleToDBCluster(addCaptor.capture());
+        Assertions.assertEquals(role3.getRoleArn(), addCaptor.getValue().roleArn());
+
+        verify(rdsProxy.client(), times(3)).describeDBClusters(any(DescribeDbClustersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoAssociatedRoleChanges() {
+        final CallbackContext context = new CallbackContext();
+        context.setModified(true);
+
+        test_handleRequest_base(
+                context,
+                () -> DBCLUSTER_ACTIVE,
                 () -> RESOURCE_MODEL,
                 () -> RESOURCE_MODEL,
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(6)).describeDBClusters(any(DescribeDbClustersRequest.class));
-        verify(rdsProxy.client(), times(1)).removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class));
-        verify(rdsProxy.client(), times(1)).addRoleToDBCluster(any(AddRoleToDbClusterRequest.class));
-        verify(rdsProxy.client(), times(1)).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
-        verify(rdsProxy.client(), times(1)).addTagsToResource(any(AddTagsToResourceRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBClusters(any(DescribeDbClustersRequest.class));
     }
 
     @Test
@@ -193,18 +244,55 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         when(rdsProxy.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
                 .thenReturn(AddRoleToDbClusterResponse.builder().build());
 
-        Queue<DBCluster> transitions = new ConcurrentLinkedQueue<>();
-
         final DBCluster dbclusterActive = DBCLUSTER_ACTIVE.toBuilder()
                 .associatedRoles(software.amazon.awssdk.services.rds.model.DBClusterRole.builder()
                         .roleArn(ROLE_WITH_EMPTY_FEATURE.getRoleArn())
                         .build())
                 .build();
 
-        transitions.add(dbclusterActive);
-        transitions.add(DBCLUSTER_INPROGRESS);
+        final CallbackContext context = new CallbackContext();
+        context.setModified(true);
+
+        test_handleRequest_base(
+                context,
+                ResourceHandlerRequest.<ResourceModel>builder(),
+                () -> dbclusterActive,
+                () -> RESOURCE_MODEL,
+                () -> RESOURCE_MODEL.toBuilder().associatedRoles(Lists.newArrayList(ROLE_WITH_EMPTY_FEATURE)).build(),
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client(), times(3)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(rdsProxy.client(), times(1)).removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class));
+        verify(rdsProxy.client(), times(1)).addRoleToDBCluster(any(AddRoleToDbClusterRequest.class));
+    }
+
+    @Test
+    public void handleRequest_FeatureNameChange_AddsRoleAfterRemovalStabilized() {
+        final DBCluster dbClusterWithOldRole = DBCLUSTER_ACTIVE.toBuilder()
+                .associatedRoles(software.amazon.awssdk.services.rds.model.DBClusterRole.builder()
+                        .roleArn(ROLE.getRoleArn())
+                        .featureName(ROLE.getFeatureName())
+                        .build())
+                .build();
+        final DBCluster dbClusterWithNewRole = DBCLUSTER_ACTIVE.toBuilder()
+                .associatedRoles(software.amazon.awssdk.services.rds.model.DBClusterRole.builder()
+                        .roleArn(ROLE_WITH_EMPTY_FEATURE.getRoleArn())
+                        .build())
+                .build();
+
+        final Queue<DBCluster> transitions = new ConcurrentLinkedQueue<>();
+        transitions.add(dbClusterWithOldRole);
         transitions.add(DBCLUSTER_ACTIVE_NO_ROLE);
 
+        when(rdsProxy.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class)))
+                .thenReturn(RemoveRoleFromDbClusterResponse.builder().build());
+        when(rdsProxy.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
+                .then(res -> {
+                    Assertions.assertTrue(transitions.isEmpty(), "the role was re-added before its removal stabilized");
+                    return AddRoleToDbClusterResponse.builder().build();
+                });
+
         final CallbackContext context = new CallbackContext();
         context.setModified(true);
 
@@ -215,16 +303,17 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                     if (transitions.size() > 0) {
                         return transitions.remove();
                     }
-                    return dbclusterActive;
+                    return dbClusterWithNewRole;
                 },
-                () -> RESOURCE_MODEL.toBuilder().associatedRoles(Lists.newArrayList(ROLE_WITH_EMPTY_FEATURE)).build(),
+                () -> RESOURCE_MODEL,
                 () -> RESOURCE_MODEL.toBuilder().associatedRoles(Lists.newArrayList(ROLE_WITH_EMPTY_FEATURE)).build(),
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(5)).describeDBClusters(any(DescribeDbClustersRequest.class));
-        verify(rdsProxy.client(), times(1)).removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class));
-        verify(rdsProxy.client(), times(1)).addRoleToDBCluster(any(AddRoleToDbClusterRequest.class));
+        final InOrder inOrder = inOrder(rdsProxy.client());
+        inOrder.verify(rdsProxy.client()).removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class));
+        inOrder.verify(rdsProxy.client()).addRoleToDBCluster(any(AddRoleToDbClusterRequest.class));
+        verify(rdsProxy.client(), times(4)).describeDBClusters(any(DescribeDbClustersRequest.class));
     }
 
     @Test
@@ -236,13 +325,31 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 new CallbackContext(),
                 null,
                 () -> RESOURCE_MODEL,
-                () -> RESOURCE_MODEL,
+                () -> RESOURCE_MODEL.toBuilder().deletionProtection(true).build(),
                 expectFailed(HandlerErrorCode.NotFound)
         );
 
         verify(rdsProxy.client(), times(1)).modifyDBCluster(any(ModifyDbClusterRequest.class));
     }
 
+    @Test
+    public void handleRequest_NoModifyDBClusterChanges_SkipsModify() {
+        final String engineVersion1 = randomString(16, ALPHANUM);
+        final String engineVersion2 = randomString(16, ALPHANUM);
+
+        test_handleRequest_base(
+                new CallbackContext(),
+                ResourceHandlerRequest.<ResourceModel>builder().rollback(true),
+                () -> DBCLUSTER_ACTIVE,
+                () -> RESOURCE_MODEL.toBuilder().engineVersion(engineVersion1).build(),
+                () -> RESOURCE_MODEL.toBuilder().engineVersion(engineVersion2).build(),
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client(), never()).modifyDBCluster(any(ModifyDbClusterRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBClusters(any(DescribeDbClustersRequest.class));
+    }
+
     @Test
     public void handleRequest_ImmutableUpdate_GlobalCluster() {
         expectServiceInvocation = false;
@@ -278,10 +385,6 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         when(rdsProxy.client().modifyDBCluster(any(ModifyDbClusterRequest.class)))
                 .thenReturn(ModifyDbClusterResponse.builder().build());
-        when(rdsProxy.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class)))
-                .thenReturn(RemoveRoleFromDbClusterResponse.builder().build());
-        when(rdsProxy.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
-                .thenReturn(AddRoleToDbClusterResponse.builder().build());
 
         test_handleRequest_base(
                 new CallbackContext(),
@@ -292,7 +395,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                     return DBCLUSTER_ACTIVE;
                 },
                 () -> RESOURCE_MODEL.toBuilder().masterUserPassword(masterUserPassword).build(),
-                () -> RESOURCE_MODEL.toBuilder().masterUserPassword(masterUserPassword).build(),
+                () -> RESOURCE_MODEL.toBuilder().masterUserPassword(masterUserPassword).deletionProtection(true).build(),
                 expectSuccess()
         );
 
@@ -315,10 +418,6 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         when(rdsProxy.client().modifyDBCluster(any(ModifyDbClusterRequest.class)))
                 .thenReturn(ModifyDbClusterResponse.builder().build());
-        when(rdsProxy.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class)))
-                .thenReturn(RemoveRoleFromDbClusterResponse.builder().build());
-        when(rdsProxy.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
-                .thenReturn(AddRoleToDbClusterResponse.builder().build());
 
         test_handleRequest_base(
                 new CallbackContext(),
@@ -349,10 +448,6 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         when(rdsProxy.client().modifyDBCluster(any(ModifyDbClusterRequest.class)))
                 .thenReturn(ModifyDbClusterResponse.builder().build());
-        when(rdsProxy.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class)))
-                .thenReturn(RemoveRoleFromDbClusterResponse.builder().build());
-        when(rdsProxy.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
-                .thenReturn(AddRoleToDbClusterResponse.builder().build());
 
         test_handleRequest_base(
                 new CallbackContext(),
@@ -363,7 +458,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                     return DBCLUSTER_ACTIVE;
                 },
                 () -> RESOURCE_MODEL.toBuilder().engineVersion(engineVersion).build(),
-                () -> RESOURCE_MODEL.toBuilder().engineVersion(engineVersion).build(),
+                () -> RESOURCE_MODEL.toBuilder().engineVersion(engineVersion).deletionProtection(true).build(),
                 expectSuccess()
         );
 
@@ -386,10 +481,6 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         when(rdsProxy.client().modifyDBCluster(any(ModifyDbClusterRequest.class)))
                 .thenReturn(ModifyDbClusterResponse.builder().build());
-        when(rdsProxy.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class)))
-                .thenReturn(RemoveRoleFromDbClusterResponse.builder().build());
-        when(rdsProxy.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
-                .thenReturn(AddRoleToDbClusterResponse.builder().build());
 
         test_handleRequest_base(
                 new CallbackContext(),
@@ -401,7 +492,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                     return DBCLUSTER_ACTIVE;
                 },
                 () -> RESOURCE_MODEL.toBuilder().engineVersion(engineVersion1).build(),
-                () -> RESOURCE_MODEL.toBuilder().engineVersion(engineVersion2).build(),
+                () -> RESOURCE_MODEL.toBuilder().engineVersion(engineVersion2).deletionProtection(true).build(),
                 expectSuccess()
         );
 
@@ -424,10 +515,6 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         when(rdsProxy.client().modifyDBCluster(any(ModifyDbClusterRequest.class)))
                 .thenReturn(ModifyDbClusterResponse.builder().build());
-        when(rdsProxy.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class)))
-                .thenReturn(RemoveRoleFromDbClusterResponse.builder().build());
-        when(rdsProxy.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
-                .thenReturn(AddRoleToDbClusterResponse.builder().build());
 
         test_handleRequest_base(
                 new CallbackContext(),
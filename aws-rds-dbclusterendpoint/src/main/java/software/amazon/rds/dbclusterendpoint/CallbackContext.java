@@ -1,8 +1,11 @@
 package software.amazon.rds.dbclusterendpoint;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 import software.amazon.rds.common.handler.TaggingContext;
 
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
@@ -21,6 +24,7 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
         return taggingContext;
     }
 
+    @JsonIgnore
     public boolean isAddTagsComplete() {
         return taggingContext.isAddTagsComplete();
     }
@@ -1,12 +1,12 @@
 package software.amazon.rds.dbclusterendpoint;
 
 import software.amazon.awssdk.services.rds.RdsClient;
-import software.amazon.awssdk.services.rds.model.DbClusterEndpointNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.client.RdsExistenceProbe;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.HandlerConfig;
 
@@ -33,22 +33,24 @@ public class DeleteHandler extends BaseHandlerStd {
                 .backoffDelay(config.getBackoff())
                 .makeServiceCall((deleteDbClusterEndpointRequest, proxyInvocation) ->
                         proxyInvocation.injectCredentialsAndInvokeV2(deleteDbClusterEndpointRequest, proxyInvocation.client()::deleteDBClusterEndpoint))
-                .stabilize((deleteDbClusterEndpointRequest, deleteDbClusterEndpointResponse, proxyInvocation, model, context) ->
-                        isDeleted(model, proxyInvocation))
                 .handleError((deleteRequest, exception, client, resourceModel, ctx) -> Commons.handleException(
                         ProgressEvent.progress(resourceModel, ctx),
                         exception,
                         DEFAULT_DB_CLUSTER_ENDPOINT_ERROR_RULE_SET))
-                .done(progress -> ProgressEvent.defaultSuccessHandler(null));
+                .progress()
+                .then(progress -> Commons.awaitAbsence(
+                        proxy,
+                        proxyClient,
+                        "rds::delete-db-cluster-endpoint-stabilize",
+                        progress,
+                        config.getAbsenceBackoff(),
+                        (proxyInvocation, model) -> isDeleted(model, proxyInvocation),
+                        DEFAULT_DB_CLUSTER_ENDPOINT_ERROR_RULE_SET))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
 
     protected boolean isDeleted(final ResourceModel model,
                                 final ProxyClient<RdsClient> proxyClient) {
-        try {
-            fetchDBClusterEndpoint(model, proxyClient);
-            return false;
-        } catch (DbClusterEndpointNotFoundException e) {
-            return true;
-        }
+        return !RdsExistenceProbe.dbClusterEndpointExists(proxyClient, model.getDBClusterEndpointIdentifier());
     }
 }
@@ -13,7 +13,6 @@ import java.util.List;
 
 public class ListHandler extends BaseHandlerStd {
 
-
     public ListHandler() {
         this(HandlerConfig.builder()
                 .backoff(BACKOFF_DELAY)
@@ -34,7 +33,7 @@ public class ListHandler extends BaseHandlerStd {
             final Logger logger) {
 
         return proxy.initiate("rds::list-db-cluster-endpoints", proxyClient, request.getDesiredResourceState(), callbackContext)
-                .translateToServiceRequest(resourceModel -> Translator.describeDbClustersEndpointRequest(request.getNextToken()))
+                .translateToServiceRequest(resourceModel -> Translator.describeDbClustersEndpointRequest(request.getNextToken(), config.getListPageSize()))
                 .makeServiceCall((describeRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         describeRequest,
                         proxyInvocation.client()::describeDBClusterEndpoints
@@ -48,9 +48,10 @@ public class Translator {
                 .build();
     }
 
-    public static DescribeDbClusterEndpointsRequest describeDbClustersEndpointRequest(final String nextToken) {
+    public static DescribeDbClusterEndpointsRequest describeDbClustersEndpointRequest(final String nextToken, final Integer maxRecords) {
         return DescribeDbClusterEndpointsRequest.builder()
                 .marker(nextToken)
+                .maxRecords(maxRecords)
                 .build();
     }
 
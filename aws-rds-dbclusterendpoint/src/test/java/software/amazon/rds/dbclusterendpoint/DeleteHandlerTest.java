@@ -51,7 +51,7 @@ public class DeleteHandlerTest extends AbstractHandlerTest {
 
     @BeforeEach
     public void setup() {
-        handler = new DeleteHandler(HandlerConfig.builder().backoff(TEST_BACKOFF_DELAY).build());
+        handler = new DeleteHandler(HandlerConfig.builder().backoff(TEST_BACKOFF_DELAY).absenceBackoff(TEST_BACKOFF_DELAY).build());
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         rdsClient = mock(RdsClient.class);
         rdsProxy = mockProxy(proxy, rdsClient);
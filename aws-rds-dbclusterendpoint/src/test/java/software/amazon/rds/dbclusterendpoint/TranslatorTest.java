@@ -20,9 +20,10 @@ public class TranslatorTest {
 
     @Test
     public void describeDbClusterEndpointRequest_SetsMarker() {
-        final DescribeDbClusterEndpointsRequest describeDbClusterEndpointsRequest = Translator.describeDbClustersEndpointRequest("marker");
+        final DescribeDbClusterEndpointsRequest describeDbClusterEndpointsRequest = Translator.describeDbClustersEndpointRequest("marker", 50);
 
         assertThat(describeDbClusterEndpointsRequest.marker()).isEqualTo("marker");
+        assertThat(describeDbClusterEndpointsRequest.maxRecords()).isEqualTo(50);
     }
 
     @Test
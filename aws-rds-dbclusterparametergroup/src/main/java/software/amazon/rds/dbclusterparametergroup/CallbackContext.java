@@ -1,9 +1,12 @@
 package software.amazon.rds.dbclusterparametergroup;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 import software.amazon.rds.common.handler.TaggingContext;
 
 
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
@@ -25,6 +28,7 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
         return taggingContext;
     }
 
+    @JsonIgnore
     public boolean isAddTagsComplete() {
         return taggingContext.isAddTagsComplete();
     }
@@ -33,9 +33,9 @@ public class ListHandler extends BaseHandlerStd {
 
         DescribeDbClusterParameterGroupsResponse describeDbClusterParameterGroupsResponse;
         try{
-            describeDbClusterParameterGroupsResponse = proxy
-                    .injectCredentialsAndInvokeV2(Translator.describeDbClusterParameterGroupsRequest(request.getNextToken()),
-                            proxyClient.client()::describeDBClusterParameterGroups);
+            describeDbClusterParameterGroupsResponse = proxy.injectCredentialsAndInvokeV2(
+                    Translator.describeDbClusterParameterGroupsRequest(request.getNextToken(), config.getListPageSize()),
+                    proxyClient.client()::describeDBClusterParameterGroups);
         } catch (Exception exception){
             return Commons.handleException(
                     ProgressEvent.progress(request.getDesiredResourceState(), callbackContext),
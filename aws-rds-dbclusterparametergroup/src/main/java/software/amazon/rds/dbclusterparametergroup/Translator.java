@@ -58,9 +58,10 @@ public class Translator {
                 .build();
     }
 
-    static DescribeDbClusterParameterGroupsRequest describeDbClusterParameterGroupsRequest(final String nextToken) {
+    static DescribeDbClusterParameterGroupsRequest describeDbClusterParameterGroupsRequest(final String nextToken, final Integer maxRecords) {
         return DescribeDbClusterParameterGroupsRequest.builder()
                 .marker(nextToken)
+                .maxRecords(maxRecords)
                 .build();
     }
 
@@ -62,12 +62,14 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.client.RdsExistenceProbe;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.HandlerMethod;
+import software.amazon.rds.common.handler.PhaseTimer;
 import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.common.logging.LoggingProxyClient;
 import software.amazon.rds.common.logging.RequestLogger;
@@ -298,6 +300,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
+                config.getLogBudgetBytes(),
                 requestLogger -> handleRequest(
                         proxy,
                         request,
@@ -378,8 +381,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProxyClient<RdsClient> rdsProxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress
     ) {
-        return proxy.initiate(
-                        "rds::stabilize-db-instance-" + getClass().getSimpleName(),
+        final String callGraph = "rds::stabilize-db-instance-" + getClass().getSimpleName();
+        return PhaseTimer.time(callGraph, progress, () -> proxy.initiate(
+                        callGraph,
                         rdsProxyClient,
                         progress.getResourceModel(),
                         progress.getCallbackContext()
@@ -393,7 +397,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                         exception,
                         UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET
                 ))
-                .progress();
+                .progress());
     }
 
     protected boolean withProbing(
@@ -516,13 +520,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProxyClient<RdsClient> rdsProxyClient,
             final ResourceModel model
     ) {
-        try {
-            fetchDBInstance(rdsProxyClient, model);
-        } catch (DbInstanceNotFoundException e) {
-            // the instance is gone, exactly what we need
-            return true;
-        }
-        return false;
+        return !RdsExistenceProbe.dbInstanceExists(rdsProxyClient, model.getDBInstanceIdentifier());
     }
 
     protected boolean isDbInstanceStabilized(
@@ -3,27 +3,36 @@ package software.amazon.rds.dbinstance;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.rds.common.handler.PhaseTimingContext;
 import software.amazon.rds.common.handler.TaggingContext;
 
+// Only the fields declared here are compacted: default values are omitted from the payload. The call-graph map
+// inherited from StdCallbackContext is owned and serialized by the rpdk and is neither interned nor pruned.
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
-public class CallbackContext extends StdCallbackContext implements TaggingContext.Provider {
+public class CallbackContext extends StdCallbackContext implements TaggingContext.Provider, PhaseTimingContext.Provider {
     private boolean created;
     private boolean deleted;
     private boolean updatedRoles;
     private boolean updated;
     private boolean rebooted;
+    private boolean updatedTags;
 
     private Map<String, Integer> probes;
     private TaggingContext taggingContext;
+    private PhaseTimingContext phaseTimingContext;
 
     public CallbackContext() {
         super();
         this.probes = new HashMap<>();
         this.taggingContext = new TaggingContext();
+        this.phaseTimingContext = new PhaseTimingContext();
     }
 
     public int getProbes(final String sampleName) {
@@ -43,6 +52,12 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
         return taggingContext;
     }
 
+    @Override
+    public PhaseTimingContext getPhaseTimingContext() {
+        return phaseTimingContext;
+    }
+
+    @JsonIgnore
     public boolean isAddTagsComplete() {
         return taggingContext.isAddTagsComplete();
     }
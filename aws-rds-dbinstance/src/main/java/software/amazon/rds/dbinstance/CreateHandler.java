@@ -21,6 +21,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.HandlerMethod;
+import software.amazon.rds.common.handler.PhaseTimer;
 import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.common.util.IdentifierFactory;
 import software.amazon.rds.dbinstance.client.ApiVersion;
@@ -74,7 +75,7 @@ public class CreateHandler extends BaseHandlerStd {
                 .build();
 
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress -> Commons.execOnce(progress, () -> {
+                .then(progress -> Commons.execOnce(progress, "rds::create-db-instance", () -> {
                     if (isReadReplica(progress.getResourceModel())) {
                         // createDBInstanceReadReplica is not a versioned call, unlike the others.
                         return safeAddTags(this::createDbInstanceReadReplica)
@@ -99,7 +100,7 @@ public class CreateHandler extends BaseHandlerStd {
                             ApiVersion.DEFAULT, safeAddTags(this::createDbInstance)
                     ));
                 }, CallbackContext::isCreated, CallbackContext::setCreated))
-                .then(progress -> Commons.execOnce(progress, () -> {
+                .then(progress -> Commons.execOnce(progress, "rds::add-tags-to-resource", () -> {
                     final Tagging.TagSet extraTags = Tagging.TagSet.builder()
                             .stackTags(allTags.getStackTags())
                             .resourceTags(allTags.getResourceTags())
@@ -109,13 +110,13 @@ public class CreateHandler extends BaseHandlerStd {
                 .then(progress -> ensureEngineSet(rdsProxyClient.defaultClient(), progress))
                 .then(progress -> {
                     if (shouldUpdateAfterCreate(progress.getResourceModel())) {
-                        return Commons.execOnce(progress, () ->
+                        return Commons.execOnce(progress, "rds::modify-db-instance", () ->
                                                 versioned(proxy, rdsProxyClient, progress, null, ImmutableMap.of(
                                                         ApiVersion.V12, (pxy, pcl, prg, tgs) -> updateDbInstanceV12(pxy, request, pcl, prg),
                                                         ApiVersion.DEFAULT, (pxy, pcl, prg, tgs) -> updateDbInstance(pxy, request, pcl, prg)
                                                 )),
                                         CallbackContext::isUpdated, CallbackContext::setUpdated)
-                                .then(p -> Commons.execOnce(p, () -> {
+                                .then(p -> Commons.execOnce(p, "rds::reboot-db-instance", () -> {
                                     if (shouldReboot(p.getResourceModel())) {
                                         return rebootAwait(proxy, rdsProxyClient.defaultClient(), p);
                                     }
@@ -124,10 +125,11 @@ public class CreateHandler extends BaseHandlerStd {
                     }
                     return progress;
                 })
-                .then(progress -> Commons.execOnce(progress, () ->
+                .then(progress -> Commons.execOnce(progress, "rds::add-roles-to-db-instance", () ->
                                 updateAssociatedRoles(proxy, rdsProxyClient.defaultClient(), progress, Collections.emptyList(), desiredRoles),
                         CallbackContext::isUpdatedRoles, CallbackContext::setUpdatedRoles))
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient, logger));
+                .then(progress -> PhaseTimer.time("rds::describe-db-instance", progress, () ->
+                        new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient, logger)));
     }
 
     private HandlerMethod<ResourceModel, CallbackContext> safeAddTags(final HandlerMethod<ResourceModel, CallbackContext> handlerMethod) {
@@ -32,7 +32,7 @@ public class ListHandler extends BaseHandlerStd {
             final Logger logger
     ) {
         return proxy.initiate("rds::list-db-instances", rdsProxyClient.defaultClient(), request.getDesiredResourceState(), callbackContext)
-                .translateToServiceRequest(resourceModel -> Translator.describeDbInstancesRequest(request.getNextToken()))
+                .translateToServiceRequest(resourceModel -> Translator.describeDbInstancesRequest(request.getNextToken(), config.getListPageSize()))
                 .makeServiceCall((describeRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
                         describeRequest,
                         proxyInvocation.client()::describeDBInstances
@@ -50,9 +50,10 @@ public class Translator {
                 .build();
     }
 
-    public static DescribeDbInstancesRequest describeDbInstancesRequest(final String nextToken) {
+    public static DescribeDbInstancesRequest describeDbInstancesRequest(final String nextToken, final Integer maxRecords) {
         return DescribeDbInstancesRequest.builder()
                 .marker(nextToken)
+                .maxRecords(maxRecords)
                 .build();
     }
 
@@ -339,6 +340,25 @@ public class Translator {
         return builder.build();
     }
 
+    public static boolean isModifyDbInstanceRequestV12Effective(
+            final ResourceModel previousModel,
+            final ResourceModel desiredModel,
+            final Boolean isRollback
+    ) {
+        return previousModel == null ||
+                !modifyDbInstanceRequestV12(previousModel, previousModel, isRollback)
+                        .equals(modifyDbInstanceRequestV12(previousModel, desiredModel, isRollback));
+    }
+
+    public static boolean isModifyDbInstanceRequestEffective(
+            final ResourceModel previousModel,
+            final ResourceModel desiredModel,
+            final Boolean isRollback
+    ) {
+        return previousModel == null ||
+                !modifyDbInstanceRequest(previousModel, previousModel, isRollback)
+                        .equals(modifyDbInstanceRequest(previousModel, desiredModel, isRollback));
+    }
 
     public static RemoveRoleFromDbInstanceRequest removeRoleFromDbInstanceRequest(
             final ResourceModel model,
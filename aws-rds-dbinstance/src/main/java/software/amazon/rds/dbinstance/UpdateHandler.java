@@ -1,5 +1,6 @@
 package software.amazon.rds.dbinstance;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
@@ -10,6 +11,7 @@ import org.apache.commons.lang3.ObjectUtils;
 
 import com.amazonaws.util.CollectionUtils;
 import com.amazonaws.util.StringUtils;
+import lombok.Value;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.ec2.model.SecurityGroup;
 import software.amazon.awssdk.services.rds.RdsClient;
@@ -18,7 +20,6 @@ import software.amazon.awssdk.services.rds.model.DBClusterMember;
 import software.amazon.awssdk.services.rds.model.DBInstance;
 import software.amazon.awssdk.services.rds.model.DBParameterGroup;
 import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
-import software.amazon.awssdk.services.rds.model.DescribeDbEngineVersionsResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
 import software.amazon.awssdk.utils.ImmutableMap;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -27,7 +28,10 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.cache.EngineVersionCatalog;
+import software.amazon.rds.common.cache.ExpiringCache;
 import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.ExecutionPlan;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.dbinstance.client.ApiVersion;
@@ -36,12 +40,33 @@ import software.amazon.rds.dbinstance.util.ImmutabilityHelper;
 
 public class UpdateHandler extends BaseHandlerStd {
 
+    private static final String STEP_SET_PARAMETER_GROUP_NAME = "set-parameter-group-name";
+    private static final String STEP_SET_DEFAULT_VPC_ID = "set-default-vpc-id";
+    private static final String STEP_UNSET_MAX_ALLOCATED_STORAGE = "unset-max-allocated-storage";
+    private static final String STEP_UPDATE_DB_INSTANCE = "update-db-instance";
+    private static final String STEP_REBOOT = "reboot";
+    private static final String STEP_UPDATE_ROLES = "update-roles";
+    private static final String STEP_UPDATE_TAGS = "update-tags";
+
+    private static final String DEFAULT_SECURITY_GROUP_NAME = "default";
+    private static final Duration DEFAULT_SECURITY_GROUP_TTL = Duration.ofMinutes(15);
+    private static final Duration DEFAULT_SECURITY_GROUP_NEGATIVE_TTL = Duration.ofMinutes(1);
+
+    private final EngineVersionCatalog engineVersionCatalog;
+
+    private final ExpiringCache<VpcKey, Optional<String>> defaultSecurityGroupCache = new ExpiringCache<>(DEFAULT_SECURITY_GROUP_TTL);
+
     public UpdateHandler() {
         this(DEFAULT_DB_INSTANCE_HANDLER_CONFIG);
     }
 
     public UpdateHandler(final HandlerConfig config) {
+        this(config, new EngineVersionCatalog());
+    }
+
+    public UpdateHandler(final HandlerConfig config, final EngineVersionCatalog engineVersionCatalog) {
         super(config);
+        this.engineVersionCatalog = engineVersionCatalog;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -82,48 +107,63 @@ public class UpdateHandler extends BaseHandlerStd {
         final Collection<DBInstanceRole> previousRoles = request.getPreviousResourceState().getAssociatedRoles();
         final Collection<DBInstanceRole> desiredRoles = request.getDesiredResourceState().getAssociatedRoles();
 
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress -> {
-                    if (shouldSetParameterGroupName(request)) {
-                        return setParameterGroupName(rdsClient, progress);
-                    }
-                    return progress;
-                })
-                .then(progress -> {
-                    if (shouldSetDefaultVpcId(request)) {
-                        return setDefaultVpcId(rdsClient, ec2ProxyClient.defaultClient(), progress);
-                    }
-                    return progress;
-                })
-                .then(progress -> {
-                    if (shouldUnsetMaxAllocatedStorage(request)) {
-                        return unsetMaxAllocatedStorage(rdsClient, request, progress);
-                    }
-                    return progress;
-                })
-                .then(progress -> Commons.execOnce(progress, () ->
+        // Evaluated ahead of the plan: its steps fill defaults, such as the default VPC security group, into the desired model.
+        final boolean isModifyEffective = shouldUpdateDbInstance(request);
+        final boolean isModifyV12Effective = shouldUpdateDbInstanceV12(request);
+
+        // The model defaulting steps write the desired model, so they run one after another. Tagging only needs the
+        // modified instance and runs alongside the reboot, ahead of the role updates.
+        final ExecutionPlan<ResourceModel, CallbackContext> plan = ExecutionPlan.<ResourceModel, CallbackContext>builder()
+                .stepIf(shouldSetParameterGroupName(request), STEP_SET_PARAMETER_GROUP_NAME, progress -> setParameterGroupName(rdsClient, progress))
+                .stepIf(shouldSetDefaultVpcId(request), STEP_SET_DEFAULT_VPC_ID, progress -> setDefaultVpcId(rdsClient, ec2ProxyClient.defaultClient(), request.getAwsAccountId(), progress),
+                        STEP_SET_PARAMETER_GROUP_NAME
+                )
+                .stepIf(shouldUnsetMaxAllocatedStorage(request), STEP_UNSET_MAX_ALLOCATED_STORAGE, progress -> unsetMaxAllocatedStorage(rdsClient, request, progress),
+                        STEP_SET_DEFAULT_VPC_ID
+                )
+                .stepOnce(STEP_UPDATE_DB_INSTANCE, progress ->
                                 versioned(proxy, rdsProxyClient, progress, null, ImmutableMap.of(
                                         /*
                                           {@code updateDbInstance*} is not entirely compatible with {@code HandlerMethod} interface.
                                           Hence, we need to create a request-capturing closure.
                                          */
-                                        ApiVersion.V12, (pxy, pcl, prg, tgs) -> updateDbInstanceV12(pxy, request, pcl, prg),
-                                        ApiVersion.DEFAULT, (pxy, pcl, prg, tgs) -> updateDbInstance(pxy, request, pcl, prg)
+                                        ApiVersion.V12, (pxy, pcl, prg, tgs) -> {
+                                            if (isModifyV12Effective) {
+                                                return updateDbInstanceV12(pxy, request, pcl, prg);
+                                            }
+                                            return prg;
+                                        },
+                                        ApiVersion.DEFAULT, (pxy, pcl, prg, tgs) -> {
+                                            if (isModifyEffective) {
+                                                return updateDbInstance(pxy, request, pcl, prg);
+                                            }
+                                            return prg;
+                                        }
                                 )),
-                        CallbackContext::isUpdated, CallbackContext::setUpdated)
+                        CallbackContext::isUpdated, CallbackContext::setUpdated,
+                        STEP_UNSET_MAX_ALLOCATED_STORAGE
                 )
-                .then(progress -> Commons.execOnce(progress, () -> {
+                .stepOnce(STEP_REBOOT, progress -> {
                             if (shouldReboot(rdsClient, progress)) {
                                 return rebootAwait(proxy, rdsClient, progress);
                             }
                             return progress;
-                        }, CallbackContext::isRebooted, CallbackContext::setRebooted)
+                        },
+                        CallbackContext::isRebooted, CallbackContext::setRebooted,
+                        STEP_UPDATE_DB_INSTANCE
+                )
+                .stepOnce(STEP_UPDATE_ROLES, progress -> updateAssociatedRoles(proxy, rdsClient, progress, previousRoles, desiredRoles),
+                        CallbackContext::isUpdatedRoles, CallbackContext::setUpdatedRoles,
+                        STEP_REBOOT
                 )
-                .then(progress -> Commons.execOnce(progress, () ->
-                                updateAssociatedRoles(proxy, rdsClient, progress, previousRoles, desiredRoles),
-                        CallbackContext::isUpdatedRoles, CallbackContext::setUpdatedRoles)
+                .stepOnce(STEP_UPDATE_TAGS, progress -> updateTags(proxy, rdsClient, progress, previousTags, desiredTags),
+                        CallbackContext::isUpdatedTags, CallbackContext::setUpdatedTags,
+                        STEP_UPDATE_DB_INSTANCE
                 )
-                .then(progress -> updateTags(proxy, rdsClient, progress, previousTags, desiredTags))
+                .build();
+
+        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+                .then(plan::execute)
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, rdsProxyClient, ec2ProxyClient, logger));
     }
 
@@ -185,6 +225,22 @@ public class UpdateHandler extends BaseHandlerStd {
         return false;
     }
 
+    private boolean shouldUpdateDbInstance(final ResourceHandlerRequest<ResourceModel> request) {
+        return Translator.isModifyDbInstanceRequestEffective(
+                request.getPreviousResourceState(),
+                request.getDesiredResourceState(),
+                BooleanUtils.isTrue(request.getRollback())
+        );
+    }
+
+    private boolean shouldUpdateDbInstanceV12(final ResourceHandlerRequest<ResourceModel> request) {
+        return Translator.isModifyDbInstanceRequestV12Effective(
+                request.getPreviousResourceState(),
+                request.getDesiredResourceState(),
+                BooleanUtils.isTrue(request.getRollback())
+        );
+    }
+
     private boolean shouldSetParameterGroupName(final ResourceHandlerRequest<ResourceModel> request) {
         final ResourceModel desiredModel = request.getDesiredResourceState();
         final ResourceModel previousModel = request.getPreviousResourceState();
@@ -236,15 +292,15 @@ public class UpdateHandler extends BaseHandlerStd {
         }
 
         final String dbParameterGroupFamily = maybeDbParameterGroup.get().dbParameterGroupFamily();
-        final DescribeDbEngineVersionsResponse describeDbEngineVersionsResponse = rdsProxyClient.injectCredentialsAndInvokeV2(
-                Translator.describeDbEngineVersionsRequest(dbParameterGroupFamily, engine, engineVersion),
-                rdsProxyClient.client()::describeDBEngineVersions
+        final boolean hasEngineVersion = engineVersionCatalog.hasEngineVersion(
+                rdsProxyClient,
+                Translator.describeDbEngineVersionsRequest(dbParameterGroupFamily, engine, engineVersion)
         );
 
-        if (CollectionUtils.isNullOrEmpty(describeDbEngineVersionsResponse.dbEngineVersions())) {
-            progress.getResourceModel().setDBParameterGroupName(null);
-        } else {
+        if (hasEngineVersion) {
             progress.getResourceModel().setDBParameterGroupName(dbParameterGroupName);
+        } else {
+            progress.getResourceModel().setDBParameterGroupName(null);
         }
 
         return progress;
@@ -265,29 +321,51 @@ public class UpdateHandler extends BaseHandlerStd {
     private ProgressEvent<ResourceModel, CallbackContext> setDefaultVpcId(
             final ProxyClient<RdsClient> rdsProxyClient,
             final ProxyClient<Ec2Client> ec2ProxyClient,
+            final String awsAccountId,
             final ProgressEvent<ResourceModel, CallbackContext> progress
     ) {
 
-        SecurityGroup securityGroup;
+        Optional<String> groupId;
 
         try {
             final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, progress.getResourceModel());
             final String vpcId = dbInstance.dbSubnetGroup().vpcId();
-            securityGroup = fetchSecurityGroup(ec2ProxyClient, vpcId, "default");
+            groupId = fetchDefaultSecurityGroupId(ec2ProxyClient, new VpcKey(awsAccountId, vpcId));
         } catch (Exception e) {
             return Commons.handleException(progress, e, DEFAULT_DB_INSTANCE_ERROR_RULE_SET);
         }
 
-        if (securityGroup != null) {
-            final String groupId = securityGroup.groupId();
-            if (StringUtils.hasValue(groupId)) {
-                progress.getResourceModel().setVPCSecurityGroups(Collections.singletonList(groupId));
-            }
-        }
+        groupId.ifPresent(id -> progress.getResourceModel().setVPCSecurityGroups(Collections.singletonList(id)));
 
         return progress;
     }
 
+    private Optional<String> fetchDefaultSecurityGroupId(
+            final ProxyClient<Ec2Client> ec2ProxyClient,
+            final VpcKey vpcKey
+    ) {
+        final Optional<Optional<String>> cached = defaultSecurityGroupCache.getIfPresent(vpcKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        final SecurityGroup securityGroup = fetchSecurityGroup(ec2ProxyClient, vpcKey.getVpcId(), DEFAULT_SECURITY_GROUP_NAME);
+        final Optional<String> groupId = Optional.ofNullable(securityGroup)
+                .map(SecurityGroup::groupId)
+                .filter(StringUtils::hasValue);
+        defaultSecurityGroupCache.put(
+                vpcKey,
+                groupId,
+                groupId.isPresent() ? DEFAULT_SECURITY_GROUP_TTL : DEFAULT_SECURITY_GROUP_NEGATIVE_TTL
+        );
+        return groupId;
+    }
+
+    @Value
+    private static class VpcKey {
+        String awsAccountId;
+        String vpcId;
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> awaitDBParameterGroupInSyncStatus(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> rdsProxyClient,
@@ -271,7 +271,7 @@ public abstract class AbstractHandlerTest extends AbstractTestBase<DBInstance, R
                 .build();
 
         RESOURCE_MODEL_ALTER = ResourceModel.builder()
-                .allocatedStorage(ALLOCATED_STORAGE.toString())
+                .allocatedStorage(ALLOCATED_STORAGE_INCR.toString())
                 .associatedRoles(ASSOCIATED_ROLES_ALTER)
                 .autoMinorVersionUpgrade(AUTO_MINOR_VERSION_UPGRADE_YES)
                 .availabilityZone(AVAILABILITY_ZONE)
@@ -0,0 +1,80 @@
+package software.amazon.rds.dbinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.rds.common.handler.PhaseTimingContext;
+
+public class CallbackContextTest {
+
+    // A create that went through every phase. The payload travels with each re-invocation, so its size is guarded.
+    // The bound covers the handler's own state only: the rpdk call-graph map is empty here.
+    private static final int COMPLETED_CREATE_MAX_BYTES = 512;
+
+    private static final String[] CREATE_PHASES = {
+            "rds::create-db-instance",
+            "rds::add-tags-to-resource",
+            "rds::modify-db-instance",
+            "rds::reboot-db-instance",
+            "rds::add-roles-to-db-instance"
+    };
+
+    private final Serializer serializer = new Serializer();
+
+    @Test
+    public void serialize_OmitsDefaults() throws IOException {
+        final String payload = serializer.serialize(new CallbackContext());
+
+        assertThat(payload).isEqualTo("{}");
+        assertThat(roundTrip(payload)).isEqualTo(new CallbackContext());
+    }
+
+    @Test
+    public void serialize_OmitsTaggingContextShortcut() throws IOException {
+        final CallbackContext context = new CallbackContext();
+        context.setAddTagsComplete(true);
+
+        final String payload = serializer.serialize(context);
+
+        assertThat(payload).isEqualTo("{\"taggingContext\":{\"addTagsComplete\":true}}");
+        assertThat(roundTrip(payload).isAddTagsComplete()).isTrue();
+    }
+
+    @Test
+    public void serialize_CompletedCreatePayloadSize() throws IOException {
+        final CallbackContext context = new CallbackContext();
+        context.setCreated(true);
+        context.setUpdated(true);
+        context.setRebooted(true);
+        context.setUpdatedRoles(true);
+        context.setAddTagsComplete(true);
+        long now = 1_666_000_000_000L;
+        for (final String phaseName : CREATE_PHASES) {
+            final PhaseTimingContext.PhaseTiming timing = context.getPhaseTimingContext().phase(phaseName);
+            timing.setStartedAt(now);
+            timing.setFinishedAt(now + 600_000L);
+            timing.setActiveMillis(12_345L);
+            timing.setPolls(40);
+            timing.setDescribes(39);
+            timing.setApiCalls(41);
+            now += 600_000L;
+        }
+
+        final String payload = serializer.serialize(context);
+
+        assertThat(payload.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(COMPLETED_CREATE_MAX_BYTES);
+        assertThat(payload).doesNotContain("startedAt").doesNotContain("deleted");
+        assertThat(roundTrip(payload)).isEqualTo(context);
+    }
+
+    private CallbackContext roundTrip(final String payload) throws IOException {
+        return serializer.deserialize(payload, new TypeReference<CallbackContext>() {
+        });
+    }
+}
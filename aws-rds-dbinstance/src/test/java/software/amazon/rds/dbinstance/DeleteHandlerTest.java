@@ -68,6 +68,7 @@ public class DeleteHandlerTest extends AbstractHandlerTest {
                 HandlerConfig.builder()
                         .probingEnabled(false)
                         .backoff(TEST_BACKOFF_DELAY)
+                        .absenceBackoff(TEST_BACKOFF_DELAY)
                         .build()
         );
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -27,6 +29,8 @@ import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.handler.HandlerConfig;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest extends AbstractHandlerTest {
@@ -101,4 +105,45 @@ public class ListHandlerTest extends AbstractHandlerTest {
 
         verify(rdsProxy.client()).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
+
+    @Test
+    public void handleRequest_FetchesNextPageByMarker() {
+        handler = new ListHandler(HandlerConfig.builder().listPageSize(20).build());
+
+        when(rdsProxy.client().describeDBInstances(any(DescribeDbInstancesRequest.class)))
+                .thenReturn(DescribeDbInstancesResponse.builder()
+                        .dbInstances(DBInstance.builder().dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER).build())
+                        .marker(DESCRIBE_DB_INSTANCES_MARKER)
+                        .build())
+                .thenReturn(DescribeDbInstancesResponse.builder()
+                        .dbInstances(DBInstance.builder().dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER + "-2").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstPage = test_handleRequest_base(
+                new CallbackContext(),
+                null,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                expectSuccess()
+        );
+        assertThat(firstPage.getNextToken()).isEqualTo(DESCRIBE_DB_INSTANCES_MARKER);
+
+        final ProgressEvent<ResourceModel, CallbackContext> secondPage = test_handleRequest_base(
+                new CallbackContext(),
+                ResourceHandlerRequest.<ResourceModel>builder().nextToken(DESCRIBE_DB_INSTANCES_MARKER),
+                null,
+                null,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                expectSuccess()
+        );
+        assertThat(secondPage.getNextToken()).isNull();
+        assertThat(secondPage.getResourceModels()).extracting(ResourceModel::getDBInstanceIdentifier)
+                .containsExactly(DB_INSTANCE_IDENTIFIER + "-2");
+
+        final ArgumentCaptor<DescribeDbInstancesRequest> captor = ArgumentCaptor.forClass(DescribeDbInstancesRequest.class);
+        verify(rdsProxy.client(), times(2)).describeDBInstances(captor.capture());
+        assertThat(captor.getAllValues()).extracting(DescribeDbInstancesRequest::marker)
+                .containsExactly(null, DESCRIBE_DB_INSTANCES_MARKER);
+        assertThat(captor.getAllValues()).extracting(DescribeDbInstancesRequest::maxRecords)
+                .containsOnly(20);
+    }
 }
@@ -163,6 +163,39 @@ class TranslatorTest extends AbstractHandlerTest {
         Assertions.assertEquals(request1.hashCode(), request2.hashCode());
     }
 
+    @Test
+    public void test_isModifyDbInstanceRequestEffective_NoChanges() {
+        final ResourceModel previousModel = RESOURCE_MODEL_BLDR().build();
+        final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
+                .associatedRoles(ASSOCIATED_ROLES_ALTER)
+                .tags(TAG_LIST_ALTER)
+                .build();
+        assertThat(Translator.isModifyDbInstanceRequestEffective(previousModel, desiredModel, false)).isFalse();
+        assertThat(Translator.isModifyDbInstanceRequestV12Effective(previousModel, desiredModel, false)).isFalse();
+    }
+
+    @Test
+    public void test_isModifyDbInstanceRequestEffective_AllocatedStorageChanged() {
+        final ResourceModel previousModel = RESOURCE_MODEL_BLDR().build();
+        final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
+                .allocatedStorage(ALLOCATED_STORAGE_INCR.toString())
+                .build();
+        assertThat(Translator.isModifyDbInstanceRequestEffective(previousModel, desiredModel, false)).isTrue();
+        assertThat(Translator.isModifyDbInstanceRequestV12Effective(previousModel, desiredModel, false)).isTrue();
+    }
+
+    @Test
+    public void test_isModifyDbInstanceRequestEffective_EngineVersionChangedOnRollback() {
+        final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
+                .engineVersion(ENGINE_VERSION_MYSQL_80)
+                .build();
+        final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
+                .engineVersion(ENGINE_VERSION_MYSQL_56)
+                .build();
+        assertThat(Translator.isModifyDbInstanceRequestEffective(previousModel, desiredModel, true)).isFalse();
+        assertThat(Translator.isModifyDbInstanceRequestEffective(previousModel, desiredModel, false)).isTrue();
+    }
+
     // Stub methods to satisfy the interface. This is a 1-time thing.
 
     @Override
@@ -3,6 +3,7 @@ package software.amazon.rds.dbinstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -235,6 +236,64 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
+    @Test
+    public void handleRequest_NoModifyDbInstanceChanges_SkipsModify() {
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(false);
+        context.setRebooted(true);
+        context.setUpdatedRoles(true);
+
+        final ProgressEvent<ResourceModel, CallbackContext> progressEvent = test_handleRequest_base(
+                context,
+                () -> DB_INSTANCE_ACTIVE,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR().build(),
+                expectSuccess()
+        );
+
+        Assertions.assertThat(progressEvent.getCallbackContext().isUpdated()).isTrue();
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), never()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_TagsOnlyWithDefaultVpcSecurityGroup_SkipsModify() {
+        final DescribeSecurityGroupsResponse describeSecurityGroupsResponse = DescribeSecurityGroupsResponse.builder()
+                .securityGroups(SecurityGroup.builder().groupName(DB_SECURITY_GROUP_DEFAULT).groupId(DB_SECURITY_GROUP_ID).build())
+                .build();
+        when(ec2Proxy.client().describeSecurityGroups(any(DescribeSecurityGroupsRequest.class))).thenReturn(describeSecurityGroupsResponse);
+        when(rdsProxy.client().addTagsToResource(any(AddTagsToResourceRequest.class)))
+                .thenReturn(AddTagsToResourceResponse.builder().build());
+        when(rdsProxy.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class)))
+                .thenReturn(RemoveTagsFromResourceResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(false);
+        context.setRebooted(true);
+        context.setUpdatedRoles(true);
+
+        test_handleRequest_base(
+                context,
+                () -> DB_INSTANCE_ACTIVE.toBuilder().dbSubnetGroup(
+                        DBSubnetGroup.builder().vpcId(DB_SECURITY_GROUP_VPC_ID).build()
+                ).build(),
+                () -> RESOURCE_MODEL_BLDR()
+                        .vPCSecurityGroups(null)
+                        .build(),
+                () -> RESOURCE_MODEL_BLDR()
+                        .vPCSecurityGroups(null)
+                        .tags(TAG_LIST_ALTER)
+                        .build(),
+                expectSuccess()
+        );
+
+        verify(ec2Proxy.client()).describeSecurityGroups(any(DescribeSecurityGroupsRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), never()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        verify(rdsProxy.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
+        verify(rdsProxy.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+    }
+
     @Test
     public void handleRequest_InitiatesModifyRequest_InvalidDBInstanceState() {
         when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class)))
@@ -523,12 +582,10 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         final Queue<DBInstance> transitions = new ConcurrentLinkedQueue<>(
                 computeAssociatedRoleTransitions(DB_INSTANCE_ACTIVE, ASSOCIATED_ROLES, ASSOCIATED_ROLES_ALTER)
         );
-        // We expect describeDBInstances to be called 3 more times: for tag mutation, reboot check and the final resource fetch.
-        for (int i = 0; i < 3; i++) {
-            transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
-                    .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES_ALTER))
-                    .build());
-        }
+        // Tagging does not wait for the role updates and takes the first describe, the final resource fetch takes one more.
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES_ALTER))
+                .build());
 
         final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
         when(rdsProxy.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
@@ -558,7 +615,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
         verify(rdsProxy.client(), times(2)).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
         verify(rdsProxy.client(), times(3)).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
-        verify(rdsProxy.client(), times(8)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(7)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -593,9 +650,6 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
     @Test
     public void handleRequest_NoEngineVersionChangeOnRollback() {
-        when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class)))
-                .thenReturn(ModifyDbInstanceResponse.builder().build());
-
         final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
                 .engineVersion(ENGINE_VERSION_MYSQL_56)
                 .build();
@@ -617,9 +671,9 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
         // Ensure that engineVersion is not set on a rollback, otherwise it will fail the attempt.
-        final ArgumentCaptor<ModifyDbInstanceRequest> captor = ArgumentCaptor.forClass(ModifyDbInstanceRequest.class);
-        verify(rdsProxy.client(), times(1)).modifyDBInstance(captor.capture());
-        Assertions.assertThat(captor.getValue().engineVersion()).isNull();
+        // With no other change left, the instance is not modified at all.
+        verify(rdsProxy.client(), never()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -760,6 +814,46 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
+    @Test
+    public void handleRequest_SetParameterGroupName_CachedEngineVersion() {
+        final DescribeDbParameterGroupsResponse describeDbParameterGroupsResponse = DescribeDbParameterGroupsResponse.builder()
+                .dbParameterGroups(ImmutableList.of(DBParameterGroup.builder().dbParameterGroupFamily("mysql8.0").build()))
+                .build();
+        when(rdsProxy.client().describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class))).thenReturn(describeDbParameterGroupsResponse);
+
+        final DescribeDbEngineVersionsResponse describeDbEngineVersionsResponse = DescribeDbEngineVersionsResponse.builder()
+                .dbEngineVersions(ImmutableList.of(DBEngineVersion.builder().build()))
+                .build();
+        when(rdsProxy.client().describeDBEngineVersions(any(DescribeDbEngineVersionsRequest.class))).thenReturn(describeDbEngineVersionsResponse);
+
+        final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
+                .dBParameterGroupName(DB_PARAMETER_GROUP_NAME_ALTER)
+                .engineVersion(ENGINE_VERSION_MYSQL_80)
+                .build();
+        final ResourceModel previousModel = RESOURCE_MODEL_BLDR()
+                .dBParameterGroupName(DB_PARAMETER_GROUP_NAME_DEFAULT)
+                .engineVersion(ENGINE_VERSION_MYSQL_56)
+                .build();
+
+        for (int i = 0; i < 2; i++) {
+            final CallbackContext context = new CallbackContext();
+            context.setUpdated(true); // this is an emulation of a re-entrance
+
+            test_handleRequest_base(
+                    context,
+                    ResourceHandlerRequest.<ResourceModel>builder().rollback(true),
+                    () -> DB_INSTANCE_ACTIVE,
+                    () -> previousModel,
+                    () -> desiredModel,
+                    expectSuccess()
+            );
+        }
+
+        verify(rdsProxy.client(), times(2)).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
+        verify(rdsProxy.client()).describeDBEngineVersions(any(DescribeDbEngineVersionsRequest.class));
+        verify(rdsProxy.client(), times(4)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
     @Test
     public void handleRequest_SetDefaultVpcId() {
         final DescribeSecurityGroupsResponse describeSecurityGroupsResponse = DescribeSecurityGroupsResponse.builder()
@@ -786,6 +880,34 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
+    @Test
+    public void handleRequest_SetDefaultVpcId_CachesDefaultSecurityGroup() {
+        final DescribeSecurityGroupsResponse describeSecurityGroupsResponse = DescribeSecurityGroupsResponse.builder()
+                .securityGroups(SecurityGroup.builder().groupName(DB_SECURITY_GROUP_DEFAULT).groupId(DB_SECURITY_GROUP_ID).build())
+                .build();
+        when(ec2Proxy.client().describeSecurityGroups(any(DescribeSecurityGroupsRequest.class))).thenReturn(describeSecurityGroupsResponse);
+
+        for (int i = 0; i < 2; i++) {
+            final CallbackContext context = new CallbackContext();
+            context.setUpdated(true); // this is an emulation of a re-entrance
+
+            test_handleRequest_base(
+                    context,
+                    () -> DB_INSTANCE_ACTIVE.toBuilder().dbSubnetGroup(
+                            DBSubnetGroup.builder().vpcId(DB_SECURITY_GROUP_VPC_ID).build()
+                    ).build(),
+                    () -> RESOURCE_MODEL_BLDR().build(),
+                    () -> RESOURCE_MODEL_BLDR()
+                            .vPCSecurityGroups(Collections.emptyList())
+                            .build(),
+                    expectSuccess()
+            );
+        }
+
+        verify(ec2Proxy.client(), times(1)).describeSecurityGroups(any(DescribeSecurityGroupsRequest.class));
+        verify(rdsProxy.client(), times(6)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
     @Test
     public void handleRequest_NoDefaultVpcIdForClusterInstance() {
         final CallbackContext context = new CallbackContext();
@@ -1015,9 +1137,6 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
     @Test
     public void handleRequest_modifyDbInstance_RestoreOriginalIdentifier() {
-        when(rdsProxy.client().modifyDBInstance(any(ModifyDbInstanceRequest.class)))
-                .thenReturn(ModifyDbInstanceResponse.builder().build());
-
         final CallbackContext context = new CallbackContext();
         context.setUpdated(false);
         context.setRebooted(true);
@@ -1033,8 +1152,8 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
-        verify(rdsProxy.client()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), never()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
 
         Assertions.assertThat(progressEvent.getResourceModel().getDBInstanceIdentifier()).isEqualTo(dbInstanceIdentifier);
     }
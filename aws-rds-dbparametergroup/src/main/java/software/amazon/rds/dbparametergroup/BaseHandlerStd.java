@@ -81,6 +81,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
+                config.getLogBudgetBytes(),
                 requestLogger -> handleRequest(proxy,
                         request,
                         context,
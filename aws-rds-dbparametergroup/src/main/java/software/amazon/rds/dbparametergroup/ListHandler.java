@@ -32,9 +32,10 @@ public class ListHandler extends BaseHandlerStd {
             final ProxyClient<RdsClient> proxyClient,
             final RequestLogger requestLogger) {
         DescribeDbParameterGroupsResponse describeDBParameterGroupsResponse;
-        DescribeDbParameterGroupsRequest describeDbParameterGroupsRequest = Translator.describeDbParameterGroupsRequest(request.getNextToken());
+        DescribeDbParameterGroupsRequest describeDbParameterGroupsRequest = Translator.describeDbParameterGroupsRequest(request.getNextToken(), config.getListPageSize());
         try {
-            describeDBParameterGroupsResponse = proxy.injectCredentialsAndInvokeV2(describeDbParameterGroupsRequest,
+            describeDBParameterGroupsResponse = proxy.injectCredentialsAndInvokeV2(
+                    describeDbParameterGroupsRequest,
                     proxyClient.client()::describeDBParameterGroups);
         } catch (Exception exception) {
             return Commons.handleException(
@@ -45,9 +45,10 @@ public class Translator {
                 .build();
     }
 
-    static DescribeDbParameterGroupsRequest describeDbParameterGroupsRequest(final String nextToken) {
+    static DescribeDbParameterGroupsRequest describeDbParameterGroupsRequest(final String nextToken, final Integer maxRecords) {
         return DescribeDbParameterGroupsRequest.builder()
                 .marker(nextToken)
+                .maxRecords(maxRecords)
                 .build();
     }
 
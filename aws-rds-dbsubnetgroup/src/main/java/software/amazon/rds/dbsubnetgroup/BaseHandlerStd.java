@@ -18,7 +18,6 @@ import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Tagging;
-import software.amazon.rds.common.logging.LoggingProxyClient;
 import software.amazon.rds.common.logging.RequestLogger;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
 
@@ -63,20 +62,15 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
-                requestLogger -> handleRequest(
-                        proxy,
-                        request,
-                        context,
-                        new LoggingProxyClient<>(requestLogger, proxy.newProxy(ClientBuilder::getClient)),
-                        logger
-                ));
+                config.getLogBudgetBytes(),
+                requestLogger -> handleRequest(proxy, request, context, requestLogger, logger));
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             AmazonWebServicesClientProxy proxy,
             ResourceHandlerRequest<ResourceModel> request,
             CallbackContext callbackContext,
-            ProxyClient<RdsClient> proxyClient,
+            RequestLogger requestLogger,
             Logger logger);
 
     protected boolean isStabilized(final ResourceModel model, final ProxyClient<RdsClient> proxyClient) {
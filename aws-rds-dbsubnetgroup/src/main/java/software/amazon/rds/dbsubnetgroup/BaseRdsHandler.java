@@ -0,0 +1,45 @@
+package software.amazon.rds.dbsubnetgroup;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.logging.LoggingProxyClient;
+import software.amazon.rds.common.logging.RequestLogger;
+
+/**
+ * Base of the handlers that only call RDS.
+ */
+public abstract class BaseRdsHandler extends BaseHandlerStd {
+
+    public BaseRdsHandler(final HandlerConfig config) {
+        super(config);
+    }
+
+    @Override
+    protected final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final RequestLogger requestLogger,
+            final Logger logger
+    ) {
+        return handleRequest(
+                proxy,
+                request,
+                callbackContext,
+                new LoggingProxyClient<>(requestLogger, proxy.newProxy(ClientBuilder::getClient)),
+                logger
+        );
+    }
+
+    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            AmazonWebServicesClientProxy proxy,
+            ResourceHandlerRequest<ResourceModel> request,
+            CallbackContext callbackContext,
+            ProxyClient<RdsClient> proxyClient,
+            Logger logger);
+}
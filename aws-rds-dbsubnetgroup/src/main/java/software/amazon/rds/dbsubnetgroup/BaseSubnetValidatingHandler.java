@@ -0,0 +1,94 @@
+package software.amazon.rds.dbsubnetgroup;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.logging.LoggingProxyClient;
+import software.amazon.rds.common.logging.RequestLogger;
+
+/**
+ * Base of the handlers that set the subnets of a DB subnet group, hence validate them against EC2 first.
+ */
+public abstract class BaseSubnetValidatingHandler extends BaseHandlerStd {
+    protected static final String INVALID_SUBNET_ID_ERROR_CODE_PREFIX = "InvalidSubnetID.";
+
+    private final SubnetTopology subnetTopology;
+
+    public BaseSubnetValidatingHandler(final HandlerConfig config) {
+        this(config, new SubnetTopology());
+    }
+
+    public BaseSubnetValidatingHandler(final HandlerConfig config, final SubnetTopology subnetTopology) {
+        super(config);
+        this.subnetTopology = subnetTopology;
+    }
+
+    @Override
+    protected final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final RequestLogger requestLogger,
+            final Logger logger
+    ) {
+        return handleRequest(
+                proxy,
+                request,
+                callbackContext,
+                new LoggingProxyClient<>(requestLogger, proxy.newProxy(ClientBuilder::getClient)),
+                new LoggingProxyClient<>(requestLogger, proxy.newProxy(ClientBuilder::getEc2Client)),
+                logger
+        );
+    }
+
+    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            AmazonWebServicesClientProxy proxy,
+            ResourceHandlerRequest<ResourceModel> request,
+            CallbackContext callbackContext,
+            ProxyClient<RdsClient> proxyClient,
+            ProxyClient<Ec2Client> ec2ProxyClient,
+            Logger logger);
+
+    protected ProgressEvent<ResourceModel, CallbackContext> validateSubnetTopology(
+            final ProxyClient<Ec2Client> ec2ProxyClient,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ProgressEvent<ResourceModel, CallbackContext> progress
+    ) {
+        final ResourceModel model = progress.getResourceModel();
+        if (!config.isPreflightValidationEnabled() || model.getSubnetIds() == null || model.getSubnetIds().isEmpty()) {
+            return progress;
+        }
+        final String violation;
+        try {
+            violation = subnetTopology.validate(ec2ProxyClient, request.getAwsAccountId(), model.getSubnetIds());
+        } catch (SdkException exception) {
+            if (isInvalidSubnetIdException(exception)) {
+                return ProgressEvent.failed(model, progress.getCallbackContext(), HandlerErrorCode.InvalidRequest, exception.getMessage());
+            }
+            // The validation is best effort only, RDS has the final say on the subnets.
+            return progress;
+        }
+        if (violation != null) {
+            return ProgressEvent.failed(model, progress.getCallbackContext(), HandlerErrorCode.InvalidRequest, violation);
+        }
+        return progress;
+    }
+
+    private static boolean isInvalidSubnetIdException(final SdkException exception) {
+        if (!(exception instanceof AwsServiceException)) {
+            return false;
+        }
+        final AwsServiceException awsServiceException = (AwsServiceException) exception;
+        return awsServiceException.awsErrorDetails() != null &&
+                awsServiceException.awsErrorDetails().errorCode() != null &&
+                awsServiceException.awsErrorDetails().errorCode().startsWith(INVALID_SUBNET_ID_ERROR_CODE_PREFIX);
+    }
+}
@@ -1,5 +1,6 @@
 package software.amazon.rds.dbsubnetgroup;
 
+import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.cloudformation.LambdaWrapper;
 
@@ -9,4 +10,10 @@ public class ClientBuilder {
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
                 .build();
     }
+
+    public static Ec2Client getEc2Client() {
+        return Ec2Client.builder()
+                .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .build();
+    }
 }
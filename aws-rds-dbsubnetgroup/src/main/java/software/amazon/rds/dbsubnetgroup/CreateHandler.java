@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 
 import com.amazonaws.util.StringUtils;
+import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -15,7 +16,7 @@ import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.common.util.IdentifierFactory;
 
-public class CreateHandler extends BaseHandlerStd {
+public class CreateHandler extends BaseSubnetValidatingHandler {
 
     private final static IdentifierFactory groupNameFactory = new IdentifierFactory(
             STACK_NAME,
@@ -36,6 +37,7 @@ public class CreateHandler extends BaseHandlerStd {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final ProxyClient<RdsClient> proxyClient,
+            final ProxyClient<Ec2Client> ec2ProxyClient,
             final Logger logger) {
 
         final ResourceModel desiredModel = request.getDesiredResourceState();
@@ -48,6 +50,7 @@ public class CreateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> setDbSubnetGroupNameIfEmpty(request, progress))
+                .then(progress -> validateSubnetTopology(ec2ProxyClient, request, progress))
                 .then(progress -> safeCreateDbSubnetGroup(proxy, proxyClient, progress, allTags))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
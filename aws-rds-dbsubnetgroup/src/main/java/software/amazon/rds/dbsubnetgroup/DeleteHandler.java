@@ -9,7 +9,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.HandlerConfig;
 
-public class DeleteHandler extends BaseHandlerStd {
+public class DeleteHandler extends BaseRdsHandler {
 
     public DeleteHandler() {
         this(HandlerConfig.builder().build());
@@ -29,11 +29,19 @@ public class DeleteHandler extends BaseHandlerStd {
                 .translateToServiceRequest(Translator::deleteDbSubnetGroupRequest)
                 .backoffDelay(config.getBackoff())
                 .makeServiceCall((deleteDbSubnetGroupRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(deleteDbSubnetGroupRequest, proxyInvocation.client()::deleteDBSubnetGroup))
-                .stabilize((deleteDbSubnetGroupRequest, deleteDbSubnetGroupResponse, proxyInvocation, resourceModel, context) -> isDeleted(resourceModel, proxyInvocation))
                 .handleError((deleteDbSubnetGroupRequest, exception, client, resourceModel, cxt) -> Commons.handleException(
                         ProgressEvent.progress(resourceModel, cxt),
                         exception,
                         DEFAULT_DB_SUBNET_GROUP_ERROR_RULE_SET))
-                .done((deleteDbSubnetGroupRequest, deleteDbSubnetGroupResponse, client, model, cxt) -> ProgressEvent.defaultSuccessHandler(null));
+                .progress()
+                .then(progress -> Commons.awaitAbsence(
+                        proxy,
+                        proxyClient,
+                        "rds::delete-dbsubnet-group-stabilize",
+                        progress,
+                        config.getAbsenceBackoff(),
+                        (proxyInvocation, resourceModel) -> isDeleted(resourceModel, proxyInvocation),
+                        DEFAULT_DB_SUBNET_GROUP_ERROR_RULE_SET))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
 }
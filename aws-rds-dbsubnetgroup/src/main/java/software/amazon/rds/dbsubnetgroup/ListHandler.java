@@ -13,7 +13,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.HandlerConfig;
 
-public class ListHandler extends BaseHandlerStd {
+public class ListHandler extends BaseRdsHandler {
 
     public ListHandler() {
         this(HandlerConfig.builder().build());
@@ -33,9 +33,9 @@ public class ListHandler extends BaseHandlerStd {
 
         final DescribeDbSubnetGroupsResponse describeDbSubnetGroupsResponse;
         try {
-            describeDbSubnetGroupsResponse =
-                    proxy.injectCredentialsAndInvokeV2(Translator.describeDbSubnetGroupsRequest(request.getNextToken()),
-                            proxyClient.client()::describeDBSubnetGroups);
+            describeDbSubnetGroupsResponse = proxy.injectCredentialsAndInvokeV2(
+                    Translator.describeDbSubnetGroupsRequest(request.getNextToken(), config.getListPageSize()),
+                    proxyClient.client()::describeDBSubnetGroups);
         } catch (Exception exception) {
             return Commons.handleException(
                     ProgressEvent.progress(request.getDesiredResourceState(), callbackContext),
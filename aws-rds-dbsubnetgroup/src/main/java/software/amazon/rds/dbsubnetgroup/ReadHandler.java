@@ -13,7 +13,7 @@ import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Tagging;
 
-public class ReadHandler extends BaseHandlerStd {
+public class ReadHandler extends BaseRdsHandler {
 
     public ReadHandler() {
         this(HandlerConfig.builder().build());
@@ -0,0 +1,118 @@
+package software.amazon.rds.dbsubnetgroup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.DescribeSubnetsResponse;
+import software.amazon.awssdk.services.ec2.model.Subnet;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.cache.ExpiringCache;
+
+/**
+ * Checks locally that a set of subnets can form a DB subnet group: all subnets should belong to the same VPC
+ * and cover at least {@link #MIN_AVAILABILITY_ZONES} Availability Zones. Subnets that are not cached yet are
+ * resolved with a single DescribeSubnets call. The VPC and the Availability Zone of a subnet never change,
+ * so resolved subnets are cached for an hour; the expiry only bounds how long a deleted subnet
+ * is still taken for an existing one.
+ */
+public class SubnetTopology {
+
+    public static final int MIN_AVAILABILITY_ZONES = 2;
+
+    private static final Duration PLACEMENT_TTL = Duration.ofHours(1);
+
+    private final ExpiringCache<String, SubnetPlacement> placements;
+
+    public SubnetTopology() {
+        this(new ExpiringCache<>(PLACEMENT_TTL));
+    }
+
+    public SubnetTopology(@NonNull final ExpiringCache<String, SubnetPlacement> placements) {
+        this.placements = placements;
+    }
+
+    /**
+     * Returns the reason why the subnets can not form a DB subnet group, or {@code null} if none is found.
+     * Subnets are cached per {@code scope}, which should identify the account the subnets belong to.
+     */
+    public String validate(
+            final ProxyClient<Ec2Client> ec2ProxyClient,
+            final String scope,
+            final Collection<String> subnetIds
+    ) {
+        final Set<String> vpcIds = new TreeSet<>();
+        final Set<String> availabilityZones = new TreeSet<>();
+        boolean onOutpost = false;
+        for (final SubnetPlacement placement : resolve(ec2ProxyClient, scope, subnetIds)) {
+            vpcIds.add(placement.getVpcId());
+            availabilityZones.add(placement.getAvailabilityZone());
+            onOutpost |= placement.isOnOutpost();
+        }
+
+        if (vpcIds.size() > 1) {
+            return String.format("The subnets %s belong to different VPCs: %s.", subnetIds, String.join(", ", vpcIds));
+        }
+        // Outpost subnet groups are not subject to the AZ coverage requirement
+        if (!onOutpost && availabilityZones.size() < MIN_AVAILABILITY_ZONES) {
+            return String.format("The DB subnet group doesn't meet Availability Zone (AZ) coverage requirement. " +
+                            "Current AZ coverage: %s. Add subnets to cover at least %d AZs.",
+                    String.join(", ", availabilityZones), MIN_AVAILABILITY_ZONES);
+        }
+        return null;
+    }
+
+    private List<SubnetPlacement> resolve(
+            final ProxyClient<Ec2Client> ec2ProxyClient,
+            final String scope,
+            final Collection<String> subnetIds
+    ) {
+        final List<SubnetPlacement> resolved = new ArrayList<>(subnetIds.size());
+        final List<String> unresolvedSubnetIds = new ArrayList<>();
+        for (final String subnetId : new LinkedHashSet<>(subnetIds)) {
+            final Optional<SubnetPlacement> placement = placements.getIfPresent(cacheKey(scope, subnetId));
+            if (placement.isPresent()) {
+                resolved.add(placement.get());
+            } else {
+                unresolvedSubnetIds.add(subnetId);
+            }
+        }
+
+        if (!unresolvedSubnetIds.isEmpty()) {
+            final DescribeSubnetsResponse response = ec2ProxyClient.injectCredentialsAndInvokeV2(
+                    Translator.describeSubnetsRequest(unresolvedSubnetIds),
+                    ec2ProxyClient.client()::describeSubnets
+            );
+            for (final Subnet subnet : response.subnets()) {
+                final SubnetPlacement placement = new SubnetPlacement(
+                        subnet.vpcId(),
+                        subnet.availabilityZone(),
+                        subnet.outpostArn() != null
+                );
+                placements.put(cacheKey(scope, subnet.subnetId()), placement);
+                resolved.add(placement);
+            }
+        }
+
+        return resolved;
+    }
+
+    private static String cacheKey(final String scope, final String subnetId) {
+        return scope + "/" + subnetId;
+    }
+
+    @Value
+    public static class SubnetPlacement {
+        String vpcId;
+        String availabilityZone;
+        boolean onOutpost;
+    }
+}
@@ -9,6 +9,7 @@ import java.util.stream.Collectors;
 
 import com.amazonaws.arn.Arn;
 import com.amazonaws.util.CollectionUtils;
+import software.amazon.awssdk.services.ec2.model.DescribeSubnetsRequest;
 import software.amazon.awssdk.services.rds.model.CreateDbSubnetGroupRequest;
 import software.amazon.awssdk.services.rds.model.DBSubnetGroup;
 import software.amazon.awssdk.services.rds.model.DeleteDbSubnetGroupRequest;
@@ -34,15 +35,22 @@ public class Translator {
                 .tags(Tagging.translateTagsToSdk(tags)).build();
     }
 
+    static DescribeSubnetsRequest describeSubnetsRequest(final Collection<String> subnetIds) {
+        return DescribeSubnetsRequest.builder()
+                .subnetIds(subnetIds)
+                .build();
+    }
+
     static DescribeDbSubnetGroupsRequest describeDbSubnetGroupsRequest(final ResourceModel model) {
         return DescribeDbSubnetGroupsRequest.builder()
                 .dbSubnetGroupName(model.getDBSubnetGroupName())
                 .build();
     }
 
-    static DescribeDbSubnetGroupsRequest describeDbSubnetGroupsRequest(final String nextToken) {
+    static DescribeDbSubnetGroupsRequest describeDbSubnetGroupsRequest(final String nextToken, final Integer maxRecords) {
         return DescribeDbSubnetGroupsRequest.builder()
                 .marker(nextToken)
+                .maxRecords(maxRecords)
                 .build();
     }
 
@@ -4,6 +4,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 
+import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -14,7 +15,7 @@ import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Tagging;
 
-public class UpdateHandler extends BaseHandlerStd {
+public class UpdateHandler extends BaseSubnetValidatingHandler {
 
     public UpdateHandler() {
         this(HandlerConfig.builder().build());
@@ -29,6 +30,7 @@ public class UpdateHandler extends BaseHandlerStd {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final ProxyClient<RdsClient> proxyClient,
+            final ProxyClient<Ec2Client> ec2ProxyClient,
             final Logger logger
     ) {
         final Tagging.TagSet previousTags = Tagging.TagSet.builder()
@@ -44,6 +46,7 @@ public class UpdateHandler extends BaseHandlerStd {
                 .build();
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+                .then(progress -> validateSubnetTopology(ec2ProxyClient, request, progress))
                 .then(progress -> modifyDBSubnetGroup(proxy, proxyClient, progress))
                 .then(progress -> updateTags(proxyClient, progress, previousTags, desiredTags))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
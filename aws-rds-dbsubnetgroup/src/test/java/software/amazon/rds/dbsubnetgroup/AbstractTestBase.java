@@ -17,7 +17,6 @@ import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
-import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DBSubnetGroup;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
@@ -75,11 +74,11 @@ public class AbstractTestBase {
 
     }
 
-    static ProxyClient<RdsClient> MOCK_PROXY(
+    static <ClientT> ProxyClient<ClientT> MOCK_PROXY(
             final AmazonWebServicesClientProxy proxy,
-            final RdsClient rdsClient
+            final ClientT client
     ) {
-        return new ProxyClient<RdsClient>() {
+        return new ProxyClient<ClientT>() {
             @Override
             public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
             ResponseT
@@ -119,8 +118,8 @@ public class AbstractTestBase {
             }
 
             @Override
-            public RdsClient client() {
-                return rdsClient;
+            public ClientT client() {
+                return client;
             }
         };
     }
@@ -23,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
@@ -54,6 +55,9 @@ public class CreateHandlerTest extends AbstractTestBase {
     private AmazonWebServicesClientProxy proxy;
     @Mock
     private ProxyClient<RdsClient> proxyRdsClient;
+    @Mock
+    Ec2Client ec2;
+    private ProxyClient<Ec2Client> proxyEc2Client;
     private CreateHandler handler;
 
     @BeforeEach
@@ -66,6 +70,8 @@ public class CreateHandlerTest extends AbstractTestBase {
         rds = mock(RdsClient.class);
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         proxyRdsClient = MOCK_PROXY(proxy, rds);
+        ec2 = mock(Ec2Client.class);
+        proxyEc2Client = MOCK_PROXY(proxy, ec2);
     }
 
     @AfterEach
@@ -98,7 +104,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .desiredResourceTags(translateTagsToMap(TAG_SET))
                 .clientRequestToken("4b90a7e4-b791-4512-a137-0cf12a23451e")
                 .build();
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, proxyEc2Client, logger);
 
 
         assertThat(response).isNotNull();
@@ -138,7 +144,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .desiredResourceTags(translateTagsToMap(TAG_SET))
                 .clientRequestToken("4b90a7e4-b791-4512-a137-0cf12a23451e")
                 .build();
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, proxyEc2Client, logger);
 
 
         assertThat(response).isNotNull();
@@ -166,7 +172,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .desiredResourceTags(translateTagsToMap(TAG_SET))
                 .clientRequestToken("4b90a7e4-b791-4512-a137-0cf12a23451e")
                 .build();
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, proxyEc2Client, logger);
 
 
         assertThat(response).isNotNull();
@@ -191,7 +197,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(RESOURCE_MODEL)
                 .desiredResourceTags(translateTagsToMap(TAG_SET))
                 .build();
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, proxyEc2Client, logger);
 
 
         assertThat(response).isNotNull();
@@ -215,7 +221,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(RESOURCE_MODEL)
                 .desiredResourceTags(translateTagsToMap(TAG_SET))
                 .build();
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, proxyEc2Client, logger);
 
 
         assertThat(response).isNotNull();
@@ -246,7 +252,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .stackId("StackId")
                 .logicalResourceIdentifier("logicalId").build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, proxyEc2Client, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -23,6 +24,7 @@ import software.amazon.awssdk.services.rds.model.DbSubnetGroupNotFoundException;
 import software.amazon.awssdk.services.rds.model.DeleteDbSubnetGroupRequest;
 import software.amazon.awssdk.services.rds.model.DeleteDbSubnetGroupResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbSubnetGroupsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbSubnetGroupsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -47,6 +49,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         handler = new DeleteHandler(HandlerConfig.builder()
                 .probingEnabled(false)
                 .backoff(TEST_BACKOFF_DELAY)
+                .absenceBackoff(TEST_BACKOFF_DELAY)
                 .build());
         rds = mock(RdsClient.class);
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
@@ -84,6 +87,25 @@ public class DeleteHandlerTest extends AbstractTestBase {
         verify(proxyRdsClient.client()).describeDBSubnetGroups(any(DescribeDbSubnetGroupsRequest.class));
     }
 
+    @Test
+    public void handleRequest_AwaitsAbsence() {
+        when(proxyRdsClient.client().deleteDBSubnetGroup(any(DeleteDbSubnetGroupRequest.class)))
+                .thenReturn(DeleteDbSubnetGroupResponse.builder().build());
+        when(proxyRdsClient.client().describeDBSubnetGroups(any(DescribeDbSubnetGroupsRequest.class)))
+                .thenReturn(DescribeDbSubnetGroupsResponse.builder().build())
+                .thenThrow(DbSubnetGroupNotFoundException.class);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(RESOURCE_MODEL)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(proxyRdsClient.client()).deleteDBSubnetGroup(any(DeleteDbSubnetGroupRequest.class));
+        verify(proxyRdsClient.client(), times(2)).describeDBSubnetGroups(any(DescribeDbSubnetGroupsRequest.class));
+    }
+
     @Test
     public void handleRequest_SimpleNotFound() {
 
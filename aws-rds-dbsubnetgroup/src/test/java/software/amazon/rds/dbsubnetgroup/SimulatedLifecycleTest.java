@@ -0,0 +1,109 @@
+package software.amazon.rds.dbsubnetgroup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.test.simulator.ControlPlaneSimulator;
+
+/**
+ * Drives the handlers end to end against the in-memory control plane simulator instead of Mockito stubs.
+ */
+public class SimulatedLifecycleTest extends AbstractTestBase {
+
+    private static final HandlerConfig HANDLER_CONFIG = HandlerConfig.builder()
+            .probingEnabled(false)
+            .backoff(TEST_BACKOFF_DELAY)
+            .build();
+
+    private ControlPlaneSimulator simulator;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<RdsClient> proxyRdsClient;
+    private ProxyClient<Ec2Client> proxyEc2Client;
+
+    @BeforeEach
+    public void setup() {
+        simulator = new ControlPlaneSimulator();
+        simulator.ec2Client()
+                .putSubnet("subnet-a", "vpc-1", "us-east-1a")
+                .putSubnet("subnet-b", "vpc-1", "us-east-1b")
+                .putSubnet("subnet-c", "vpc-2", "us-east-1c");
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyRdsClient = MOCK_PROXY(proxy, simulator.rdsClient());
+        proxyEc2Client = MOCK_PROXY(proxy, simulator.ec2Client());
+    }
+
+    @Test
+    public void createReadDelete() {
+        final ResourceModel model = ResourceModel.builder()
+                .dBSubnetGroupName("Simulated-Group")
+                .dBSubnetGroupDescription("simulated")
+                .subnetIds(Arrays.asList("subnet-a", "subnet-b"))
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = invoke(new CreateHandler(HANDLER_CONFIG), model);
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(created.getResourceModel().getDBSubnetGroupName()).isEqualTo("simulated-group");
+
+        final ProgressEvent<ResourceModel, CallbackContext> read = invoke(new ReadHandler(HANDLER_CONFIG), created.getResourceModel());
+        assertThat(read.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(read.getResourceModel().getSubnetIds()).containsExactlyInAnyOrder("subnet-a", "subnet-b");
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = invoke(new DeleteHandler(HANDLER_CONFIG), created.getResourceModel());
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> readDeleted = invoke(new ReadHandler(HANDLER_CONFIG), created.getResourceModel());
+        assertThat(readDeleted.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(simulator.getCallCount("CreateDBSubnetGroup")).isEqualTo(1);
+        assertThat(simulator.getCallCount("DeleteDBSubnetGroup")).isEqualTo(1);
+    }
+
+    @Test
+    public void create_SubnetsInDifferentVpcs() {
+        final ResourceModel model = ResourceModel.builder()
+                .dBSubnetGroupName("simulated-group")
+                .dBSubnetGroupDescription("simulated")
+                .subnetIds(Arrays.asList("subnet-a", "subnet-c"))
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = invoke(new CreateHandler(HandlerConfig.builder()
+                .probingEnabled(false)
+                .backoff(TEST_BACKOFF_DELAY)
+                .preflightValidationEnabled(true)
+                .build()), model);
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(created.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(simulator.getCallCount("CreateDBSubnetGroup")).isZero();
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> invoke(final BaseSubnetValidatingHandler handler, final ResourceModel model) {
+        return handler.handleRequest(proxy, newRequest(model), new CallbackContext(), proxyRdsClient, proxyEc2Client, logger);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> invoke(final BaseRdsHandler handler, final ResourceModel model) {
+        return handler.handleRequest(proxy, newRequest(model), new CallbackContext(), proxyRdsClient, logger);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> newRequest(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .logicalResourceIdentifier("dbsubnet")
+                .clientRequestToken("4b90a7e4-b791-4512-a137-0cf12a23451e")
+                .awsAccountId("123456789012")
+                .build();
+    }
+}
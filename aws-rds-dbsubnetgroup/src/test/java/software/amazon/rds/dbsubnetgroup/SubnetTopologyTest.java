@@ -0,0 +1,120 @@
+package software.amazon.rds.dbsubnetgroup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.DescribeSubnetsRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeSubnetsResponse;
+import software.amazon.awssdk.services.ec2.model.Subnet;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+@ExtendWith(MockitoExtension.class)
+public class SubnetTopologyTest extends AbstractTestBase {
+
+    private static final String ACCOUNT_ID = "123456789012";
+
+    private Ec2Client ec2;
+    private ProxyClient<Ec2Client> proxyEc2Client;
+    private SubnetTopology subnetTopology;
+
+    @BeforeEach
+    public void setup() {
+        ec2 = mock(Ec2Client.class);
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyEc2Client = MOCK_PROXY(proxy, ec2);
+        subnetTopology = new SubnetTopology();
+    }
+
+    @Test
+    public void validate_Valid() {
+        mockSubnets(
+                subnet("subnet-1", "vpc-1", "us-east-1a"),
+                subnet("subnet-2", "vpc-1", "us-east-1b")
+        );
+
+        assertThat(subnetTopology.validate(proxyEc2Client, ACCOUNT_ID, Arrays.asList("subnet-1", "subnet-2"))).isNull();
+    }
+
+    @Test
+    public void validate_DifferentVpcs() {
+        mockSubnets(
+                subnet("subnet-1", "vpc-1", "us-east-1a"),
+                subnet("subnet-2", "vpc-2", "us-east-1b")
+        );
+
+        assertThat(subnetTopology.validate(proxyEc2Client, ACCOUNT_ID, Arrays.asList("subnet-1", "subnet-2")))
+                .contains("different VPCs")
+                .contains("vpc-1, vpc-2");
+    }
+
+    @Test
+    public void validate_NotEnoughAvailabilityZones() {
+        mockSubnets(
+                subnet("subnet-1", "vpc-1", "us-east-1a"),
+                subnet("subnet-2", "vpc-1", "us-east-1a")
+        );
+
+        assertThat(subnetTopology.validate(proxyEc2Client, ACCOUNT_ID, Arrays.asList("subnet-1", "subnet-2")))
+                .contains("Current AZ coverage: us-east-1a");
+    }
+
+    @Test
+    public void validate_OutpostSubnetInSingleAvailabilityZone() {
+        mockSubnets(
+                subnet("subnet-1", "vpc-1", "us-east-1a").toBuilder()
+                        .outpostArn("arn:aws:outposts:us-east-1:123456789012:outpost/op-1")
+                        .build()
+        );
+
+        assertThat(subnetTopology.validate(proxyEc2Client, ACCOUNT_ID, Arrays.asList("subnet-1"))).isNull();
+    }
+
+    @Test
+    public void validate_ResolvesOnlyUncachedSubnets() {
+        mockSubnets(subnet("subnet-1", "vpc-1", "us-east-1a"));
+        subnetTopology.validate(proxyEc2Client, ACCOUNT_ID, Arrays.asList("subnet-1"));
+
+        mockSubnets(subnet("subnet-2", "vpc-1", "us-east-1b"));
+        assertThat(subnetTopology.validate(proxyEc2Client, ACCOUNT_ID, Arrays.asList("subnet-1", "subnet-2"))).isNull();
+
+        verify(ec2, times(1)).describeSubnets(argThat((DescribeSubnetsRequest request) -> request.subnetIds().equals(Arrays.asList("subnet-1"))));
+        verify(ec2, times(1)).describeSubnets(argThat((DescribeSubnetsRequest request) -> request.subnetIds().equals(Arrays.asList("subnet-2"))));
+    }
+
+    @Test
+    public void validate_DoesNotShareSubnetsAcrossAccounts() {
+        mockSubnets(subnet("subnet-1", "vpc-1", "us-east-1a"));
+        subnetTopology.validate(proxyEc2Client, ACCOUNT_ID, Arrays.asList("subnet-1"));
+        subnetTopology.validate(proxyEc2Client, "210987654321", Arrays.asList("subnet-1"));
+
+        verify(ec2, times(2)).describeSubnets(any(DescribeSubnetsRequest.class));
+    }
+
+    private void mockSubnets(final Subnet... subnets) {
+        when(ec2.describeSubnets(any(DescribeSubnetsRequest.class)))
+                .thenReturn(DescribeSubnetsResponse.builder().subnets(subnets).build());
+    }
+
+    private static Subnet subnet(final String subnetId, final String vpcId, final String availabilityZone) {
+        return Subnet.builder()
+                .subnetId(subnetId)
+                .vpcId(vpcId)
+                .availabilityZone(availabilityZone)
+                .build();
+    }
+}
@@ -19,6 +19,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.DescribeSubnetsRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeSubnetsResponse;
+import software.amazon.awssdk.services.ec2.model.Ec2Exception;
+import software.amazon.awssdk.services.ec2.model.Subnet;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
@@ -47,6 +53,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
     private AmazonWebServicesClientProxy proxy;
     @Mock
     private ProxyClient<RdsClient> proxyRdsClient;
+    @Mock
+    Ec2Client ec2;
+    private ProxyClient<Ec2Client> proxyEc2Client;
     private UpdateHandler handler;
 
     @BeforeEach
@@ -58,12 +67,15 @@ public class UpdateHandlerTest extends AbstractTestBase {
         rds = mock(RdsClient.class);
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         proxyRdsClient = MOCK_PROXY(proxy, rds);
+        ec2 = mock(Ec2Client.class);
+        proxyEc2Client = MOCK_PROXY(proxy, ec2);
     }
 
     @AfterEach
     public void post_execute() {
         verify(rds, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(proxyRdsClient.client());
+        verifyNoMoreInteractions(proxyEc2Client.client());
     }
 
     @Test
@@ -84,7 +96,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .desiredResourceTags(translateTagsToMap(TAG_SET))
                 .previousResourceState(ResourceModel.builder().build())
                 .build();
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, proxyEc2Client, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -99,6 +111,68 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
     }
 
+    @Test
+    public void handleRequest_PreflightValidationPasses() {
+        handler = new UpdateHandler(HandlerConfig.builder()
+                .preflightValidationEnabled(true)
+                .backoff(TEST_BACKOFF_DELAY)
+                .build());
+
+        mockModifyCall();
+        when(proxyEc2Client.client().describeSubnets(any(DescribeSubnetsRequest.class))).thenReturn(DescribeSubnetsResponse.builder()
+                .subnets(
+                        Subnet.builder().subnetId("subnetId1").vpcId("vpc-1").availabilityZone("us-east-1a").build(),
+                        Subnet.builder().subnetId("subnetId2").vpcId("vpc-1").availabilityZone("us-east-1b").build()
+                ).build());
+        when(proxyRdsClient.client().describeDBSubnetGroups(any(DescribeDbSubnetGroupsRequest.class)))
+                .thenReturn(DescribeDbSubnetGroupsResponse.builder().dbSubnetGroups(DB_SUBNET_GROUP_ACTIVE).build());
+        when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(RESOURCE_MODEL)
+                .previousResourceState(ResourceModel.builder().build())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, proxyEc2Client, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(proxyEc2Client.client(), times(1)).describeSubnets(any(DescribeSubnetsRequest.class));
+        verify(proxyRdsClient.client()).modifyDBSubnetGroup(any(ModifyDbSubnetGroupRequest.class));
+        verify(proxyRdsClient.client(), times(2)).describeDBSubnetGroups(any(DescribeDbSubnetGroupsRequest.class));
+        verify(proxyRdsClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_PreflightValidationUnauthorized_ProceedsWithModify() {
+        handler = new UpdateHandler(HandlerConfig.builder()
+                .preflightValidationEnabled(true)
+                .backoff(TEST_BACKOFF_DELAY)
+                .build());
+
+        mockModifyCall();
+        when(proxyEc2Client.client().describeSubnets(any(DescribeSubnetsRequest.class))).thenThrow(Ec2Exception.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("UnauthorizedOperation").build())
+                .build());
+        when(proxyRdsClient.client().describeDBSubnetGroups(any(DescribeDbSubnetGroupsRequest.class)))
+                .thenReturn(DescribeDbSubnetGroupsResponse.builder().dbSubnetGroups(DB_SUBNET_GROUP_ACTIVE).build());
+        when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(RESOURCE_MODEL)
+                .previousResourceState(ResourceModel.builder().build())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, proxyEc2Client, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(proxyEc2Client.client(), times(1)).describeSubnets(any(DescribeSubnetsRequest.class));
+        verify(proxyRdsClient.client()).modifyDBSubnetGroup(any(ModifyDbSubnetGroupRequest.class));
+        verify(proxyRdsClient.client(), times(2)).describeDBSubnetGroups(any(DescribeDbSubnetGroupsRequest.class));
+        verify(proxyRdsClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
     private void mockModifyCall() {
         final ModifyDbSubnetGroupResponse modifyDbSubnetGroupResponse = ModifyDbSubnetGroupResponse.builder().dbSubnetGroup(DBSubnetGroup.builder().dbSubnetGroupArn("arn").build()).build();
         when(proxyRdsClient.client().modifyDBSubnetGroup(any(ModifyDbSubnetGroupRequest.class))).thenReturn(modifyDbSubnetGroupResponse);
@@ -116,7 +190,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .logicalResourceIdentifier("dbsubnet")
                 .clientRequestToken("4b90a7e4-b791-4512-a137-0cf12a23451e")
                 .build();
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, proxyEc2Client, logger);
 
 
         assertThat(response).isNotNull();
@@ -140,7 +214,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(RESOURCE_MODEL)
                 .previousResourceState(ResourceModel.builder().build())
                 .build();
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, proxyEc2Client, logger);
 
 
         assertThat(response).isNotNull();
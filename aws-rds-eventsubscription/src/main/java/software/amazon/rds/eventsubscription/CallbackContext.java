@@ -1,8 +1,14 @@
 package software.amazon.rds.eventsubscription;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 import software.amazon.rds.common.handler.TaggingContext;
 
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
@@ -10,11 +16,16 @@ import software.amazon.rds.common.handler.TaggingContext;
 public class CallbackContext extends StdCallbackContext implements TaggingContext.Provider {
     private String eventSubscriptionArn;
 
+    private Set<String> addedSourceIds;
+    private Set<String> removedSourceIds;
+
     private TaggingContext taggingContext;
 
     public CallbackContext() {
         super();
         this.taggingContext = new TaggingContext();
+        this.addedSourceIds = new HashSet<>();
+        this.removedSourceIds = new HashSet<>();
     }
 
     @Override
@@ -22,6 +33,7 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
         return taggingContext;
     }
 
+    @JsonIgnore
     public boolean isAddTagsComplete() {
         return taggingContext.isAddTagsComplete();
     }
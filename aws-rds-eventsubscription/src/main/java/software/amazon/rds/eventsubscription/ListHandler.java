@@ -14,6 +14,8 @@ import software.amazon.rds.common.handler.Commons;
 
 public class ListHandler extends BaseHandlerStd {
 
+    private static final int LIST_PAGE_SIZE = 100;
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -26,7 +28,7 @@ public class ListHandler extends BaseHandlerStd {
         DescribeEventSubscriptionsResponse describeEventSubscriptionsResponse;
         try {
             describeEventSubscriptionsResponse = proxy.injectCredentialsAndInvokeV2(
-                    Translator.describeEventSubscriptionsRequest(request.getNextToken()),
+                    Translator.describeEventSubscriptionsRequest(request.getNextToken(), LIST_PAGE_SIZE),
                     proxyClient.client()::describeEventSubscriptions);
         } catch (Exception e) {
             return Commons.handleException(
@@ -41,9 +41,10 @@ public class Translator {
                 .build();
     }
 
-    static DescribeEventSubscriptionsRequest describeEventSubscriptionsRequest(final String nextToken) {
+    static DescribeEventSubscriptionsRequest describeEventSubscriptionsRequest(final String nextToken, final Integer maxRecords) {
         return DescribeEventSubscriptionsRequest.builder()
                 .marker(nextToken)
+                .maxRecords(maxRecords)
                 .build();
     }
 
@@ -2,13 +2,23 @@ package software.amazon.rds.eventsubscription;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import com.google.common.collect.Sets;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.SourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -17,10 +27,14 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.HandlerExecutor;
 import software.amazon.rds.common.handler.Tagging;
 
 public class UpdateHandler extends BaseHandlerStd {
 
+    protected static final int SOURCE_ID_MAX_CONCURRENCY = 8;
+    protected static final int SOURCE_ID_THROTTLING_DELAY_SECONDS = 10;
+
     protected static final ErrorRuleSet REMOVE_SOURCE_ERROR_RULE_SET = ErrorRuleSet
             .extend(DEFAULT_EVENT_SUBSCRIPTION_ERROR_RULE_SET)
             .withErrorClasses(ErrorStatus.ignore(OperationStatus.IN_PROGRESS),
@@ -54,8 +68,7 @@ public class UpdateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(desiredModel, callbackContext)
                 .then(progress -> setEnabledDefaultValue(progress))
                 .then(progress -> updateEventSubscription(proxy, callbackContext, proxyClient, desiredModel))
-                .then(progress -> addSourceIds(proxy, proxyClient, desiredSourceIds, previousSourceIds, progress))
-                .then(progress -> removeSourceIds(proxy, proxyClient, desiredSourceIds, previousSourceIds, progress))
+                .then(progress -> updateSourceIds(proxyClient, desiredSourceIds, previousSourceIds, progress))
                 .then(progress -> waitForEventSubscription(proxy, proxyClient, progress))
                 .then(progress -> updateTags(proxy, proxyClient, progress, previousTags, desiredTags))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
@@ -78,59 +91,123 @@ public class UpdateHandler extends BaseHandlerStd {
                 .progress();
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> removeSourceIds(
-            final AmazonWebServicesClientProxy proxy,
+    private ProgressEvent<ResourceModel, CallbackContext> updateSourceIds(
             final ProxyClient<RdsClient> proxyClient,
             final Set<String> desiredSourceIds,
             final Set<String> previousSourceIds,
             final ProgressEvent<ResourceModel, CallbackContext> progress
     ) {
-        final Set<String> sourceIdsToRemove = Sets.difference(previousSourceIds, desiredSourceIds);
-        return sourceIdsToRemove.stream()
-                .map(sourceId -> proxy
-                        .initiate("rds::remove-source-id-event-subscription",
-                                proxyClient,
-                                progress.getResourceModel(),
-                                progress.getCallbackContext())
-                        .translateToServiceRequest((resourceModel) -> Translator.removeSourceIdentifierFromSubscriptionRequest(resourceModel, sourceId))
-                        .makeServiceCall((removeSourceIdentifierFromSubscriptionRequest, proxyCall) -> proxyCall.injectCredentialsAndInvokeV2(
-                                removeSourceIdentifierFromSubscriptionRequest,
-                                proxyCall.client()::removeSourceIdentifierFromSubscription))
-                        .handleError((removeSourceIdentifierFromSubscriptionRequest, exception, client, resourceModel, ctx) -> Commons.handleException(
-                                ProgressEvent.progress(resourceModel, ctx),
-                                exception,
-                                REMOVE_SOURCE_ERROR_RULE_SET))
-                        .progress())
-                .filter(ProgressEvent::isFailed)
-                .findFirst()
-                .orElse(progress);
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext context = progress.getCallbackContext();
+
+        final Set<String> sourceIdsToAdd = Sets.difference(
+                Sets.difference(desiredSourceIds, previousSourceIds),
+                context.getAddedSourceIds()
+        ).immutableCopy();
+        final Set<String> sourceIdsToRemove = Sets.difference(
+                Sets.difference(previousSourceIds, desiredSourceIds),
+                context.getRemovedSourceIds()
+        ).immutableCopy();
+
+        if (sourceIdsToAdd.isEmpty() && sourceIdsToRemove.isEmpty()) {
+            return progress;
+        }
+
+        final AtomicBoolean throttled = new AtomicBoolean(false);
+        final Map<String, ProgressEvent<ResourceModel, CallbackContext>> failures = new ConcurrentSkipListMap<>();
+        final Map<String, Future<Boolean>> additions = new LinkedHashMap<>();
+        final Map<String, Future<Boolean>> removals = new LinkedHashMap<>();
+
+        final Executor executor = HandlerExecutor.bounded(SOURCE_ID_MAX_CONCURRENCY);
+        try {
+            for (final String sourceId : sourceIdsToAdd) {
+                additions.put(sourceId, CompletableFuture.supplyAsync(() -> applySourceIdChange(
+                        progress,
+                        sourceId,
+                        () -> proxyClient.injectCredentialsAndInvokeV2(
+                                Translator.addSourceIdentifierToSubscriptionRequest(model, sourceId),
+                                proxyClient.client()::addSourceIdentifierToSubscription),
+                        DEFAULT_EVENT_SUBSCRIPTION_ERROR_RULE_SET,
+                        throttled,
+                        failures
+                ), executor));
+            }
+            for (final String sourceId : sourceIdsToRemove) {
+                removals.put(sourceId, CompletableFuture.supplyAsync(() -> applySourceIdChange(
+                        progress,
+                        sourceId,
+                        () -> proxyClient.injectCredentialsAndInvokeV2(
+                                Translator.removeSourceIdentifierFromSubscriptionRequest(model, sourceId),
+                                proxyClient.client()::removeSourceIdentifierFromSubscription),
+                        REMOVE_SOURCE_ERROR_RULE_SET,
+                        throttled,
+                        failures
+                ), executor));
+            }
+            collectAppliedSourceIds(additions, context.getAddedSourceIds());
+            collectAppliedSourceIds(removals, context.getRemovedSourceIds());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return Commons.handleException(progress, exception, DEFAULT_EVENT_SUBSCRIPTION_ERROR_RULE_SET);
+        } catch (ExecutionException exception) {
+            return Commons.handleException(progress, exception, DEFAULT_EVENT_SUBSCRIPTION_ERROR_RULE_SET);
+        }
+
+        if (!failures.isEmpty()) {
+            final ProgressEvent<ResourceModel, CallbackContext> firstFailure = failures.values().iterator().next();
+            final String message = failures.entrySet().stream()
+                    .map(entry -> entry.getKey() + ": " + entry.getValue().getMessage())
+                    .collect(Collectors.joining("; ", "Failed to update source identifiers [", "]"));
+            return ProgressEvent.failed(model, context, firstFailure.getErrorCode(), message);
+        }
+
+        if (throttled.get()) {
+            return ProgressEvent.defaultInProgressHandler(context, SOURCE_ID_THROTTLING_DELAY_SECONDS, model);
+        }
+
+        return progress;
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> addSourceIds(
-            final AmazonWebServicesClientProxy proxy,
-            final ProxyClient<RdsClient> proxyClient,
-            final Set<String> desiredSourceIds,
-            final Set<String> previousSourceIds,
-            final ProgressEvent<ResourceModel, CallbackContext> progress
+    private boolean applySourceIdChange(
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final String sourceId,
+            final Runnable sourceIdCall,
+            final ErrorRuleSet errorRuleSet,
+            final AtomicBoolean throttled,
+            final Map<String, ProgressEvent<ResourceModel, CallbackContext>> failures
     ) {
-        final Set<String> sourceIdsToAdd = Sets.difference(desiredSourceIds, previousSourceIds);
-        return sourceIdsToAdd.stream()
-                .map(sourceId -> proxy
-                        .initiate("rds::add-source-id-event-subscription",
-                                proxyClient,
-                                progress.getResourceModel(),
-                                progress.getCallbackContext())
-                        .translateToServiceRequest((resourceModel) -> Translator.addSourceIdentifierToSubscriptionRequest(resourceModel, sourceId))
-                        .makeServiceCall((addSourceIdentifierToSubscriptionRequest, proxyCall) -> proxyCall.injectCredentialsAndInvokeV2(
-                                addSourceIdentifierToSubscriptionRequest,
-                                proxyCall.client()::addSourceIdentifierToSubscription))
-                        .handleError((addSourceIdentifierToSubscriptionRequest, exception, client, resourceModel, ctx) -> Commons.handleException(
-                                ProgressEvent.progress(resourceModel, ctx),
-                                exception,
-                                DEFAULT_EVENT_SUBSCRIPTION_ERROR_RULE_SET))
-                        .progress())
-                .filter(ProgressEvent::isFailed)
-                .findFirst()
-                .orElse(progress);
+        if (throttled.get()) {
+            return false;
+        }
+        try {
+            sourceIdCall.run();
+            return true;
+        } catch (Exception exception) {
+            final ProgressEvent<ResourceModel, CallbackContext> result = Commons.handleException(
+                    ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext()),
+                    exception,
+                    errorRuleSet
+            );
+            if (!result.isFailed()) {
+                return true;
+            }
+            if (result.getErrorCode() == HandlerErrorCode.Throttling) {
+                throttled.set(true);
+                return false;
+            }
+            failures.put(sourceId, result);
+            return false;
+        }
+    }
+
+    private void collectAppliedSourceIds(
+            final Map<String, Future<Boolean>> changes,
+            final Set<String> appliedSourceIds
+    ) throws InterruptedException, ExecutionException {
+        for (final Map.Entry<String, Future<Boolean>> change : changes.entrySet()) {
+            if (change.getValue().get()) {
+                appliedSourceIds.add(change.getKey());
+            }
+        }
     }
 }
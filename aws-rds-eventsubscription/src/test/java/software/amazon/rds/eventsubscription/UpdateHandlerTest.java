@@ -15,11 +15,13 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.AddSourceIdentifierToSubscriptionRequest;
 import software.amazon.awssdk.services.rds.model.AddSourceIdentifierToSubscriptionResponse;
@@ -33,6 +35,7 @@ import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.rds.model.ModifyEventSubscriptionRequest;
 import software.amazon.awssdk.services.rds.model.ModifyEventSubscriptionResponse;
+import software.amazon.awssdk.services.rds.model.RdsException;
 import software.amazon.awssdk.services.rds.model.RemoveSourceIdentifierFromSubscriptionRequest;
 import software.amazon.awssdk.services.rds.model.RemoveSourceIdentifierFromSubscriptionResponse;
 import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
@@ -44,6 +47,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.error.ErrorCode;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends AbstractTestBase {
@@ -249,4 +253,130 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyRdsClient.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
         verify(proxyRdsClient.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
     }
+
+    @Test
+    public void handleRequest_UpdateSourceIdsSkipsAppliedSourceIds() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        when(proxyRdsClient.client().modifyEventSubscription(any(ModifyEventSubscriptionRequest.class)))
+                .thenReturn(ModifyEventSubscriptionResponse.builder().build());
+        when(proxyRdsClient.client().describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class)))
+                .thenReturn(DescribeEventSubscriptionsResponse.builder()
+                        .eventSubscriptionsList(EventSubscription.builder()
+                                .enabled(true)
+                                .sourceIdsList("sourceId2", "sourceId3")
+                                .status("active").build())
+                        .build());
+        when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+        when(proxyRdsClient.client().addSourceIdentifierToSubscription(any(AddSourceIdentifierToSubscriptionRequest.class)))
+                .thenReturn(AddSourceIdentifierToSubscriptionResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.getAddedSourceIds().add("sourceId2");
+        context.getRemovedSourceIds().add("sourceId1");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .subscriptionName("sampleId")
+                        .sourceIds(Sets.newHashSet("sourceId2", "sourceId3"))
+                        .build())
+                .previousResourceState(ResourceModel.builder()
+                        .subscriptionName("sampleId")
+                        .sourceIds(Sets.newHashSet("sourceId1"))
+                        .build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, context, proxyRdsClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext().getAddedSourceIds()).containsExactlyInAnyOrder("sourceId2", "sourceId3");
+
+        final ArgumentCaptor<AddSourceIdentifierToSubscriptionRequest> captor = ArgumentCaptor.forClass(AddSourceIdentifierToSubscriptionRequest.class);
+        verify(proxyRdsClient.client()).modifyEventSubscription(any(ModifyEventSubscriptionRequest.class));
+        verify(proxyRdsClient.client(), times(1)).addSourceIdentifierToSubscription(captor.capture());
+        assertThat(captor.getValue().sourceIdentifier()).isEqualTo("sourceId3");
+        verify(proxyRdsClient.client(), times(3)).describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class));
+        verify(proxyRdsClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_UpdateSourceIdsAggregatesFailures() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        when(proxyRdsClient.client().modifyEventSubscription(any(ModifyEventSubscriptionRequest.class)))
+                .thenReturn(ModifyEventSubscriptionResponse.builder().build());
+        when(proxyRdsClient.client().describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class)))
+                .thenReturn(DescribeEventSubscriptionsResponse.builder()
+                        .eventSubscriptionsList(EventSubscription.builder().status("active").build())
+                        .build());
+        when(proxyRdsClient.client().addSourceIdentifierToSubscription(any(AddSourceIdentifierToSubscriptionRequest.class)))
+                .thenAnswer(invocation -> {
+                    final AddSourceIdentifierToSubscriptionRequest addRequest = invocation.getArgument(0);
+                    if ("sourceId2".equals(addRequest.sourceIdentifier())) {
+                        throw SourceNotFoundException.builder().message("source not found").build();
+                    }
+                    return AddSourceIdentifierToSubscriptionResponse.builder().build();
+                });
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .subscriptionName("sampleId")
+                        .sourceIds(Sets.newHashSet("sourceId1", "sourceId2", "sourceId3"))
+                        .build())
+                .previousResourceState(ResourceModel.builder()
+                        .subscriptionName("sampleId")
+                        .build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(response.getMessage()).contains("sourceId2");
+        assertThat(response.getCallbackContext().getAddedSourceIds()).containsExactlyInAnyOrder("sourceId1", "sourceId3");
+
+        verify(proxyRdsClient.client()).modifyEventSubscription(any(ModifyEventSubscriptionRequest.class));
+        verify(proxyRdsClient.client(), times(3)).addSourceIdentifierToSubscription(any(AddSourceIdentifierToSubscriptionRequest.class));
+        verify(proxyRdsClient.client(), times(1)).describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_UpdateSourceIdsThrottled() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        when(proxyRdsClient.client().modifyEventSubscription(any(ModifyEventSubscriptionRequest.class)))
+                .thenReturn(ModifyEventSubscriptionResponse.builder().build());
+        when(proxyRdsClient.client().describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class)))
+                .thenReturn(DescribeEventSubscriptionsResponse.builder()
+                        .eventSubscriptionsList(EventSubscription.builder().status("active").build())
+                        .build());
+        when(proxyRdsClient.client().addSourceIdentifierToSubscription(any(AddSourceIdentifierToSubscriptionRequest.class)))
+                .thenThrow(RdsException.builder()
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode(ErrorCode.Throttling.toString()).build())
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .subscriptionName("sampleId")
+                        .sourceIds(Sets.newHashSet("sourceId1"))
+                        .build())
+                .previousResourceState(ResourceModel.builder()
+                        .subscriptionName("sampleId")
+                        .build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(UpdateHandler.SOURCE_ID_THROTTLING_DELAY_SECONDS);
+        assertThat(response.getCallbackContext().getAddedSourceIds()).isEmpty();
+
+        verify(proxyRdsClient.client()).modifyEventSubscription(any(ModifyEventSubscriptionRequest.class));
+        verify(proxyRdsClient.client(), times(1)).addSourceIdentifierToSubscription(any(AddSourceIdentifierToSubscriptionRequest.class));
+        verify(proxyRdsClient.client(), times(1)).describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class));
+    }
 }
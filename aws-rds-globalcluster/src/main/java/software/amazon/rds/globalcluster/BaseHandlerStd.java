@@ -4,6 +4,7 @@ import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DBCluster;
 import software.amazon.awssdk.services.rds.model.GlobalCluster;
+import software.amazon.awssdk.services.rds.model.GlobalClusterMember;
 import software.amazon.awssdk.services.rds.model.GlobalClusterNotFoundException;
 import software.amazon.awssdk.services.rds.model.GlobalClusterAlreadyExistsException;
 import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
@@ -16,7 +17,13 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.handler.ProgressiveBackoff;
+import software.amazon.rds.common.logging.LoggingProxyClient;
+import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
 
+import java.util.Collections;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -28,26 +35,57 @@ import java.util.List;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   protected static final int GLOBAL_CLUSTER_ID_MAX_LENGTH = 63;
-  protected static final int PAUSE_TIME_SECONDS = 60;
   protected static final String STACK_NAME = "rds";
   protected static final String RESOURCE_IDENTIFIER = "globalcluster";
   protected static final Constant BACKOFF_STRATEGY = Constant.of().timeout(Duration.ofMinutes(180L)).delay(Duration.ofSeconds(30L)).build();
+  protected static final ProgressiveBackoff MEMBERSHIP_BACKOFF_STRATEGY = ProgressiveBackoff.builder()
+          .minDelay(Duration.ofSeconds(5L))
+          .maxDelay(Duration.ofSeconds(30L))
+          .timeout(Duration.ofMinutes(180L))
+          .build();
   private static final String MESSAGE_FORMAT_FAILED_TO_STABILIZE = "GlobalCluster %s failed to stabilize.";
   protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
 
+  protected final HandlerConfig config;
+  protected final GlobalClusterMemberPoller memberPoller;
+
+  private final FilteredJsonPrinter PARAMETERS_FILTER = new FilteredJsonPrinter();
+
+  public BaseHandlerStd() {
+    this(HandlerConfig.builder().build());
+  }
+
+  public BaseHandlerStd(final HandlerConfig config) {
+    this(config, new GlobalClusterMemberPoller(ClientBuilder::getClient));
+  }
+
+  public BaseHandlerStd(final GlobalClusterMemberPoller memberPoller) {
+    this(HandlerConfig.builder().build(), memberPoller);
+  }
+
+  public BaseHandlerStd(final HandlerConfig config, final GlobalClusterMemberPoller memberPoller) {
+    this.config = config;
+    this.memberPoller = memberPoller;
+  }
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
           final AmazonWebServicesClientProxy proxy,
           final ResourceHandlerRequest<ResourceModel> request,
           final CallbackContext callbackContext,
           final Logger logger) {
-    return handleRequest(
-            proxy,
+    return RequestLogger.handleRequest(
+            logger,
             request,
-            callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(ClientBuilder::getClient),
-            logger
-    );
+            PARAMETERS_FILTER,
+            config.getLogBudgetBytes(),
+            requestLogger -> handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    new LoggingProxyClient<>(requestLogger, proxy.newProxy(ClientBuilder::getClient)),
+                    logger
+            ));
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(AmazonWebServicesClientProxy proxy,
@@ -59,6 +97,19 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   // Global Cluster Stabilization
   protected boolean isGlobalClusterStabilized(final ProxyClient<RdsClient> proxyClient,
                                               final ResourceModel model) {
+    return fetchAvailableGlobalCluster(proxyClient, model).isPresent();
+  }
+
+  // A new global cluster is only stabilized once the DB clusters of all of its members are available as well.
+  // Member poll errors, such as throttling or access denied in a member region, are propagated as they are.
+  protected boolean isGlobalClusterAndMembersStabilized(final ProxyClient<RdsClient> proxyClient,
+                                                        final ResourceModel model) {
+    final Optional<GlobalCluster> globalCluster = fetchAvailableGlobalCluster(proxyClient, model);
+    return globalCluster.isPresent() && memberPoller.areMembersAvailable(proxyClient, globalCluster.get().globalClusterMembers());
+  }
+
+  private Optional<GlobalCluster> fetchAvailableGlobalCluster(final ProxyClient<RdsClient> proxyClient,
+                                                              final ResourceModel model) {
     // describe status of a resource to make sure it's ready
     try {
       final List<GlobalCluster> globalClusters =
@@ -66,13 +117,15 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                       Translator.describeGlobalClustersRequest(model),
                       proxyClient.client()::describeGlobalClusters).globalClusters();
       if(globalClusters == null || globalClusters.size() == 0) {
-        return false;
+        return Optional.empty();
+      }
+      final GlobalCluster globalCluster = globalClusters.get(0);
+      if (!GlobalClusterStatus.Available.equalsString(globalCluster.status())) {
+        return Optional.empty();
       }
-      return GlobalClusterStatus.Available.equalsString(globalClusters.get(0).status());
+      return Optional.of(globalCluster);
     } catch (GlobalClusterNotFoundException e) {
-      return false;
-    } catch (Exception e) {
-      throw new CfnNotStabilizedException(MESSAGE_FORMAT_FAILED_TO_STABILIZE, model.getGlobalClusterIdentifier(), e);
+      return Optional.empty();
     }
   }
 
@@ -95,17 +148,39 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     return StringUtils.isNullOrEmpty(model.getSourceDBClusterIdentifier()) || model.getSourceDBClusterIdentifier().contains(":");
   }
 
-  protected boolean globalClusterContainsOnlyMaster(final ResourceModel model, final ProxyClient<RdsClient> proxyClient) {
-      try {
-        final List<GlobalCluster> globalClusters =
-                proxyClient.injectCredentialsAndInvokeV2(
-                        Translator.describeGlobalClustersRequest(model),
-                        proxyClient.client()::describeGlobalClusters).globalClusters();
+  protected List<GlobalClusterMember> fetchGlobalClusterMembers(final ResourceModel model, final ProxyClient<RdsClient> proxyClient) {
+    try {
+      final List<GlobalCluster> globalClusters =
+              proxyClient.injectCredentialsAndInvokeV2(
+                      Translator.describeGlobalClustersRequest(model),
+                      proxyClient.client()::describeGlobalClusters).globalClusters();
 
-        return globalClusters != null && globalClusters.size() > 0 && globalClusters.get(0).globalClusterMembers().size() == 1;
-      }catch (GlobalClusterNotFoundException e) {
-        return false;
+      if (globalClusters == null || globalClusters.isEmpty()) {
+        return Collections.emptyList();
       }
+      return globalClusters.get(0).globalClusterMembers();
+    } catch (GlobalClusterNotFoundException e) {
+      return Collections.emptyList();
+    }
+  }
+
+  protected boolean isGlobalClusterMember(final ProxyClient<RdsClient> proxyClient,
+                                          final ResourceModel model,
+                                          final String dbClusterArn) {
+    return fetchGlobalClusterMembers(model, proxyClient).stream()
+            .anyMatch(member -> dbClusterArn.equals(member.dbClusterArn()));
+  }
+
+  protected String fetchSourceDBClusterArn(final ProxyClient<RdsClient> proxyClient,
+                                           final CallbackContext callbackContext,
+                                           final ResourceModel model) {
+    if (StringUtils.isNullOrEmpty(callbackContext.getSourceDbClusterArn())) {
+      final DBCluster dbCluster = proxyClient.injectCredentialsAndInvokeV2(
+              Translator.describeDbClustersRequest(model),
+              proxyClient.client()::describeDBClusters).dbClusters().get(0);
+      callbackContext.setSourceDbClusterArn(dbCluster.dbClusterArn());
+    }
+    return callbackContext.getSourceDbClusterArn();
   }
 
   // DBCluster Stabilization
@@ -164,24 +239,31 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             // this skips the call and goes directly to stabilization
             .makeServiceCall(EMPTY_CALL)
             .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) ->
-                    isGlobalClusterStabilized(proxyInvocation, model)).progress();
+                    isGlobalClusterAndMembersStabilized(proxyInvocation, model)).progress();
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> removeFromGlobalCluster(final AmazonWebServicesClientProxy proxy,
                                                                                   final ProxyClient<RdsClient> proxyClient,
                                                                                   final ProgressEvent<ResourceModel, CallbackContext> progress) {
+    final CallbackContext context = progress.getCallbackContext();
+    if (context.isRemoved()) return progress;
 
-    if(!globalClusterContainsOnlyMaster(progress.getResourceModel(), proxyClient) || progress.getCallbackContext().isRemoved()) return progress;
-    //check if sourceDbCluster is not null and is in format of Identifier
-    return proxy.initiate("rds::remove-from-global-cluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-            .translateToServiceRequest(Translator::describeDbClustersRequest)
-            .backoffDelay(BACKOFF_STRATEGY)
-            .makeServiceCall((describeDbClustersRequest, proxyClient1) -> proxyClient1.injectCredentialsAndInvokeV2(describeDbClustersRequest, proxyClient1.client()::describeDBClusters))
-            .done((describeDbClusterRequest, describeDbClusterResponse, proxyClient2, resourceModel, callbackContext) -> {
-              final String arn = describeDbClusterResponse.dbClusters().get(0).dbClusterArn();
-              proxyClient2.injectCredentialsAndInvokeV2(Translator.removeFromGlobalClusterRequest(resourceModel, arn), proxyClient2.client()::removeFromGlobalCluster);
+    if (StringUtils.isNullOrEmpty(context.getSourceDbClusterArn())) {
+      // only the last remaining member (the master) is detached before the global cluster gets deleted
+      final List<GlobalClusterMember> members = fetchGlobalClusterMembers(progress.getResourceModel(), proxyClient);
+      if (members.size() != 1) return progress;
+      context.setSourceDbClusterArn(members.get(0).dbClusterArn());
+    }
+
+    return proxy.initiate("rds::remove-from-global-cluster", proxyClient, progress.getResourceModel(), context)
+            .translateToServiceRequest(resourceModel -> Translator.removeFromGlobalClusterRequest(resourceModel, context.getSourceDbClusterArn()))
+            .backoffDelay(MEMBERSHIP_BACKOFF_STRATEGY)
+            .makeServiceCall((removeRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(removeRequest, proxyInvocation.client()::removeFromGlobalCluster))
+            .stabilize((removeRequest, removeResponse, proxyInvocation, resourceModel, callbackContext) ->
+                    !isGlobalClusterMember(proxyInvocation, resourceModel, callbackContext.getSourceDbClusterArn()))
+            .done((removeRequest, removeResponse, proxyInvocation, resourceModel, callbackContext) -> {
               callbackContext.setRemoved(true);
-              return ProgressEvent.defaultInProgressHandler(callbackContext, PAUSE_TIME_SECONDS, resourceModel);
+              return ProgressEvent.progress(resourceModel, callbackContext);
             });
   }
 
@@ -193,18 +275,22 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     if(progress.getCallbackContext().isGlobalClusterCreated()) return progress;
     //check if sourceDbCluster is not null and is in format of Identifier
     return proxy.initiate("rds::create-global-cluster", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-            .translateToServiceRequest(Translator::describeDbClustersRequest)
-            .backoffDelay(BACKOFF_STRATEGY)
-            .makeServiceCall((describeDbClustersRequest, proxyClient1) -> proxyClient1.injectCredentialsAndInvokeV2(describeDbClustersRequest, proxyClient1.client()::describeDBClusters))
-            .done((describeDbClusterRequest, describeDbClusterResponse, proxyClient2, resourceModel, callbackContext) -> {
-              final String arn = describeDbClusterResponse.dbClusters().get(0).dbClusterArn();
+            .translateToServiceRequest(resourceModel -> Translator.createGlobalClusterRequest(
+                    resourceModel,
+                    fetchSourceDBClusterArn(proxyClient, progress.getCallbackContext(), resourceModel)))
+            .backoffDelay(MEMBERSHIP_BACKOFF_STRATEGY)
+            .makeServiceCall((createGlobalClusterRequest, proxyInvocation) -> {
               try {
-                proxyClient2.injectCredentialsAndInvokeV2(Translator.createGlobalClusterRequest(resourceModel, arn), proxyClient2.client()::createGlobalCluster);
-                callbackContext.setGlobalClusterCreated(true);
+                return proxyInvocation.injectCredentialsAndInvokeV2(createGlobalClusterRequest, proxyInvocation.client()::createGlobalCluster);
               } catch (GlobalClusterAlreadyExistsException e) {
                 throw new CfnAlreadyExistsException(e);
               }
-              return ProgressEvent.defaultInProgressHandler(callbackContext, PAUSE_TIME_SECONDS, resourceModel);
+            })
+            .stabilize((createGlobalClusterRequest, createGlobalClusterResponse, proxyInvocation, resourceModel, callbackContext) ->
+                    isGlobalClusterMember(proxyInvocation, resourceModel, callbackContext.getSourceDbClusterArn()))
+            .done((createGlobalClusterRequest, createGlobalClusterResponse, proxyInvocation, resourceModel, callbackContext) -> {
+              callbackContext.setGlobalClusterCreated(true);
+              return ProgressEvent.progress(resourceModel, callbackContext);
             });
    }
 
@@ -1,7 +1,9 @@
 package software.amazon.rds.globalcluster;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
@@ -10,4 +12,5 @@ public class CallbackContext extends StdCallbackContext {
     private boolean globalClusterCreated;
     private boolean removed;
     private boolean isDeleting;
+    private String sourceDbClusterArn;
 }
@@ -1,12 +1,25 @@
 package software.amazon.rds.globalcluster;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.cloudformation.LambdaWrapper;
 
 public class ClientBuilder {
+  private static final Map<String, RdsClient> REGIONAL_CLIENTS = new ConcurrentHashMap<>();
+
   public static RdsClient getClient() {
     return RdsClient.builder()
             .httpClient(LambdaWrapper.HTTP_CLIENT)
             .build();
   }
+
+  public static RdsClient getClient(final String region) {
+    return REGIONAL_CLIENTS.computeIfAbsent(region, r -> RdsClient.builder()
+            .httpClient(LambdaWrapper.HTTP_CLIENT)
+            .region(Region.of(r))
+            .build());
+  }
 }
@@ -17,6 +17,14 @@ public class CreateHandler extends BaseHandlerStd {
             GLOBAL_CLUSTER_ID_MAX_LENGTH
     );
 
+    public CreateHandler() {
+        super();
+    }
+
+    public CreateHandler(final GlobalClusterMemberPoller memberPoller) {
+        super(memberPoller);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                           final ResourceHandlerRequest<ResourceModel> request,
                                                                           final CallbackContext callbackContext,
@@ -8,9 +8,19 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.HandlerConfig;
 
 public class DeleteHandler extends BaseHandlerStd {
 
+    public DeleteHandler() {
+        super();
+    }
+
+    public DeleteHandler(final HandlerConfig config) {
+        super(config);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
                                                                           final ResourceHandlerRequest<ResourceModel> request,
                                                                           final CallbackContext callbackContext,
@@ -19,25 +29,23 @@ public class DeleteHandler extends BaseHandlerStd {
 
         ResourceModel model = request.getDesiredResourceState();
 
-        ProgressEvent<ResourceModel, CallbackContext> result;
-
-        result = ProgressEvent.progress(model, callbackContext)
+        return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> removeFromGlobalCluster(proxy, proxyClient, progress))
                 .then(progress -> waitForDBClusterAvailableStatus(proxy, proxyClient, progress))
                 .then(progress -> proxy.initiate("rds::delete-global-cluster", proxyClient, request.getDesiredResourceState(), callbackContext)
                         .translateToServiceRequest(Translator::deleteGlobalClusterRequest)
                         .backoffDelay(BACKOFF_STRATEGY)
                         .makeServiceCall((deleteGlobalClusterRequest1, proxyInvocation) -> deleteGlobalCluster(deleteGlobalClusterRequest1, proxyInvocation, callbackContext))
-                        // wait until deleted
-                        .stabilize((deleteGlobalClusterRequest, deleteGlobalClusterResponse, stabilizeProxy, stabilizeModel, context)
-                                -> isDeleted(stabilizeModel, stabilizeProxy))
-                        .success());
-
-        if (result.isSuccess()) {
-            result.setResourceModel(null);
-        }
-
-        return result;
+                        .progress())
+                .then(progress -> Commons.awaitAbsence(
+                        proxy,
+                        proxyClient,
+                        "rds::delete-global-cluster-stabilize",
+                        progress,
+                        config.getAbsenceBackoff(),
+                        (proxyInvocation, stabilizeModel) -> isDeleted(stabilizeModel, proxyInvocation),
+                        Commons.DEFAULT_ERROR_RULE_SET))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
 
     private static DeleteGlobalClusterResponse deleteGlobalCluster(DeleteGlobalClusterRequest deleteGlobalClusterRequest, ProxyClient<RdsClient> proxyInvocation, CallbackContext callbackContext) {
@@ -0,0 +1,80 @@
+package software.amazon.rds.globalcluster;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import lombok.NonNull;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.GlobalClusterMember;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.handler.HandlerExecutor;
+
+/**
+ * Polls the DB clusters of all global cluster members concurrently, each one through a client of the member's region.
+ * The member region and cluster identifier are taken from the member ARN
+ * ({@code arn:partition:rds:region:account:cluster:identifier}). Members with an ARN that cannot be parsed
+ * are polled through the default client. All polls are invoked through the default proxy client, so they get
+ * the same credentials and request logging as the rest of the handler.
+ */
+public class GlobalClusterMemberPoller {
+
+    private static final int ARN_REGION_INDEX = 3;
+    private static final int ARN_RESOURCE_TYPE_INDEX = 5;
+    private static final int ARN_RESOURCE_ID_INDEX = 6;
+    private static final String ARN_RESOURCE_TYPE_CLUSTER = "cluster";
+
+    private final Function<String, RdsClient> regionalClientFactory;
+
+    public GlobalClusterMemberPoller(@NonNull final Function<String, RdsClient> regionalClientFactory) {
+        this.regionalClientFactory = regionalClientFactory;
+    }
+
+    public boolean areMembersAvailable(
+            final ProxyClient<RdsClient> defaultProxyClient,
+            final List<GlobalClusterMember> members
+    ) {
+        final List<CompletableFuture<Boolean>> polls = members.stream()
+                .map(member -> CompletableFuture.supplyAsync(
+                        () -> isMemberAvailable(defaultProxyClient, member.dbClusterArn()),
+                        HandlerExecutor.shared()))
+                .collect(Collectors.toList());
+        try {
+            // every poll is awaited so that no request outlives the handler invocation
+            CompletableFuture.allOf(polls.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return polls.stream().allMatch(CompletableFuture::join);
+    }
+
+    private boolean isMemberAvailable(
+            final ProxyClient<RdsClient> defaultProxyClient,
+            final String dbClusterArn
+    ) {
+        final String[] arn = dbClusterArn.split(":", ARN_RESOURCE_ID_INDEX + 1);
+        final boolean regional = arn.length == ARN_RESOURCE_ID_INDEX + 1 && ARN_RESOURCE_TYPE_CLUSTER.equals(arn[ARN_RESOURCE_TYPE_INDEX]);
+        final RdsClient client = regional ?
+                regionalClientFactory.apply(arn[ARN_REGION_INDEX]) :
+                defaultProxyClient.client();
+        final String dbClusterIdentifier = regional ? arn[ARN_RESOURCE_ID_INDEX] : dbClusterArn;
+
+        try {
+            final List<DBCluster> dbClusters = defaultProxyClient.injectCredentialsAndInvokeV2(
+                    DescribeDbClustersRequest.builder().dbClusterIdentifier(dbClusterIdentifier).build(),
+                    client::describeDBClusters
+            ).dbClusters();
+            return !dbClusters.isEmpty() && DBClusterStatus.Available.equalsString(dbClusters.get(0).status());
+        } catch (DbClusterNotFoundException e) {
+            return false;
+        }
+    }
+}
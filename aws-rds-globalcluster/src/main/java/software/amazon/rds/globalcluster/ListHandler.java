@@ -8,11 +8,20 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.rds.common.handler.HandlerConfig;
 
 import java.util.stream.Collectors;
 
 public class ListHandler extends BaseHandlerStd {
 
+    public ListHandler() {
+        super();
+    }
+
+    public ListHandler(final HandlerConfig config) {
+        super(config);
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -22,7 +31,7 @@ public class ListHandler extends BaseHandlerStd {
             final Logger logger) {
 
         final DescribeGlobalClustersResponse describeDbClustersResponse =
-                proxy.injectCredentialsAndInvokeV2(Translator.describeGlobalClusterRequest(request.getNextToken()),
+                proxy.injectCredentialsAndInvokeV2(Translator.describeGlobalClusterRequest(request.getNextToken(), config.getListPageSize()),
                         proxyClient.client()::describeGlobalClusters);
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -59,9 +59,10 @@ public class Translator {
             .build();
   }
 
-  static DescribeGlobalClustersRequest describeGlobalClusterRequest(final String nextToken) {
+  static DescribeGlobalClustersRequest describeGlobalClusterRequest(final String nextToken, final Integer maxRecords) {
     return DescribeGlobalClustersRequest.builder()
             .marker(nextToken)
+            .maxRecords(maxRecords)
             .build();
   }
 
@@ -104,6 +104,7 @@ public class AbstractTestBase {
     DBCLUSTER_ACTIVE = DBCluster.builder()
             .dbClusterIdentifier(RESOURCE_MODEL_WITH_MASTER.getSourceDBClusterIdentifier())
             .dbClusterArn("123")
+            .status(DBClusterStatus.Available.toString())
             .build();
 
     RESOURCE_MODEL_UPDATE = ResourceModel.builder()
@@ -2,12 +2,14 @@ package software.amazon.rds.globalcluster;
 
 import org.junit.jupiter.api.AfterEach;
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBCluster;
 import software.amazon.awssdk.services.rds.model.CreateGlobalClusterRequest;
 import software.amazon.awssdk.services.rds.model.CreateGlobalClusterResponse;
 import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersRequest;
 import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.awssdk.services.rds.model.GlobalClusterMember;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -21,11 +23,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -120,19 +125,68 @@ public class CreateHandlerTest extends AbstractTestBase {
     public void handleRequest_SimpleSuccessWithMaster() {
         final CreateGlobalClusterResponse createGlobalClusterResponse = CreateGlobalClusterResponse.builder().build();
         when(proxyRdsClient.client().createGlobalCluster(any(CreateGlobalClusterRequest.class))).thenReturn(createGlobalClusterResponse);
-        final DescribeGlobalClustersResponse describeGlobalClustersResponse = DescribeGlobalClustersResponse.builder().globalClusters(GLOBAL_CLUSTER_ACTIVE).build();
+        final DescribeGlobalClustersResponse describeGlobalClustersResponse = DescribeGlobalClustersResponse.builder()
+                .globalClusters(GLOBAL_CLUSTER_ACTIVE.toBuilder()
+                        .globalClusterMembers(GlobalClusterMember.builder().dbClusterArn(DBCLUSTER_ACTIVE.dbClusterArn()).isWriter(true).build())
+                        .build())
+                .build();
+        when(proxyRdsClient.client().describeGlobalClusters(any(DescribeGlobalClustersRequest.class))).thenReturn(describeGlobalClustersResponse);
         final DescribeDbClustersResponse describeDbClustersResponse = DescribeDbClustersResponse.builder().dbClusters(DBCLUSTER_ACTIVE).build();
         when(proxyRdsClient.client().describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeDbClustersResponse);
 
+        final CallbackContext callbackContext = new CallbackContext();
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL_WITH_MASTER).build();
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
         assertThat(response).isNotNull();
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(60);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        assertThat(callbackContext.getSourceDbClusterArn()).isEqualTo(DBCLUSTER_ACTIVE.dbClusterArn());
+
+        ArgumentCaptor<CreateGlobalClusterRequest> captor = ArgumentCaptor.forClass(CreateGlobalClusterRequest.class);
+        verify(proxyRdsClient.client()).createGlobalCluster(captor.capture());
+        assertThat(captor.getValue().sourceDBClusterIdentifier()).isEqualTo(DBCLUSTER_ACTIVE.dbClusterArn());
+        // the source cluster ARN lookup and the member readiness poll
+        verify(proxyRdsClient.client(), times(2)).describeDBClusters(any(DescribeDbClustersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_PollsMembersInEveryRegion() {
+        final RdsClient primaryRegionRds = mock(RdsClient.class);
+        final RdsClient secondaryRegionRds = mock(RdsClient.class);
+        final Map<String, RdsClient> regionalClients = new HashMap<>();
+        regionalClients.put("us-east-1", primaryRegionRds);
+        regionalClients.put("eu-west-1", secondaryRegionRds);
+        handler = new CreateHandler(new GlobalClusterMemberPoller(regionalClients::get));
+
+        when(proxyRdsClient.client().createGlobalCluster(any(CreateGlobalClusterRequest.class)))
+                .thenReturn(CreateGlobalClusterResponse.builder().build());
+        when(proxyRdsClient.client().describeGlobalClusters(any(DescribeGlobalClustersRequest.class)))
+                .thenReturn(DescribeGlobalClustersResponse.builder()
+                        .globalClusters(GLOBAL_CLUSTER_ACTIVE.toBuilder()
+                                .globalClusterMembers(
+                                        GlobalClusterMember.builder().dbClusterArn("arn:aws:rds:us-east-1:123456789012:cluster:primary").isWriter(true).build(),
+                                        GlobalClusterMember.builder().dbClusterArn("arn:aws:rds:eu-west-1:123456789012:cluster:secondary").isWriter(false).build())
+                                .build())
+                        .build());
+        when(primaryRegionRds.describeDBClusters(any(DescribeDbClustersRequest.class)))
+                .thenReturn(DescribeDbClustersResponse.builder().dbClusters(DBCluster.builder().status("available").build()).build());
+        when(secondaryRegionRds.describeDBClusters(any(DescribeDbClustersRequest.class)))
+                .thenReturn(DescribeDbClustersResponse.builder().dbClusters(DBCluster.builder().status("available").build()).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
 
+        final ArgumentCaptor<DescribeDbClustersRequest> primaryCaptor = ArgumentCaptor.forClass(DescribeDbClustersRequest.class);
+        verify(primaryRegionRds).describeDBClusters(primaryCaptor.capture());
+        assertThat(primaryCaptor.getValue().dbClusterIdentifier()).isEqualTo("primary");
+        final ArgumentCaptor<DescribeDbClustersRequest> secondaryCaptor = ArgumentCaptor.forClass(DescribeDbClustersRequest.class);
+        verify(secondaryRegionRds).describeDBClusters(secondaryCaptor.capture());
+        assertThat(secondaryCaptor.getValue().dbClusterIdentifier()).isEqualTo("secondary");
         verify(proxyRdsClient.client()).createGlobalCluster(any(CreateGlobalClusterRequest.class));
     }
 
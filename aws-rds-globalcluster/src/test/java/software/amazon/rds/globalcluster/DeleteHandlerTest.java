@@ -2,6 +2,7 @@ package software.amazon.rds.globalcluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -70,7 +71,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         verify(proxyRdsClient.client()).deleteGlobalCluster(any(DeleteGlobalClusterRequest.class));
         verify(proxyRdsClient.client(), times(2)).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
 
-        verify(rds).serviceName();
+        verify(rds, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(rds);
     }
 
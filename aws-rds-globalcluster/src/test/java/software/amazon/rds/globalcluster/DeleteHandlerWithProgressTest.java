@@ -2,6 +2,7 @@ package software.amazon.rds.globalcluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -23,7 +24,10 @@ import software.amazon.awssdk.services.rds.model.DeleteGlobalClusterRequest;
 import software.amazon.awssdk.services.rds.model.DeleteGlobalClusterResponse;
 import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersRequest;
 import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersResponse;
+import software.amazon.awssdk.services.rds.model.GlobalClusterMember;
 import software.amazon.awssdk.services.rds.model.GlobalClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.RemoveFromGlobalClusterRequest;
+import software.amazon.awssdk.services.rds.model.RemoveFromGlobalClusterResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.DelayFactory;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -75,7 +79,7 @@ public class DeleteHandlerWithProgressTest extends AbstractTestBase {
         verify(proxyRdsClient.client()).deleteGlobalCluster(any(DeleteGlobalClusterRequest.class));
         verify(proxyRdsClient.client(), times(2)).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
 
-        verify(rds).serviceName();
+        verify(rds, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(rds);
     }
 
@@ -93,7 +97,7 @@ public class DeleteHandlerWithProgressTest extends AbstractTestBase {
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(30);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(5);
         assertThat(response.getResourceModel()).isSameAs(RESOURCE_MODEL);
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
@@ -101,7 +105,7 @@ public class DeleteHandlerWithProgressTest extends AbstractTestBase {
         verify(proxyRdsClient.client()).deleteGlobalCluster(any(DeleteGlobalClusterRequest.class));
         verify(proxyRdsClient.client(), times(2)).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
 
-        verify(rds).serviceName();
+        verify(rds, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(rds);
     }
 
@@ -124,7 +128,50 @@ public class DeleteHandlerWithProgressTest extends AbstractTestBase {
 
         verify(proxyRdsClient.client(), times(2)).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
 
-        verify(rds).serviceName();
+        verify(rds, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(rds);
+    }
+
+    @Test
+    public void handleRequest_RemovesMasterAndPollsMembership() {
+        final DescribeGlobalClustersResponse withMaster = DescribeGlobalClustersResponse.builder()
+                .globalClusters(GLOBAL_CLUSTER_ACTIVE.toBuilder()
+                        .globalClusterMembers(GlobalClusterMember.builder().dbClusterArn(SOURCECLUSTER_ARN).isWriter(true).build())
+                        .build())
+                .build();
+        final DescribeGlobalClustersResponse withoutMembers = DescribeGlobalClustersResponse.builder()
+                .globalClusters(GLOBAL_CLUSTER_ACTIVE)
+                .build();
+        when(proxyRdsClient.client().removeFromGlobalCluster(any(RemoveFromGlobalClusterRequest.class)))
+                .thenReturn(RemoveFromGlobalClusterResponse.builder().build());
+        when(proxyRdsClient.client().deleteGlobalCluster(any(DeleteGlobalClusterRequest.class)))
+                .thenReturn(DeleteGlobalClusterResponse.builder().build());
+        when(proxyRdsClient.client().describeGlobalClusters(any(DescribeGlobalClustersRequest.class)))
+                .thenReturn(withMaster)
+                .thenReturn(withMaster)
+                .thenReturn(withoutMembers)
+                .thenThrow(GlobalClusterNotFoundException.class);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL).build();
+
+        final CallbackContext callbackContext = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> inProgress = handler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
+
+        assertThat(inProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(inProgress.getCallbackDelaySeconds()).isEqualTo(5);
+        assertThat(callbackContext.getSourceDbClusterArn()).isEqualTo(SOURCECLUSTER_ARN);
+        assertThat(callbackContext.isRemoved()).isFalse();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.isRemoved()).isTrue();
+
+        verify(proxyRdsClient.client()).removeFromGlobalCluster(any(RemoveFromGlobalClusterRequest.class));
+        verify(proxyRdsClient.client()).deleteGlobalCluster(any(DeleteGlobalClusterRequest.class));
+        verify(proxyRdsClient.client(), times(4)).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
+
+        verify(rds, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(rds);
     }
 
@@ -0,0 +1,104 @@
+package software.amazon.rds.globalcluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
+import software.amazon.awssdk.services.rds.model.GlobalClusterMember;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+@ExtendWith(MockitoExtension.class)
+public class GlobalClusterMemberPollerTest extends AbstractTestBase {
+
+    private static final String PRIMARY_ARN = "arn:aws:rds:us-east-1:123456789012:cluster:primary";
+    private static final String SECONDARY_ARN = "arn:aws:rds:eu-west-1:123456789012:cluster:secondary";
+
+    private AmazonWebServicesClientProxy proxy;
+    private RdsClient rds;
+    private RdsClient secondaryRegionRds;
+    private ProxyClient<RdsClient> proxyRdsClient;
+    private GlobalClusterMemberPoller poller;
+
+    @BeforeEach
+    public void setup() {
+        rds = mock(RdsClient.class);
+        secondaryRegionRds = mock(RdsClient.class);
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyRdsClient = MOCK_PROXY(proxy, rds);
+        poller = new GlobalClusterMemberPoller(region -> "us-east-1".equals(region) ? rds : secondaryRegionRds);
+    }
+
+    @Test
+    public void areMembersAvailable_SecondaryNotAvailable() {
+        when(rds.describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeResponse("available"));
+        when(secondaryRegionRds.describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeResponse("modifying"));
+
+        assertThat(poller.areMembersAvailable(proxyRdsClient, members(PRIMARY_ARN, SECONDARY_ARN))).isFalse();
+    }
+
+    @Test
+    public void areMembersAvailable_SecondaryNotFound() {
+        when(rds.describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeResponse("available"));
+        when(secondaryRegionRds.describeDBClusters(any(DescribeDbClustersRequest.class))).thenThrow(DbClusterNotFoundException.class);
+
+        assertThat(poller.areMembersAvailable(proxyRdsClient, members(PRIMARY_ARN, SECONDARY_ARN))).isFalse();
+    }
+
+    @Test
+    public void areMembersAvailable_UnparseableArnUsesDefaultClient() {
+        when(rds.describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeResponse("available"));
+
+        assertThat(poller.areMembersAvailable(proxyRdsClient, members("primary"))).isTrue();
+        verify(rds).describeDBClusters(argThat((DescribeDbClustersRequest request) -> "primary".equals(request.dbClusterIdentifier())));
+    }
+
+    @Test
+    public void areMembersAvailable_RegionalPollsUseDefaultProxyClient() {
+        final ProxyClient<RdsClient> defaultProxyClient = spy(proxyRdsClient);
+        when(rds.describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeResponse("available"));
+        when(secondaryRegionRds.describeDBClusters(any(DescribeDbClustersRequest.class))).thenReturn(describeResponse("available"));
+
+        assertThat(poller.areMembersAvailable(defaultProxyClient, members(PRIMARY_ARN, SECONDARY_ARN))).isTrue();
+        verify(defaultProxyClient, times(2)).injectCredentialsAndInvokeV2(any(DescribeDbClustersRequest.class), any());
+        verify(secondaryRegionRds).describeDBClusters(argThat((DescribeDbClustersRequest request) -> "secondary".equals(request.dbClusterIdentifier())));
+    }
+
+    @Test
+    public void areMembersAvailable_NoMembers() {
+        assertThat(poller.areMembersAvailable(proxyRdsClient, Collections.emptyList())).isTrue();
+    }
+
+    private static DescribeDbClustersResponse describeResponse(final String status) {
+        return DescribeDbClustersResponse.builder()
+                .dbClusters(DBCluster.builder().status(status).build())
+                .build();
+    }
+
+    private static List<GlobalClusterMember> members(final String... arns) {
+        return Arrays.stream(arns)
+                .map(arn -> GlobalClusterMember.builder().dbClusterArn(arn).build())
+                .collect(Collectors.toList());
+    }
+}
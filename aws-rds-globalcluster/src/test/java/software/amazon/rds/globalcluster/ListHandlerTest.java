@@ -4,6 +4,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.rds.RdsClient;
@@ -11,6 +12,7 @@ import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersRequest;
 import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersResponse;
 import software.amazon.awssdk.services.rds.model.GlobalCluster;
 import software.amazon.cloudformation.proxy.*;
+import software.amazon.rds.common.handler.HandlerConfig;
 
 import java.time.Duration;
 
@@ -76,4 +78,23 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
         verify(proxyRdsClient.client()).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
     }
+
+    @Test
+    public void handleRequest_UsesConfiguredPageSize() {
+        handler = new ListHandler(HandlerConfig.builder().listPageSize(20).build());
+
+        when(proxyRdsClient.client().describeGlobalClusters(any(DescribeGlobalClustersRequest.class)))
+                .thenReturn(DescribeGlobalClustersResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<DescribeGlobalClustersRequest> captor = ArgumentCaptor.forClass(DescribeGlobalClustersRequest.class);
+        verify(proxyRdsClient.client()).describeGlobalClusters(captor.capture());
+        assertThat(captor.getValue().maxRecords()).isEqualTo(20);
+    }
 }
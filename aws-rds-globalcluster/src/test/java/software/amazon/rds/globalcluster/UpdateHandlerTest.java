@@ -4,6 +4,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -66,6 +67,27 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verifyNoMoreInteractions(rds);
     }
 
+    @Test
+    public void handleRequest_DoesNotPollMembers() {
+        when(proxyRdsClient.client().modifyGlobalCluster(any(ModifyGlobalClusterRequest.class)))
+                .thenReturn(ModifyGlobalClusterResponse.builder().build());
+        when(proxyRdsClient.client().describeGlobalClusters(any(DescribeGlobalClustersRequest.class)))
+                .thenReturn(DescribeGlobalClustersResponse.builder()
+                        .globalClusters(GLOBAL_CLUSTER_ACTIVE.toBuilder()
+                                .globalClusterMembers(
+                                        GlobalClusterMember.builder().dbClusterArn("arn:aws:rds:us-east-1:123456789012:cluster:primary").isWriter(true).build(),
+                                        GlobalClusterMember.builder().dbClusterArn("arn:aws:rds:eu-west-1:123456789012:cluster:secondary").isWriter(false).build())
+                                .build())
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(RESOURCE_MODEL_UPDATE).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyRdsClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyRdsClient.client(), times(2)).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
+        verify(proxyRdsClient.client(), never()).describeDBClusters(any(DescribeDbClustersRequest.class));
+    }
+
     @Test
     public void handleRequest_ReturnsFailedResponse_WhenRdsClientThrowsClusterNotFoundException() {
         AwsErrorDetails awsErr = AwsErrorDetails.builder().sdkHttpResponse(SdkHttpResponse.builder().statusCode(404).build()).build();
@@ -0,0 +1,97 @@
+package software.amazon.rds.dbparametergroup;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.Action;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.loadtest.ResourceTarget;
+
+public class DbParameterGroupTarget implements ResourceTarget<ResourceModel, CallbackContext> {
+
+    private static final String TYPE_NAME = "AWS::RDS::DBParameterGroup";
+    private static final Logger NOOP_LOGGER = message -> {
+    };
+
+    private final CreateHandler createHandler;
+    private final ReadHandler readHandler;
+    private final DeleteHandler deleteHandler;
+
+    public DbParameterGroupTarget() {
+        this(HandlerConfig.builder()
+                .backoff(Constant.of().delay(Duration.ofSeconds(1)).timeout(Duration.ofMinutes(10)).build())
+                .build());
+    }
+
+    public DbParameterGroupTarget(final HandlerConfig config) {
+        this.createHandler = new CreateHandler(config);
+        this.readHandler = new ReadHandler(config);
+        this.deleteHandler = new DeleteHandler(config);
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public ResourceModel newModel(final int index) {
+        return ResourceModel.builder()
+                .dBParameterGroupName("loadtest-parameter-group-" + index)
+                .description("load test")
+                .family("mysql8.0")
+                .tags(Collections.singletonList(Tag.builder().key("loadtest").value(String.valueOf(index)).build()))
+                .build();
+    }
+
+    @Override
+    public CallbackContext newCallbackContext() {
+        return new CallbackContext();
+    }
+
+    @Override
+    public TypeReference<CallbackContext> getCallbackContextType() {
+        return new TypeReference<CallbackContext>() {
+        };
+    }
+
+    @Override
+    public ProgressEvent<ResourceModel, CallbackContext> invoke(final Action action,
+                                                                final AmazonWebServicesClientProxy proxy,
+                                                                final ResourceHandlerRequest<ResourceModel> request,
+                                                                final CallbackContext callbackContext,
+                                                                final ProxyClient<RdsClient> rdsProxyClient,
+                                                                final ProxyClient<Ec2Client> ec2ProxyClient) {
+        callbackContext.setDbParameterGroupArn(Translator.buildParameterGroupArn(request).toString());
+        return handlerFor(action).handleRequest(
+                proxy,
+                request,
+                callbackContext,
+                rdsProxyClient,
+                new RequestLogger(NOOP_LOGGER, request, null)
+        );
+    }
+
+    private BaseHandlerStd handlerFor(final Action action) {
+        switch (action) {
+            case CREATE:
+                return createHandler;
+            case READ:
+                return readHandler;
+            case DELETE:
+                return deleteHandler;
+            default:
+                throw new UnsupportedOperationException(String.format("%s is not replayed for %s", action, TYPE_NAME));
+        }
+    }
+}
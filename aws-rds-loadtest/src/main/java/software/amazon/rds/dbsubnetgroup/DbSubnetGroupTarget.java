@@ -0,0 +1,95 @@
+package software.amazon.rds.dbsubnetgroup;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.Action;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.test.simulator.ControlPlaneSimulator;
+import software.amazon.rds.loadtest.ResourceTarget;
+
+public class DbSubnetGroupTarget implements ResourceTarget<ResourceModel, CallbackContext> {
+
+    private static final String TYPE_NAME = "AWS::RDS::DBSubnetGroup";
+    private static final Logger NOOP_LOGGER = message -> {
+    };
+
+    private final CreateHandler createHandler;
+    private final ReadHandler readHandler;
+    private final DeleteHandler deleteHandler;
+
+    public DbSubnetGroupTarget() {
+        this(HandlerConfig.builder()
+                .backoff(Constant.of().delay(Duration.ofSeconds(1)).timeout(Duration.ofMinutes(10)).build())
+                .build());
+    }
+
+    public DbSubnetGroupTarget(final HandlerConfig config) {
+        this.createHandler = new CreateHandler(config);
+        this.readHandler = new ReadHandler(config);
+        this.deleteHandler = new DeleteHandler(config);
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public void seed(final ControlPlaneSimulator simulator) {
+        simulator.ec2Client()
+                .putSubnet("subnet-loadtest-a", "vpc-loadtest", "us-east-1a")
+                .putSubnet("subnet-loadtest-b", "vpc-loadtest", "us-east-1b");
+    }
+
+    @Override
+    public ResourceModel newModel(final int index) {
+        return ResourceModel.builder()
+                .dBSubnetGroupName("loadtest-subnet-group-" + index)
+                .dBSubnetGroupDescription("load test")
+                .subnetIds(Arrays.asList("subnet-loadtest-a", "subnet-loadtest-b"))
+                .tags(Collections.singletonList(Tag.builder().key("loadtest").value(String.valueOf(index)).build()))
+                .build();
+    }
+
+    @Override
+    public CallbackContext newCallbackContext() {
+        return new CallbackContext();
+    }
+
+    @Override
+    public TypeReference<CallbackContext> getCallbackContextType() {
+        return new TypeReference<CallbackContext>() {
+        };
+    }
+
+    @Override
+    public ProgressEvent<ResourceModel, CallbackContext> invoke(final Action action,
+                                                                final AmazonWebServicesClientProxy proxy,
+                                                                final ResourceHandlerRequest<ResourceModel> request,
+                                                                final CallbackContext callbackContext,
+                                                                final ProxyClient<RdsClient> rdsProxyClient,
+                                                                final ProxyClient<Ec2Client> ec2ProxyClient) {
+        callbackContext.setDbSubnetGroupArn(Translator.buildParameterGroupArn(request).toString());
+        switch (action) {
+            case CREATE:
+                return createHandler.handleRequest(proxy, request, callbackContext, rdsProxyClient, ec2ProxyClient, NOOP_LOGGER);
+            case READ:
+                return readHandler.handleRequest(proxy, request, callbackContext, rdsProxyClient, NOOP_LOGGER);
+            case DELETE:
+                return deleteHandler.handleRequest(proxy, request, callbackContext, rdsProxyClient, NOOP_LOGGER);
+            default:
+                throw new UnsupportedOperationException(String.format("%s is not replayed for %s", action, TYPE_NAME));
+        }
+    }
+}
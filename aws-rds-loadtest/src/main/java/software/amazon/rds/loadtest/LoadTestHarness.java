@@ -0,0 +1,239 @@
+package software.amazon.rds.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.Action;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.rds.common.logging.LatencyHistogram;
+import software.amazon.rds.common.test.simulator.ControlPlaneSimulator;
+
+/**
+ * Replays stack-scale CREATE, READ and DELETE sequences for every target concurrently against a
+ * {@link ControlPlaneSimulator}. Every action is driven the way CloudFormation drives a handler: while it reports
+ * IN_PROGRESS, the callback context is serialized, deserialized and handed to a fresh invocation after the
+ * requested callback delay, which is emulated by advancing the simulator clock.
+ * <p>
+ * The simulator has a single clock shared by all resources, so every callback delay moves all of them forward, not
+ * just the resource that asked for it. With many resources in flight, a resource reaches its next status after fewer
+ * of its own invocations than it would against the service: invocations per resource and describe-driven API calls
+ * are understated, increasingly so with the number of concurrent resources. Compare runs at the same scale only.
+ */
+@Builder
+public class LoadTestHarness {
+
+    private static final List<Action> LIFECYCLE = Arrays.asList(Action.CREATE, Action.READ, Action.DELETE);
+    private static final Credentials CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    private static final LoggerProxy LOGGER_PROXY = new LoggerProxy();
+    private static final String AWS_PARTITION = "aws";
+
+    @NonNull
+    private final ControlPlaneSimulator simulator;
+
+    @Singular
+    private final List<ResourceTarget<?, ?>> targets;
+
+    @Builder.Default
+    private final int resourcesPerTarget = 100;
+
+    @Builder.Default
+    private final int concurrency = 64;
+
+    @Builder.Default
+    private final int maxInvocationsPerAction = 1000;
+
+    // Remaining time reported to the proxy. With 0, every stabilization wait is handed back as a callback
+    // instead of being spent in-process, which is what a busy stack looks like.
+    @Builder.Default
+    private final long remainingTimeMillis = 0L;
+
+    @Builder.Default
+    private final long timeoutMinutes = 30L;
+
+    public LoadTestReport run() throws InterruptedException {
+        final Recorder recorder = new Recorder();
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        final List<Future<?>> futures = new ArrayList<>();
+        final long start = System.nanoTime();
+        try {
+            for (final ResourceTarget<?, ?> target : targets) {
+                target.seed(simulator);
+                for (int i = 0; i < resourcesPerTarget; i++) {
+                    final int index = i;
+                    futures.add(executor.submit(() -> runLifecycle(target, index, recorder)));
+                }
+            }
+            for (final Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(timeoutMinutes, TimeUnit.MINUTES);
+        }
+        return recorder.report(futures.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private <M, C> void runLifecycle(final ResourceTarget<M, C> target, final int index, final Recorder recorder) {
+        M model = target.newModel(index);
+        for (final Action action : LIFECYCLE) {
+            final ProgressEvent<M, C> event;
+            try {
+                event = runAction(target, action, model, recorder);
+            } catch (RuntimeException e) {
+                recorder.failure(target);
+                return;
+            }
+            if (event == null || !event.isSuccess()) {
+                recorder.failure(target);
+                return;
+            }
+            if (event.getResourceModel() != null) {
+                model = event.getResourceModel();
+            }
+        }
+    }
+
+    private <M, C> ProgressEvent<M, C> runAction(final ResourceTarget<M, C> target,
+                                                 final Action action,
+                                                 final M model,
+                                                 final Recorder recorder) {
+        final ProxyClientFactory clients = new ProxyClientFactory(recorder.apiCalls(target));
+        final String clientRequestToken = UUID.randomUUID().toString();
+        C callbackContext = target.newCallbackContext();
+        for (int invocation = 0; invocation < maxInvocationsPerAction; invocation++) {
+            final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(LOGGER_PROXY, CREDENTIALS, () -> remainingTimeMillis);
+            final ResourceHandlerRequest<M> request = ResourceHandlerRequest.<M>builder()
+                    .desiredResourceState(model)
+                    .logicalResourceIdentifier(target.getTypeName())
+                    .clientRequestToken(clientRequestToken)
+                    .awsAccountId(simulator.getConfig().getAccountId())
+                    .awsPartition(AWS_PARTITION)
+                    .region(simulator.getConfig().getRegion())
+                    .snapshotRequested(false)
+                    .build();
+
+            final long started = System.nanoTime();
+            final ProgressEvent<M, C> event;
+            try {
+                event = target.invoke(action, proxy, request, callbackContext, clients.rds(proxy), clients.ec2(proxy));
+            } finally {
+                recorder.invocation(target, System.nanoTime() - started);
+            }
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                return event;
+            }
+            callbackContext = roundTrip(event.getCallbackContext(), target.getCallbackContextType());
+            // advances the clock of every resource, see the class documentation
+            simulator.advance(Math.max(1, event.getCallbackDelaySeconds()));
+        }
+        return null;
+    }
+
+    private static <C> C roundTrip(final C callbackContext, final TypeReference<C> type) {
+        final Serializer serializer = new Serializer();
+        try {
+            return serializer.deserialize(serializer.serialize(callbackContext), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private class ProxyClientFactory {
+        private final LongAdder counter;
+
+        ProxyClientFactory(final LongAdder counter) {
+            this.counter = counter;
+        }
+
+        ProxyClient<RdsClient> rds(final AmazonWebServicesClientProxy proxy) {
+            return new CountingProxyClient<>(proxy.<RdsClient>newProxy(simulator::rdsClient), counter);
+        }
+
+        ProxyClient<Ec2Client> ec2(final AmazonWebServicesClientProxy proxy) {
+            return new CountingProxyClient<>(proxy.<Ec2Client>newProxy(simulator::ec2Client), counter);
+        }
+    }
+
+    private class Recorder {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final ConcurrentMap<String, LongAdder> apiCalls = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, LongAdder> invocations = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, LongAdder> failures = new ConcurrentHashMap<>();
+        private final AtomicLong peakHeap = new AtomicLong();
+
+        LongAdder apiCalls(final ResourceTarget<?, ?> target) {
+            return apiCalls.computeIfAbsent(target.getTypeName(), type -> new LongAdder());
+        }
+
+        void invocation(final ResourceTarget<?, ?> target, final long elapsedNanos) {
+            latencies.record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+            invocations.computeIfAbsent(target.getTypeName(), type -> new LongAdder()).increment();
+            peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+        }
+
+        void failure(final ResourceTarget<?, ?> target) {
+            failures.computeIfAbsent(target.getTypeName(), type -> new LongAdder()).increment();
+        }
+
+        LoadTestReport report(final long resources, final long elapsedMillis) {
+            final Map<String, Long> failuresPerResource = snapshot(failures);
+            return LoadTestReport.builder()
+                    .resources(resources)
+                    .invocations(latencies.getTotalCount())
+                    .failures(failuresPerResource.values().stream().mapToLong(Long::longValue).sum())
+                    .totalApiCalls(simulator.getTotalCallCount())
+                    .apiCallsPerResource(snapshot(apiCalls))
+                    .apiCallsPerOperation(simulator.getCallCounts())
+                    .invocationsPerResource(snapshot(invocations))
+                    .failuresPerResource(failuresPerResource)
+                    .p50InvocationMicros(latencies.getValueAtPercentile(50.0))
+                    .p99InvocationMicros(latencies.getValueAtPercentile(99.0))
+                    .maxInvocationMicros(latencies.getMax())
+                    .peakHeapBytes(peakHeap.get())
+                    .throttles(simulator.getThrottleCount())
+                    .elapsedMillis(elapsedMillis)
+                    .build();
+        }
+
+        private Map<String, Long> snapshot(final Map<String, LongAdder> counters) {
+            final Map<String, Long> snapshot = new TreeMap<>();
+            counters.forEach((key, counter) -> snapshot.put(key, counter.sum()));
+            return snapshot;
+        }
+    }
+}
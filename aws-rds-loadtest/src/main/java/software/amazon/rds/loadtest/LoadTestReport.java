@@ -0,0 +1,39 @@
+package software.amazon.rds.loadtest;
+
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Builder
+@Getter
+@ToString
+public class LoadTestReport {
+    private final long resources;
+    private final long invocations;
+    private final long failures;
+    private final long totalApiCalls;
+    private final Map<String, Long> apiCallsPerResource;
+    private final Map<String, Long> apiCallsPerOperation;
+    private final Map<String, Long> invocationsPerResource;
+    private final Map<String, Long> failuresPerResource;
+    private final long p50InvocationMicros;
+    private final long p99InvocationMicros;
+    private final long maxInvocationMicros;
+    private final long peakHeapBytes;
+    private final long throttles;
+    private final long elapsedMillis;
+
+    public String format() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format("resources=%d invocations=%d failures=%d elapsed=%dms%n", resources, invocations, failures, elapsedMillis));
+        sb.append(String.format("api calls=%d throttles=%d%n", totalApiCalls, throttles));
+        sb.append(String.format("invocation latency p50=%dus p99=%dus max=%dus%n", p50InvocationMicros, p99InvocationMicros, maxInvocationMicros));
+        sb.append(String.format("peak heap=%.1fMiB%n", peakHeapBytes / (1024.0 * 1024.0)));
+        apiCallsPerResource.forEach((type, calls) -> sb.append(String.format("  %s: api calls=%d invocations=%d failures=%d%n",
+                type, calls, invocationsPerResource.getOrDefault(type, 0L), failuresPerResource.getOrDefault(type, 0L))));
+        apiCallsPerOperation.forEach((operation, calls) -> sb.append(String.format("  %s=%d%n", operation, calls)));
+        return sb.toString();
+    }
+}
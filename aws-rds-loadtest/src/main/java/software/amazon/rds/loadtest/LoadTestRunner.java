@@ -0,0 +1,40 @@
+package software.amazon.rds.loadtest;
+
+import java.time.Duration;
+
+import software.amazon.rds.common.test.simulator.ControlPlaneSimulator;
+import software.amazon.rds.common.test.simulator.SimulatorConfig;
+import software.amazon.rds.dbinstance.DbInstanceTarget;
+import software.amazon.rds.dbparametergroup.DbParameterGroupTarget;
+import software.amazon.rds.dbsubnetgroup.DbSubnetGroupTarget;
+
+/**
+ * Usage: {@code mvn -P loadtest -pl aws-rds-loadtest exec:java -Dexec.args="<resources per type> <concurrency>
+ * <throttle rate> <latency millis>"}.
+ */
+public class LoadTestRunner {
+
+    public static void main(final String[] args) throws InterruptedException {
+        final int resourcesPerTarget = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        final int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        final double throttleRate = args.length > 2 ? Double.parseDouble(args[2]) : 0.0;
+        final long latencyMillis = args.length > 3 ? Long.parseLong(args[3]) : 0L;
+
+        final ControlPlaneSimulator simulator = new ControlPlaneSimulator(SimulatorConfig.builder()
+                .throttleRate(throttleRate)
+                .latency(Duration.ofMillis(latencyMillis))
+                .build());
+
+        final LoadTestReport report = LoadTestHarness.builder()
+                .simulator(simulator)
+                .target(new DbSubnetGroupTarget())
+                .target(new DbParameterGroupTarget())
+                .target(new DbInstanceTarget())
+                .resourcesPerTarget(resourcesPerTarget)
+                .concurrency(concurrency)
+                .build()
+                .run();
+
+        System.out.print(report.format());
+    }
+}
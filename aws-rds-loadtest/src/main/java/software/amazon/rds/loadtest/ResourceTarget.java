@@ -0,0 +1,39 @@
+package software.amazon.rds.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.Action;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.test.simulator.ControlPlaneSimulator;
+
+/**
+ * Adapts one resource module to the {@link LoadTestHarness}: it builds models and callback contexts and dispatches
+ * an action to the module's handler, bypassing the client builders so the handler talks to the simulator.
+ */
+public interface ResourceTarget<M, C> {
+
+    String getTypeName();
+
+    /**
+     * Seeds the simulator with any pre-existing resources the models depend on, e.g. subnets.
+     */
+    default void seed(final ControlPlaneSimulator simulator) {
+    }
+
+    M newModel(int index);
+
+    C newCallbackContext();
+
+    TypeReference<C> getCallbackContextType();
+
+    ProgressEvent<M, C> invoke(Action action,
+                               AmazonWebServicesClientProxy proxy,
+                               ResourceHandlerRequest<M> request,
+                               C callbackContext,
+                               ProxyClient<RdsClient> rdsProxyClient,
+                               ProxyClient<Ec2Client> ec2ProxyClient);
+}
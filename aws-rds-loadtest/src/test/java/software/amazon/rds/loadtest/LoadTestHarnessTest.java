@@ -0,0 +1,62 @@
+package software.amazon.rds.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.rds.common.test.simulator.ControlPlaneSimulator;
+import software.amazon.rds.common.test.simulator.SimulatorConfig;
+import software.amazon.rds.dbinstance.DbInstanceTarget;
+import software.amazon.rds.dbparametergroup.DbParameterGroupTarget;
+import software.amazon.rds.dbsubnetgroup.DbSubnetGroupTarget;
+
+public class LoadTestHarnessTest {
+
+    private static final int RESOURCES_PER_TARGET = 20;
+
+    @Test
+    public void run_ReplaysLifecycleWithCallbacks() throws InterruptedException {
+        final ControlPlaneSimulator simulator = new ControlPlaneSimulator();
+
+        final LoadTestReport report = LoadTestHarness.builder()
+                .simulator(simulator)
+                .target(new DbSubnetGroupTarget())
+                .target(new DbParameterGroupTarget())
+                .target(new DbInstanceTarget())
+                .resourcesPerTarget(RESOURCES_PER_TARGET)
+                .concurrency(8)
+                .build()
+                .run();
+
+        assertThat(report.getResources()).isEqualTo(3 * RESOURCES_PER_TARGET);
+        assertThat(report.getFailures()).isZero();
+        assertThat(report.getInvocationsPerResource())
+                .containsKeys("AWS::RDS::DBSubnetGroup", "AWS::RDS::DBParameterGroup", "AWS::RDS::DBInstance");
+        // DB instances stabilize over several callbacks, so they take more than one invocation per action
+        assertThat(report.getInvocationsPerResource().get("AWS::RDS::DBInstance")).isGreaterThan(3L * RESOURCES_PER_TARGET);
+        assertThat(report.getTotalApiCalls()).isEqualTo(simulator.getTotalCallCount());
+        assertThat(report.getApiCallsPerOperation()).containsEntry("CreateDBInstance", (long) RESOURCES_PER_TARGET);
+        assertThat(report.getApiCallsPerOperation()).containsEntry("CreateDBSubnetGroup", (long) RESOURCES_PER_TARGET);
+        assertThat(report.getApiCallsPerOperation()).containsEntry("CreateDBParameterGroup", (long) RESOURCES_PER_TARGET);
+        // the tagged subnet and parameter groups are read back with their tags
+        assertThat(report.getApiCallsPerOperation().get("ListTagsForResource")).isGreaterThanOrEqualTo(4L * RESOURCES_PER_TARGET);
+        assertThat(report.getP99InvocationMicros()).isGreaterThanOrEqualTo(report.getP50InvocationMicros());
+        assertThat(report.getPeakHeapBytes()).isPositive();
+    }
+
+    @Test
+    public void run_CountsThrottles() throws InterruptedException {
+        final ControlPlaneSimulator simulator = new ControlPlaneSimulator(
+                SimulatorConfig.builder().throttleRate(0.2).seed(7L).build());
+
+        final LoadTestReport report = LoadTestHarness.builder()
+                .simulator(simulator)
+                .target(new DbSubnetGroupTarget())
+                .resourcesPerTarget(RESOURCES_PER_TARGET)
+                .concurrency(4)
+                .build()
+                .run();
+
+        assertThat(report.getThrottles()).isPositive().isEqualTo(simulator.getThrottleCount());
+    }
+}
@@ -70,6 +70,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
+                config.getLogBudgetBytes(),
                 requestLogger -> handleRequest(
                         proxy,
                         request,
@@ -36,7 +36,7 @@ public class ListHandler extends BaseHandlerStd {
         DescribeOptionGroupsResponse describeOptionGroupsResponse;
         try {
             describeOptionGroupsResponse = proxy.injectCredentialsAndInvokeV2(
-                    Translator.describeOptionGroupsRequest(request.getNextToken()),
+                    Translator.describeOptionGroupsRequest(request.getNextToken(), config.getListPageSize()),
                     proxyClient.client()::describeOptionGroups);
         } catch (Exception e) {
             return Commons.handleException(
@@ -4,16 +4,19 @@ public class OptionVersion implements Comparable<OptionVersion> {
 
     protected String version;
 
+    private final String[] components;
+
     public OptionVersion(final String version) {
         this.version = version;
+        //version string are dot connected with a ending like .v[0-9]+
+        //eg:      5.1.2.v1      4.2.6.v1
+        this.components = version.split("\\.");
     }
 
     @Override
     public int compareTo(OptionVersion other) {
-        //version string are dot connected with a ending like .v[0-9]+
-        //eg:      5.1.2.v1      4.2.6.v1
-        String[] vals1 = version.split("\\.");
-        String[] vals2 = other.version.split("\\.");
+        final String[] vals1 = components;
+        final String[] vals2 = other.components;
         int i = 0;
         //ignore the last non-digital string
         final int len1 = vals1.length - 1;
@@ -1,6 +1,8 @@
 package software.amazon.rds.optiongroup;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.OptionGroup;
@@ -11,6 +13,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.handler.HandlerExecutor;
 
 public class ReadHandler extends BaseHandlerStd {
 
@@ -31,6 +34,11 @@ public class ReadHandler extends BaseHandlerStd {
             final ProxyClient<RdsClient> proxyClient,
             final Logger logger) {
 
+        // The option group ARN is predictable, so the tags are listed while the option group is being described.
+        final String expectedArn = getExpectedOptionGroupArn(request);
+        final CompletableFuture<List<Tag>> tagsFuture = expectedArn == null ? null :
+                CompletableFuture.supplyAsync(() -> listTags(proxyClient, expectedArn), HandlerExecutor.shared());
+
         return proxy.initiate("rds::read-option-group", proxyClient, request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest(Translator::describeOptionGroupsRequest)
                 .backoffDelay(config.getBackoff())
@@ -38,15 +46,24 @@ public class ReadHandler extends BaseHandlerStd {
                         describeRequest,
                         proxyInvocation.client()::describeOptionGroups
                 ))
-                .handleError((describeRequest, exception, client, resourceModel, ctx) -> Commons.handleException(
-                        ProgressEvent.progress(resourceModel, ctx),
-                        exception,
-                        DEFAULT_OPTION_GROUP_ERROR_RULE_SET
-                ))
+                .handleError((describeRequest, exception, client, resourceModel, ctx) -> {
+                    awaitQuietly(tagsFuture);
+                    return Commons.handleException(
+                            ProgressEvent.progress(resourceModel, ctx),
+                            exception,
+                            DEFAULT_OPTION_GROUP_ERROR_RULE_SET
+                    );
+                })
                 .done((describeRequest, describeResponse, proxyInvocation, model, context) -> {
                     final OptionGroup optionGroup = describeResponse.optionGroupsList().stream().findFirst().get();
                     final List<OptionConfiguration> optionConfigurations = Translator.translateOptionConfigurationsFromSdk(optionGroup.options());
-                    final List<Tag> tags = listTags(proxyInvocation, optionGroup.optionGroupArn());
+                    final List<Tag> tags;
+                    if (tagsFuture != null && expectedArn.equals(optionGroup.optionGroupArn())) {
+                        tags = await(tagsFuture);
+                    } else {
+                        awaitQuietly(tagsFuture);
+                        tags = listTags(proxyInvocation, optionGroup.optionGroupArn());
+                    }
                     return ProgressEvent.success(
                             ResourceModel.builder()
                                     .optionGroupName(optionGroup.optionGroupName())
@@ -60,4 +77,38 @@ public class ReadHandler extends BaseHandlerStd {
                     );
                 });
     }
+
+    private static String getExpectedOptionGroupArn(final ResourceHandlerRequest<ResourceModel> request) {
+        if (request.getAwsPartition() == null ||
+                request.getRegion() == null ||
+                request.getAwsAccountId() == null ||
+                request.getDesiredResourceState() == null ||
+                request.getDesiredResourceState().getOptionGroupName() == null) {
+            return null;
+        }
+        return Translator.buildOptionGroupArn(request).toString();
+    }
+
+    private static <T> T await(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // The speculative call is always awaited so that no request outlives the handler invocation.
+    private static void awaitQuietly(final CompletableFuture<?> future) {
+        if (future == null) {
+            return;
+        }
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            // the result is discarded, so is its failure
+        }
+    }
 }
@@ -3,15 +3,18 @@ package software.amazon.rds.optiongroup;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.amazonaws.arn.Arn;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.rds.model.CreateOptionGroupRequest;
 import software.amazon.awssdk.services.rds.model.DBSecurityGroupMembership;
@@ -21,10 +24,14 @@ import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ModifyOptionGroupRequest;
 import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
 import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.common.handler.Tagging;
 
 public class Translator {
 
+    public static final String RDS = "rds";
+    public static final String RESOURCE_PREFIX = "og:";
+
     static CreateOptionGroupRequest createOptionGroupRequest(final ResourceModel model, final Tagging.TagSet tags) {
         return CreateOptionGroupRequest.builder()
                 .optionGroupName(model.getOptionGroupName())
@@ -35,9 +42,10 @@ public class Translator {
                 .build();
     }
 
-    static DescribeOptionGroupsRequest describeOptionGroupsRequest(final String nextToken) {
+    static DescribeOptionGroupsRequest describeOptionGroupsRequest(final String nextToken, final Integer maxRecords) {
         return DescribeOptionGroupsRequest.builder()
                 .marker(nextToken)
+                .maxRecords(maxRecords)
                 .build();
     }
 
@@ -75,17 +83,21 @@ public class Translator {
     }
 
     static List<OptionConfiguration> translateOptionConfigurationsFromSdk(final Collection<software.amazon.awssdk.services.rds.model.Option> options) {
-        return Optional.ofNullable(options).orElse(Collections.emptyList())
-                .stream()
-                .map(option -> OptionConfiguration.builder()
-                        .dBSecurityGroupMemberships(translateDBSecurityMembershipsFromSdk(option.dbSecurityGroupMemberships()))
-                        .optionName(option.optionName())
-                        .optionSettings(translateOptionSettingsFromSdk(option.optionSettings()))
-                        .optionVersion(option.optionVersion())
-                        .port(option.port())
-                        .vpcSecurityGroupMemberships(translateVpcSecurityGroupMembershipsFromSdk(option.vpcSecurityGroupMemberships()))
-                        .build())
-                .collect(Collectors.toList());
+        if (options == null) {
+            return new ArrayList<>();
+        }
+        final List<OptionConfiguration> optionConfigurations = new ArrayList<>(options.size());
+        for (final software.amazon.awssdk.services.rds.model.Option option : options) {
+            optionConfigurations.add(OptionConfiguration.builder()
+                    .dBSecurityGroupMemberships(translateDBSecurityMembershipsFromSdk(option.dbSecurityGroupMemberships()))
+                    .optionName(option.optionName())
+                    .optionSettings(translateOptionSettingsFromSdk(option.optionSettings()))
+                    .optionVersion(option.optionVersion())
+                    .port(option.port())
+                    .vpcSecurityGroupMemberships(translateVpcSecurityGroupMembershipsFromSdk(option.vpcSecurityGroupMemberships()))
+                    .build());
+        }
+        return optionConfigurations;
     }
 
     static List<software.amazon.awssdk.services.rds.model.OptionConfiguration> translateOptionConfigurationsToSdk(final Collection<OptionConfiguration> options) {
@@ -104,13 +116,17 @@ public class Translator {
     }
 
     static List<OptionSetting> translateOptionSettingsFromSdk(final Collection<software.amazon.awssdk.services.rds.model.OptionSetting> optionSettings) {
-        return Optional.ofNullable(optionSettings).orElse(Collections.emptyList())
-                .stream()
-                .map(optionSetting -> OptionSetting.builder()
-                        .name(optionSetting.name())
-                        .value(optionSetting.value())
-                        .build())
-                .collect(Collectors.toList());
+        if (optionSettings == null) {
+            return new ArrayList<>();
+        }
+        final List<OptionSetting> result = new ArrayList<>(optionSettings.size());
+        for (final software.amazon.awssdk.services.rds.model.OptionSetting optionSetting : optionSettings) {
+            result.add(OptionSetting.builder()
+                    .name(optionSetting.name())
+                    .value(optionSetting.value())
+                    .build());
+        }
+        return result;
     }
 
     static List<software.amazon.awssdk.services.rds.model.OptionSetting> translateOptionSettingsToSdk(final Collection<OptionSetting> optionSettings) {
@@ -124,22 +140,30 @@ public class Translator {
                 .collect(Collectors.toList());
     }
 
-    static Set<String> translateDBSecurityMembershipsFromSdk(final Collection<software.amazon.awssdk.services.rds.model.DBSecurityGroupMembership> dbSecurityGroupMemberships) {
-        return Optional.ofNullable(dbSecurityGroupMemberships).orElse(Collections.emptyList())
-                .stream()
-                .map(DBSecurityGroupMembership::dbSecurityGroupName)
-                .collect(Collectors.toSet());
+    static Set<String> translateDBSecurityMembershipsFromSdk(final Collection<DBSecurityGroupMembership> dbSecurityGroupMemberships) {
+        if (dbSecurityGroupMemberships == null) {
+            return new HashSet<>();
+        }
+        final Set<String> result = new HashSet<>(dbSecurityGroupMemberships.size() * 2);
+        for (final DBSecurityGroupMembership dbSecurityGroupMembership : dbSecurityGroupMemberships) {
+            result.add(dbSecurityGroupMembership.dbSecurityGroupName());
+        }
+        return result;
     }
 
     static List<String> translateDBSecurityMembershipsToSdk(final Collection<String> dbSecurityGroupMemberships) {
         return new ArrayList<>(Optional.ofNullable(dbSecurityGroupMemberships).orElse(Collections.emptyList()));
     }
 
-    static Set<String> translateVpcSecurityGroupMembershipsFromSdk(final Collection<software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership> vpcSecurityGroupMemberships) {
-        return Optional.ofNullable(vpcSecurityGroupMemberships).orElse(Collections.emptyList())
-                .stream()
-                .map(VpcSecurityGroupMembership::vpcSecurityGroupId)
-                .collect(Collectors.toSet());
+    static Set<String> translateVpcSecurityGroupMembershipsFromSdk(final Collection<VpcSecurityGroupMembership> vpcSecurityGroupMemberships) {
+        if (vpcSecurityGroupMemberships == null) {
+            return new HashSet<>();
+        }
+        final Set<String> result = new HashSet<>(vpcSecurityGroupMemberships.size() * 2);
+        for (final VpcSecurityGroupMembership vpcSecurityGroupMembership : vpcSecurityGroupMemberships) {
+            result.add(vpcSecurityGroupMembership.vpcSecurityGroupId());
+        }
+        return result;
     }
 
     static List<String> translateVpcSecurityGroupMembershipsToSdk(final Collection<String> vpcSecurityGroupMemberships) {
@@ -216,4 +240,16 @@ public class Translator {
                 .resourceName(arn)
                 .build();
     }
+
+    public static Arn buildOptionGroupArn(final ResourceHandlerRequest<ResourceModel> request) {
+        // RDS stores option group names in lowercase and so are the ARNs it reports.
+        final String resource = RESOURCE_PREFIX + request.getDesiredResourceState().getOptionGroupName().toLowerCase(Locale.ROOT);
+        return Arn.builder()
+                .withPartition(request.getAwsPartition())
+                .withRegion(request.getRegion())
+                .withService(RDS)
+                .withAccountId(request.getAwsAccountId())
+                .withResource(resource)
+                .build();
+    }
 }
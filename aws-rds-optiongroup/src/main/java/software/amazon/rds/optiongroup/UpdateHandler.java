@@ -1,8 +1,12 @@
 package software.amazon.rds.optiongroup;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -94,61 +98,105 @@ public class UpdateHandler extends BaseHandlerStd {
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
-    protected static boolean isOptionVersionDowngrade(
-            final OptionConfiguration previousOption,
-            final OptionConfiguration desiredOption
-    ) {
-        final OptionVersion previousVersion = new OptionVersion(previousOption.getOptionVersion());
-        final OptionVersion desiredVersion = new OptionVersion(desiredOption.getOptionVersion());
-        return previousVersion.compareTo(desiredVersion) > 0;
-    }
-
     protected static boolean isApexOptionConfiguration(final OptionConfiguration optionConfiguration) {
-        return Optional.ofNullable(optionConfiguration.getOptionName()).orElse("").equals(APEX_OPTION_NAME);
-    }
-
-    protected static Optional<OptionConfiguration> findApexOptionConfiguration(final Collection<OptionConfiguration> options) {
-        return Optional.ofNullable(options).orElse(Collections.emptyList())
-                .stream()
-                .filter(UpdateHandler::isApexOptionConfiguration)
-                .findFirst();
+        return APEX_OPTION_NAME.equals(optionConfiguration.getOptionName());
     }
 
     protected static Collection<OptionConfiguration> getOptionsToInclude(
             final Collection<OptionConfiguration> previousOptions,
             final Collection<OptionConfiguration> desiredOptions
     ) {
-        final Optional<OptionConfiguration> previousApexOption = findApexOptionConfiguration(previousOptions);
-        final Optional<OptionConfiguration> desiredApexOption = findApexOptionConfiguration(desiredOptions);
-
-        Set<OptionConfiguration> optionsToInclude = new HashSet<>(desiredOptions);
-
-        if (previousApexOption.isPresent() && desiredApexOption.isPresent()) {
-            if (isOptionVersionDowngrade(previousApexOption.get(), desiredApexOption.get())) {
-                optionsToInclude = optionsToInclude
-                        .stream()
-                        .filter(Objects::nonNull)
-                        .map(option -> {
-                            if (isApexOptionConfiguration(option)) {
-                                return OptionConfiguration.builder()
-                                        .dBSecurityGroupMemberships(option.getDBSecurityGroupMemberships())
-                                        .optionName(option.getOptionName())
-                                        .optionSettings(option.getOptionSettings())
-                                        .optionVersion(previousApexOption.get().getOptionVersion())
-                                        .port(option.getPort())
-                                        .vpcSecurityGroupMemberships(option.getVpcSecurityGroupMemberships())
-                                        .build();
-                            }
-                            return option;
-                        })
-                        .collect(Collectors.toSet());
+        final Map<String, OptionConfiguration> previousOptionsByName = new HashMap<>();
+        for (final OptionConfiguration previousOption : previousOptions) {
+            if (previousOption != null) {
+                previousOptionsByName.put(previousOption.getOptionName(), previousOption);
+            }
+        }
+
+        final List<OptionConfiguration> optionsToInclude = new ArrayList<>();
+        for (final OptionConfiguration desiredOption : desiredOptions) {
+            if (desiredOption == null) {
+                continue;
+            }
+            final OptionConfiguration previousOption = previousOptionsByName.get(desiredOption.getOptionName());
+            if (previousOption == null) {
+                optionsToInclude.add(desiredOption);
+                continue;
+            }
+            final OptionConfiguration changedOption = getChangedOption(previousOption, desiredOption);
+            if (changedOption != null) {
+                optionsToInclude.add(changedOption);
             }
         }
-        optionsToInclude.removeAll(previousOptions);
 
         return optionsToInclude;
     }
 
+    // Returns the option with its settings narrowed down to the changed ones, or null if nothing has changed.
+    private static OptionConfiguration getChangedOption(
+            final OptionConfiguration previousOption,
+            final OptionConfiguration desiredOption
+    ) {
+        String optionVersion = desiredOption.getOptionVersion();
+        if (isApexOptionConfiguration(desiredOption) && isOptionVersionDowngrade(previousOption.getOptionVersion(), optionVersion)) {
+            // APEX can not be downgraded, the previous version is kept
+            optionVersion = previousOption.getOptionVersion();
+        }
+
+        final List<OptionSetting> changedOptionSettings = getChangedOptionSettings(
+                previousOption.getOptionSettings(),
+                desiredOption.getOptionSettings()
+        );
+
+        final boolean isChanged = !changedOptionSettings.isEmpty() ||
+                !Objects.equals(previousOption.getOptionVersion(), optionVersion) ||
+                !Objects.equals(previousOption.getPort(), desiredOption.getPort()) ||
+                !asSet(previousOption.getDBSecurityGroupMemberships()).equals(asSet(desiredOption.getDBSecurityGroupMemberships())) ||
+                !asSet(previousOption.getVpcSecurityGroupMemberships()).equals(asSet(desiredOption.getVpcSecurityGroupMemberships()));
+        if (!isChanged) {
+            return null;
+        }
+
+        return OptionConfiguration.builder()
+                .dBSecurityGroupMemberships(desiredOption.getDBSecurityGroupMemberships())
+                .optionName(desiredOption.getOptionName())
+                .optionSettings(changedOptionSettings)
+                .optionVersion(optionVersion)
+                .port(desiredOption.getPort())
+                .vpcSecurityGroupMemberships(desiredOption.getVpcSecurityGroupMemberships())
+                .build();
+    }
+
+    private static boolean isOptionVersionDowngrade(final String previousVersion, final String desiredVersion) {
+        if (previousVersion == null || desiredVersion == null || previousVersion.equals(desiredVersion)) {
+            return false;
+        }
+        return new OptionVersion(previousVersion).compareTo(new OptionVersion(desiredVersion)) > 0;
+    }
+
+    private static List<OptionSetting> getChangedOptionSettings(
+            final Collection<OptionSetting> previousOptionSettings,
+            final Collection<OptionSetting> desiredOptionSettings
+    ) {
+        if (desiredOptionSettings == null || desiredOptionSettings.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Map<String, String> previousValues = new HashMap<>();
+        if (previousOptionSettings != null) {
+            for (final OptionSetting previousOptionSetting : previousOptionSettings) {
+                previousValues.put(previousOptionSetting.getName(), previousOptionSetting.getValue());
+            }
+        }
+        final List<OptionSetting> changedOptionSettings = new ArrayList<>();
+        for (final OptionSetting desiredOptionSetting : desiredOptionSettings) {
+            if (!previousValues.containsKey(desiredOptionSetting.getName()) ||
+                    !Objects.equals(previousValues.get(desiredOptionSetting.getName()), desiredOptionSetting.getValue())) {
+                changedOptionSettings.add(desiredOptionSetting);
+            }
+        }
+        return changedOptionSettings;
+    }
+
     protected static Collection<OptionConfiguration> getOptionsToRemove(
             final Collection<OptionConfiguration> previousOptions,
             final Collection<OptionConfiguration> desiredOptions
@@ -162,4 +210,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
         return optionsToRemove;
     }
+
+    private static <T> Set<T> asSet(final Collection<T> collection) {
+        return collection == null ? Collections.emptySet() : new HashSet<>(collection);
+    }
 }
@@ -1,6 +1,7 @@
 package software.amazon.rds.optiongroup;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -9,6 +10,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.Locale;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +28,7 @@ import software.amazon.awssdk.services.rds.model.OptionGroupNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.rds.common.handler.HandlerConfig;
 
 @ExtendWith(MockitoExtension.class)
@@ -77,6 +80,47 @@ public class ReadHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
+    @Test
+    public void handleRequest_ListsTagsOfExpectedArn() {
+        final String arn = "arn:aws:rds:us-east-1:123456789012:og:" + RESOURCE_MODEL.getOptionGroupName().toLowerCase(Locale.ROOT);
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        test_handleRequest_base(
+                new CallbackContext(),
+                newRequestInAccount(),
+                () -> OPTION_GROUP_ACTIVE.toBuilder().optionGroupArn(arn).build(),
+                null,
+                () -> RESOURCE_MODEL,
+                expectSuccess()
+        );
+
+        verify(proxyClient.client(), times(1)).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(
+                argThat((ListTagsForResourceRequest request) -> arn.equals(request.resourceName())));
+    }
+
+    @Test
+    public void handleRequest_UnexpectedArn_ListsTagsOfDescribedArn() {
+        final String arn = "arn:aws:rds:us-east-1:123456789012:og:unexpected";
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        test_handleRequest_base(
+                new CallbackContext(),
+                newRequestInAccount(),
+                () -> OPTION_GROUP_ACTIVE.toBuilder().optionGroupArn(arn).build(),
+                null,
+                () -> RESOURCE_MODEL,
+                expectSuccess()
+        );
+
+        verify(proxyClient.client(), times(1)).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
+        verify(proxyClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(
+                argThat((ListTagsForResourceRequest request) -> arn.equals(request.resourceName())));
+    }
+
     @Test
     public void handleRequest_NotFound() {
         when(proxyClient.client().describeOptionGroups(any(DescribeOptionGroupsRequest.class)))
@@ -106,4 +150,11 @@ public class ReadHandlerTest extends AbstractTestBase {
 
         verify(proxyClient.client(), times(1)).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
     }
+
+    private static ResourceHandlerRequest.ResourceHandlerRequestBuilder<ResourceModel> newRequestInAccount() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .awsPartition("aws")
+                .region("us-east-1")
+                .awsAccountId("123456789012");
+    }
 }
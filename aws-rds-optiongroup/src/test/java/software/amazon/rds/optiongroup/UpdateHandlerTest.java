@@ -20,6 +20,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -394,6 +395,122 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
+    @Test
+    public void handleRequest_SettingUpdate_IncludesOnlyChangedSettings() {
+        final ResourceModel previousModel = RESOURCE_MODEL.toBuilder()
+                .optionConfigurations(ImmutableList.of(
+                        OptionConfiguration.builder()
+                                .optionName("OEM")
+                                .optionVersion("13.4.0.9.v1")
+                                .port(5500)
+                                .vpcSecurityGroupMemberships(ImmutableSet.of("sg-1", "sg-2"))
+                                .optionSettings(ImmutableList.of(
+                                        OptionSetting.builder().name("SQLNET.ENCRYPTION_SERVER").value("REQUESTED").build(),
+                                        OptionSetting.builder().name("SQLNET.CRYPTO_CHECKSUM_SERVER").value("REQUESTED").build()
+                                ))
+                                .build(),
+                        OptionConfiguration.builder().optionName("STATSPACK").build()
+                ))
+                .build();
+
+        final ResourceModel desiredModel = RESOURCE_MODEL.toBuilder()
+                .optionConfigurations(ImmutableList.of(
+                        OptionConfiguration.builder()
+                                .optionName("OEM")
+                                .optionVersion("13.4.0.9.v1")
+                                .port(5500)
+                                .vpcSecurityGroupMemberships(ImmutableSet.of("sg-2", "sg-1"))
+                                .optionSettings(ImmutableList.of(
+                                        OptionSetting.builder().name("SQLNET.CRYPTO_CHECKSUM_SERVER").value("REQUIRED").build(),
+                                        OptionSetting.builder().name("SQLNET.ENCRYPTION_SERVER").value("REQUESTED").build()
+                                ))
+                                .build(),
+                        OptionConfiguration.builder().optionName("STATSPACK").build()
+                ))
+                .build();
+
+        when(proxyClient.client().modifyOptionGroup(any(ModifyOptionGroupRequest.class)))
+                .thenReturn(ModifyOptionGroupResponse.builder().build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+        when(proxyClient.client().describeOptionGroups(any(DescribeOptionGroupsRequest.class)))
+                .thenReturn(DescribeOptionGroupsResponse.builder().optionGroupsList(OPTION_GROUP_ACTIVE).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(randomString(32, ALPHA))
+                .previousResourceState(previousModel)
+                .desiredResourceState(desiredModel)
+                .stackId(randomString(32, ALPHA))
+                .logicalResourceIdentifier(randomString(32, ALPHA))
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ArgumentCaptor<ModifyOptionGroupRequest> captor = ArgumentCaptor.forClass(ModifyOptionGroupRequest.class);
+        verify(proxyClient.client(), times(1)).modifyOptionGroup(captor.capture());
+        assertThat(captor.getValue().optionsToRemove()).isEmpty();
+        assertThat(captor.getValue().optionsToInclude()).hasSize(1);
+        final software.amazon.awssdk.services.rds.model.OptionConfiguration optionToInclude = captor.getValue().optionsToInclude().get(0);
+        assertThat(optionToInclude.optionName()).isEqualTo("OEM");
+        assertThat(optionToInclude.port()).isEqualTo(5500);
+        assertThat(optionToInclude.vpcSecurityGroupMemberships()).containsExactlyInAnyOrder("sg-1", "sg-2");
+        assertThat(optionToInclude.optionSettings()).containsExactly(
+                software.amazon.awssdk.services.rds.model.OptionSetting.builder().name("SQLNET.CRYPTO_CHECKSUM_SERVER").value("REQUIRED").build()
+        );
+        verify(proxyClient.client(), times(2)).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ReorderedOptionContent_SkipsModify() {
+        final ResourceModel previousModel = RESOURCE_MODEL.toBuilder()
+                .optionConfigurations(ImmutableList.of(
+                        OptionConfiguration.builder()
+                                .optionName("NATIVE_NETWORK_ENCRYPTION")
+                                .vpcSecurityGroupMemberships(ImmutableSet.of("sg-1", "sg-2"))
+                                .optionSettings(ImmutableList.of(
+                                        OptionSetting.builder().name("SQLNET.ENCRYPTION_SERVER").value("REQUESTED").build(),
+                                        OptionSetting.builder().name("SQLNET.CRYPTO_CHECKSUM_SERVER").value("REQUESTED").build()
+                                ))
+                                .build()
+                ))
+                .build();
+
+        final ResourceModel desiredModel = RESOURCE_MODEL.toBuilder()
+                .optionConfigurations(ImmutableList.of(
+                        OptionConfiguration.builder()
+                                .optionName("NATIVE_NETWORK_ENCRYPTION")
+                                .vpcSecurityGroupMemberships(ImmutableSet.of("sg-2", "sg-1"))
+                                .optionSettings(ImmutableList.of(
+                                        OptionSetting.builder().name("SQLNET.CRYPTO_CHECKSUM_SERVER").value("REQUESTED").build(),
+                                        OptionSetting.builder().name("SQLNET.ENCRYPTION_SERVER").value("REQUESTED").build()
+                                ))
+                                .build()
+                ))
+                .build();
+
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+        when(proxyClient.client().describeOptionGroups(any(DescribeOptionGroupsRequest.class)))
+                .thenReturn(DescribeOptionGroupsResponse.builder().optionGroupsList(OPTION_GROUP_ACTIVE).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(randomString(32, ALPHA))
+                .previousResourceState(previousModel)
+                .desiredResourceState(desiredModel)
+                .stackId(randomString(32, ALPHA))
+                .logicalResourceIdentifier(randomString(32, ALPHA))
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(proxyClient.client(), times(0)).modifyOptionGroup(any(ModifyOptionGroupRequest.class));
+        verify(proxyClient.client(), times(2)).describeOptionGroups(any(DescribeOptionGroupsRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
     @Test
     public void handleRequest_NotFound() {
         final ResourceModel previousModel = RESOURCE_MODEL_WITH_CONFIGURATIONS.toBuilder()